@@ -0,0 +1,148 @@
+package com.ReciGuard.ExecutorConfig;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.List;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// spring.threads.virtual.enabled=true 이면 Tomcat 요청 처리, @Async/@Scheduled 와 함께 I/O 대기 위주인 업로드 풀도 virtual thread 로 전환
+// CPU 위주인 썸네일/비밀번호 해시 풀은 두 모드 모두 platform thread 고정 풀 유지
+@Configuration
+public class ExecutorConfig {
+
+    // 레시피 이미지 업로드 전용 풀 (큐가 차면 요청 스레드가 직접 업로드해서 배압이 걸린다)
+    @Bean(destroyMethod = "shutdown")
+    @ConditionalOnThreading(Threading.PLATFORM)
+    public ExecutorService imageUploadExecutor(@Value("${reciguard.upload.executor.threads:8}") int threads,
+                                               @Value("${reciguard.upload.executor.queue-capacity:64}") int queueCapacity) {
+        AtomicInteger sequence = new AtomicInteger();
+        return new ThreadPoolExecutor(threads, threads, 60L, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "image-upload-" + sequence.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.CallerRunsPolicy());
+    }
+
+    // virtual thread 모드: 업로드마다 virtual thread 로 실행하되 동시 업로드/대기 수는 platform 풀과 같게 제한
+    // (LocalBlobStore 저장이나 임시 파일 spool 은 S3 연결 풀 제한을 받지 않는다)
+    @Bean(name = "imageUploadExecutor", destroyMethod = "shutdown")
+    @ConditionalOnThreading(Threading.VIRTUAL)
+    public ExecutorService virtualImageUploadExecutor(@Value("${reciguard.upload.executor.threads:8}") int threads,
+                                                      @Value("${reciguard.upload.executor.queue-capacity:64}") int queueCapacity) {
+        return new BoundedVirtualExecutor(
+                Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("image-upload-", 0).factory()),
+                threads, queueCapacity);
+    }
+
+    // 썸네일/리사이즈 전용 풀 (디코딩한 이미지가 힙을 많이 쓰므로 작게 유지, 넘치는 작업은 버린다)
+    @Bean(destroyMethod = "shutdown")
+    public ExecutorService imageRenditionExecutor(@Value("${reciguard.rendition.executor.threads:2}") int threads,
+                                                  @Value("${reciguard.rendition.executor.queue-capacity:100}") int queueCapacity) {
+        AtomicInteger sequence = new AtomicInteger();
+        return new ThreadPoolExecutor(threads, threads, 60L, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "image-rendition-" + sequence.incrementAndGet());
+                    thread.setDaemon(true);
+                    thread.setPriority(Thread.NORM_PRIORITY - 1);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    // BCrypt 해시/검증 전용 풀 (CPU 코어 일부만 쓰도록 고정, 큐가 차면 바로 거절해서 레시피 조회 요청을 보호)
+    @Bean(destroyMethod = "shutdown")
+    public ExecutorService passwordHashExecutor(@Value("${reciguard.password.executor.threads:2}") int threads,
+                                                @Value("${reciguard.password.executor.queue-capacity:32}") int queueCapacity) {
+        AtomicInteger sequence = new AtomicInteger();
+        return new ThreadPoolExecutor(threads, threads, 60L, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "password-hash-" + sequence.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    // 작업마다 virtual thread 를 쓰는 executor 에 platform 풀과 같은 제한을 건다
+    // 업로드 중 + 대기 중인 작업이 threads + queueCapacity 개를 넘으면 호출한 스레드가 직접 실행 (CallerRunsPolicy 와 같은 배압)
+    static final class BoundedVirtualExecutor extends AbstractExecutorService {
+
+        private final ExecutorService delegate;
+        private final Semaphore admitted;   // 실행 중 + 대기 중인 작업 수 (threads + queueCapacity)
+        private final Semaphore inFlight;   // 동시에 실행 중인 작업 수 (threads)
+
+        BoundedVirtualExecutor(ExecutorService delegate, int threads, int queueCapacity) {
+            this.delegate = delegate;
+            this.admitted = new Semaphore(threads + queueCapacity);
+            this.inFlight = new Semaphore(threads);
+        }
+
+        @Override
+        public void execute(Runnable task) {
+            if (delegate.isShutdown()) {
+                throw new RejectedExecutionException("imageUploadExecutor is shut down");
+            }
+            if (!admitted.tryAcquire()) {
+                task.run();
+                return;
+            }
+            try {
+                delegate.execute(() -> {
+                    // 대기 중인 작업이 버려지면 CompletableFuture 가 완료되지 않으므로 interrupt 와 무관하게 기다린다
+                    inFlight.acquireUninterruptibly();
+                    try {
+                        task.run();
+                    } finally {
+                        inFlight.release();
+                        admitted.release();
+                    }
+                });
+            } catch (RejectedExecutionException e) {
+                admitted.release();
+                throw e;
+            }
+        }
+
+        @Override
+        public void shutdown() {
+            delegate.shutdown();
+        }
+
+        @Override
+        public List<Runnable> shutdownNow() {
+            return delegate.shutdownNow();
+        }
+
+        @Override
+        public boolean isShutdown() {
+            return delegate.isShutdown();
+        }
+
+        @Override
+        public boolean isTerminated() {
+            return delegate.isTerminated();
+        }
+
+        @Override
+        public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+            return delegate.awaitTermination(timeout, unit);
+        }
+    }
+}
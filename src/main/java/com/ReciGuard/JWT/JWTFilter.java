@@ -2,11 +2,15 @@ package com.ReciGuard.JWT;
 
 import com.ReciGuard.dto.CustomUserDetails;
 import com.ReciGuard.entity.User;
+import com.ReciGuard.service.TokenRevocationService;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtException;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -14,9 +18,11 @@ import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
 
+@Slf4j
 @RequiredArgsConstructor
 public class JWTFilter extends OncePerRequestFilter {
     private final JWTUtil jwtUtil;
+    private final TokenRevocationService tokenRevocationService;
 
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
@@ -32,25 +38,39 @@ public class JWTFilter extends OncePerRequestFilter {
 
         String authorization =  request.getHeader("Authorization");
         if(authorization == null || !authorization.startsWith("Bearer ")) {
-            System.out.println("token null");
+            log.debug("No bearer token: {}", requestURI);
             filterChain.doFilter(request, response);
             return;
         }
-        System.out.println("authorization now");
         //Bearer 부분 제거 후 순수 토큰만 획득
         String token = authorization.split(" ")[1];
 
-        if (jwtUtil.isExpired(token)) {
-            System.out.println("token expired");
+        // 서명/만료 검증은 한 번만 (같은 토큰은 캐시에서 반환)
+        VerifiedClaims claims;
+        try {
+            claims = jwtUtil.verify(token);
+        } catch (ExpiredJwtException e) {
+            log.debug("Expired token rejected: {}", requestURI);
             filterChain.doFilter(request, response);
 
             //조건이 해당되면 메소드 종료 (필수)
             return;
+        } catch (JwtException | IllegalArgumentException e) {
+            log.debug("Invalid token rejected: {}", e.getMessage());
+            filterChain.doFilter(request, response);
+            return;
+        }
+        // 로그아웃/비밀번호 변경으로 폐기된 토큰 (대부분 Bloom filter 에서 바로 걸러짐)
+        if (tokenRevocationService.isRevoked(claims)) {
+            log.debug("Revoked token rejected: jti={}, userId={}", claims.tokenId(), claims.userId());
+            filterChain.doFilter(request, response);
+            return;
         }
-        String username = jwtUtil.getUsername(token);
-        String role = jwtUtil.getRole(token);
+        String username = claims.username();
+        String role = claims.role();
 
         User userEntity = new User();
+        userEntity.setUserid(claims.userId()); // @CurrentUser 에서 DB 조회 없이 사용
         userEntity.setUsername(username);
         userEntity.setPassword("temppassword");
         userEntity.setRole(role);
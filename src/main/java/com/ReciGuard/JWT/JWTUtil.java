@@ -1,5 +1,9 @@
 package com.ReciGuard.JWT;
 
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
@@ -7,32 +11,115 @@ import org.springframework.stereotype.Component;
 import javax.crypto.SecretKey;
 import javax.crypto.spec.SecretKeySpec;
 import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
 import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.locks.ReentrantLock;
 
 @Component
 public class JWTUtil {
     private SecretKey secretKey;
+    // 불변 + thread-safe 이므로 한 번만 생성
+    private final JwtParser parser;
 
-    public JWTUtil(@Value("${spring.jwt.secret}")String secret) {
+    // 검증 결과 캐시 (토큰 원문 대신 SHA-256 digest 를 key 로 사용)
+    // 가득 차면 가장 오래 안 쓰인 항목부터 밀려나는 LRU, 요청마다 거치므로 synchronized 대신 lock 사용
+    private final Map<String, CachedClaims> verified;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Duration cacheTtl;
+
+    private record CachedClaims(VerifiedClaims claims, Instant cachedUntil) {
+    }
+
+    public JWTUtil(@Value("${spring.jwt.secret}")String secret,
+                   @Value("${reciguard.jwt.cache.max-size:10000}") int cacheMaxSize,
+                   @Value("${reciguard.jwt.cache.ttl-seconds:300}") long cacheTtlSeconds) {
         secretKey = new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), Jwts.SIG.HS256.key().build().getAlgorithm());
+        parser = Jwts.parser().verifyWith(secretKey).build();
+        this.cacheTtl = Duration.ofSeconds(cacheTtlSeconds);
+        this.verified = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CachedClaims> eldest) {
+                return size() > cacheMaxSize; // LRU
+            }
+        };
+        }
+
+    // 서명 + 만료를 한 번에 검증 (실패 시 JwtException), 같은 토큰은 만료 전까지 캐시에서 반환
+    public VerifiedClaims verify(String token) {
+        Instant now = Instant.now();
+        String key = digest(token);
+        CachedClaims cached;
+        lock.lock();
+        try {
+            cached = verified.get(key);
+            if (cached != null && !now.isBefore(cached.cachedUntil())) {
+                verified.remove(key);
+            }
+        } finally {
+            lock.unlock();
+        }
+        if (cached != null) {
+            if (now.isBefore(cached.cachedUntil())) {
+                return cached.claims();
+            }
+            if (cached.claims().isExpired(now)) {
+                throw new ExpiredJwtException(null, null, "JWT expired at " + cached.claims().expiresAt());
+            }
+        }
+
+        Claims payload = parser.parseSignedClaims(token).getPayload();
+        Date issuedAt = payload.getIssuedAt();
+        Date expiration = payload.getExpiration();
+        VerifiedClaims claims = new VerifiedClaims(
+                payload.getId(),
+                payload.get("username", String.class),
+                payload.get("userid", Long.class),
+                payload.get("role", String.class),
+                issuedAt != null ? issuedAt.toInstant() : null,
+                expiration != null ? expiration.toInstant() : null);
+
+        // 토큰 만료 시각과 캐시 TTL 중 빠른 쪽까지만 캐시
+        Instant cachedUntil = now.plus(cacheTtl);
+        if (claims.expiresAt() != null && claims.expiresAt().isBefore(cachedUntil)) {
+            cachedUntil = claims.expiresAt();
+        }
+        lock.lock();
+        try {
+            verified.put(key, new CachedClaims(claims, cachedUntil));
+        } finally {
+            lock.unlock();
         }
+        return claims;
+    }
+
     public String getUsername(String token) {
 
-        return Jwts.parser().verifyWith(secretKey).build().parseSignedClaims(token).getPayload().get("username", String.class);
+        return verify(token).username();
         }
 
     public String getRole(String token) {
 
-        return Jwts.parser().verifyWith(secretKey).build().parseSignedClaims(token).getPayload().get("role", String.class);
+        return verify(token).role();
         }
 
     public Boolean isExpired(String token) {
-
-        return Jwts.parser().verifyWith(secretKey).build().parseSignedClaims(token).getPayload().getExpiration().before(new Date());
+        try {
+            return verify(token).isExpired(Instant.now());
+        } catch (ExpiredJwtException e) {
+            return true;
+        }
         }
 
     public String createJwt(String username, Long userid, String role, Long expiredMs) {
         return Jwts.builder()
+                .id(UUID.randomUUID().toString()) // jti (로그아웃 시 폐기 대상 식별)
                 .claim("username", username)  // 사용자 이름 저장
                 .claim("userid", userid)
                 .claim("role", role)// 사용자 역할(Role) 추가
@@ -42,9 +129,12 @@ public class JWTUtil {
                 .compact();           // JWT 생성
     }
 
-
-    // 나머지 코드는 상관없다만 위의 부분은 코드에 맞게 수정이 필요함 Reciguard entity 참고해서
-
-
+    private static String digest(String token) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
 }
-
@@ -1,12 +1,16 @@
 package com.ReciGuard.JWT;
 
+import com.ReciGuard.SecurityConfig.PasswordHashingOverloadedException;
 import com.ReciGuard.dto.CustomUserDetails;
+import com.ReciGuard.dto.TokenPairDTO;
+import com.ReciGuard.service.RefreshTokenService;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.AuthenticationServiceException;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
@@ -21,13 +25,15 @@ import java.util.Collection;
 import java.util.Iterator;
 import java.util.Map;
 
-
+// 요청 본문과 비밀번호는 로그에 남기지 않는다
+@Slf4j
 @RequiredArgsConstructor
 public class LoginFilter extends UsernamePasswordAuthenticationFilter {
 
     private final AuthenticationManager authenticationManager;
     //jwtutil 을 주입시킨다
     private final JWTUtil jwtUtil;
+    private final RefreshTokenService refreshTokenService;
 
 
     @Override
@@ -45,7 +51,6 @@ public class LoginFilter extends UsernamePasswordAuthenticationFilter {
             }
 
             String body = sb.toString();
-            System.out.println("Request Body: " + body);
 
             // JSON 파싱
             ObjectMapper objectMapper = new ObjectMapper();
@@ -53,11 +58,9 @@ public class LoginFilter extends UsernamePasswordAuthenticationFilter {
             username = jsonMap.get("username");
             password = jsonMap.get("password");
 
-            System.out.println("Extracted Username: " + username);
-            System.out.println("Extracted Password: " + password);
-
         } catch (IOException e) {
-            System.out.println("Error parsing request body: " + e.getMessage());
+            // 파싱 오류 메시지에 본문 일부가 들어갈 수 있어서 예외 종류만 남긴다
+            log.debug("Invalid login request body ({})", e.getClass().getSimpleName());
             throw new AuthenticationServiceException("Invalid request format");
         }
 
@@ -80,18 +83,26 @@ public class LoginFilter extends UsernamePasswordAuthenticationFilter {
         Collection<? extends GrantedAuthority> authorities = authentication.getAuthorities();
         Iterator<? extends GrantedAuthority> iterator = authorities.iterator();
         GrantedAuthority auth = iterator.next();
-        String role = (auth != null) ? auth.getAuthority() : "ROLE_USER";
+        String role = RefreshTokenService.authorityOf(auth != null ? auth.getAuthority() : null);
 
-
-        String token = jwtUtil.createJwt(username, userid, "ROLE_USER",60*60*24*100L);
-        System.out.println("Authorities: " + authorities);
-        System.out.println("Extracted role: " + role);
-        response.addHeader("Authorization", "Bearer " + token);
+        // access 토큰은 짧게, 만료되면 Refresh-Token 으로 /token/refresh 에서 재발급
+        TokenPairDTO tokens = refreshTokenService.issueTokens(username, userid, role);
+        log.debug("Login succeeded: userId={}, role={}", userid, role);
+        response.addHeader("Authorization", "Bearer " + tokens.getAccessToken());
+        response.addHeader("Refresh-Token", tokens.getRefreshToken());
     }
     //로그인 실패시 실행하는 매소드
     @Override
     protected void unsuccessfulAuthentication(HttpServletRequest request, HttpServletResponse response, AuthenticationException failed) throws IOException {
-        System.out.println("로그인 실패: " + failed.getMessage()); // 디버그용 로그 추가
+        if (failed instanceof PasswordHashingOverloadedException) {
+            // 비밀번호가 틀린 게 아니라 해시 풀이 포화 상태
+            response.setStatus(HttpServletResponse.SC_SERVICE_UNAVAILABLE);
+            response.setHeader("Retry-After", "1");
+            response.setContentType("application/json");
+            response.getWriter().write("{\"error\": \"Too many login requests\"}");
+            return;
+        }
+        log.debug("Login failed: {}", failed.getMessage());
         response.setStatus(HttpServletResponse.SC_UNAUTHORIZED); // 401 상태 코드
         response.setContentType("application/json"); // 응답 타입 JSON 설정
         response.getWriter().write("{\"error\": \"Invalid username or password\"}"); // JSON 응답 본문 작성
@@ -0,0 +1,11 @@
+package com.ReciGuard.JWT;
+
+import java.time.Instant;
+
+// 서명/만료 검증을 통과한 토큰의 claim (불변)
+public record VerifiedClaims(String tokenId, String username, Long userId, String role, Instant issuedAt, Instant expiresAt) {
+
+    public boolean isExpired(Instant now) {
+        return expiresAt != null && !now.isBefore(expiresAt);
+    }
+}
@@ -0,0 +1,60 @@
+package com.ReciGuard.JpaConfig;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+// id_generator 테이블을 auto_increment 로 들어간 시드 데이터의 최대 id 뒤로 맞춘다
+// (서버가 요청을 받기 전, data.sql 실행 이후에 한 번 실행)
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class IdGeneratorInitializer implements SmartInitializingSingleton {
+
+    // @TableGenerator allocationSize 와 같아야 함
+    private static final int ALLOCATION_SIZE = 50;
+
+    // generator 이름 -> (테이블, id 컬럼)
+    private static final Map<String, String[]> GENERATORS = Map.of(
+            "recipe", new String[]{"recipe", "recipe_id"},
+            "recipe_ingredient", new String[]{"recipe_ingredient", "recipe_ingredient_id"},
+            "instruction", new String[]{"instruction", "recipe_instruction_id"},
+            "recipe_stats", new String[]{"recipe_stats", "stats_id"},
+            "nutrition", new String[]{"nutrition", "nutrition_id"}
+    );
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        GENERATORS.forEach((name, target) -> {
+            try {
+                sync(name, target[0], target[1]);
+            } catch (DataAccessException e) {
+                log.warn("Failed to initialize id generator {}: {}", name, e.getMessage());
+            }
+        });
+    }
+
+    // 한 블록을 통째로 건너뛰어 pooled 할당이 어떤 구간을 받아도 기존 id 와 겹치지 않게 한다
+    private void sync(String name, String table, String idColumn) {
+        Long maxId = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(" + idColumn + "), 0) FROM " + table, Long.class);
+        long floor = (maxId != null ? maxId : 0) + ALLOCATION_SIZE + 1;
+
+        int updated = jdbcTemplate.update(
+                "UPDATE id_generator SET next_val = ? WHERE sequence_name = ? AND next_val < ?", floor, name, floor);
+        if (updated == 0) {
+            Integer rows = jdbcTemplate.queryForObject(
+                    "SELECT COUNT(*) FROM id_generator WHERE sequence_name = ?", Integer.class, name);
+            if (rows != null && rows == 0) {
+                jdbcTemplate.update("INSERT INTO id_generator (sequence_name, next_val) VALUES (?, ?)", name, floor);
+            }
+        }
+        log.info("Id generator {} starts after {}", name, maxId);
+    }
+}
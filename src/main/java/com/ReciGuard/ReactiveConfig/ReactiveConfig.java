@@ -0,0 +1,86 @@
+package com.ReciGuard.ReactiveConfig;
+
+import com.ReciGuard.controller.CatalogHandler;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.codec.json.Jackson2JsonDecoder;
+import org.springframework.http.codec.json.Jackson2JsonEncoder;
+import org.springframework.http.server.reactive.HttpHandler;
+import org.springframework.http.server.reactive.ReactorHttpHandlerAdapter;
+import org.springframework.web.cors.CorsConfiguration;
+import org.springframework.web.cors.reactive.CorsWebFilter;
+import org.springframework.web.cors.reactive.UrlBasedCorsConfigurationSource;
+import org.springframework.web.reactive.function.server.HandlerStrategies;
+import org.springframework.web.reactive.function.server.RouterFunction;
+import org.springframework.web.reactive.function.server.RouterFunctions;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import reactor.netty.DisposableServer;
+import reactor.netty.http.server.HttpServer;
+import reactor.netty.resources.LoopResources;
+
+import java.util.List;
+
+// 읽기 전용 카탈로그 API 를 별도 포트의 Reactor Netty 서버로 제공 (reciguard.reactive.enabled=true 일 때만)
+// 애플리케이션 본체는 servlet(Tomcat) 이므로 WebFlux 자동 구성 대신 작은 event loop 풀로 직접 띄운다
+// 로드밸런서에서 GET /api/recipes/** 조회만 이 포트로 보내면 되도록 경로는 servlet API 와 같다
+@Slf4j
+@Configuration
+@ConditionalOnProperty(name = "reciguard.reactive.enabled", havingValue = "true")
+public class ReactiveConfig {
+
+    @Bean
+    public RouterFunction<ServerResponse> catalogRoutes(CatalogHandler catalogHandler) {
+        return RouterFunctions.route()
+                .GET("/api/recipes/all", catalogHandler::list)
+                .GET("/api/recipes/search", catalogHandler::search)
+                .GET("/api/recipes/suggest", catalogHandler::suggest)
+                .GET("/api/recipes/{recipeId}", catalogHandler::detail)
+                .GET("/api/recipes", catalogHandler::byCuisine)
+                .build();
+    }
+
+    @Bean(destroyMethod = "dispose")
+    public LoopResources catalogLoopResources(@Value("${reciguard.reactive.event-loop-threads:4}") int threads) {
+        return LoopResources.create("catalog", threads, true);
+    }
+
+    @Bean(destroyMethod = "disposeNow")
+    public DisposableServer catalogServer(RouterFunction<ServerResponse> catalogRoutes,
+                                          LoopResources catalogLoopResources,
+                                          ObjectMapper objectMapper,
+                                          @Value("${reciguard.reactive.port:8081}") int port) {
+        HandlerStrategies strategies = HandlerStrategies.builder()
+                .codecs(codecs -> {
+                    codecs.defaultCodecs().jackson2JsonEncoder(new Jackson2JsonEncoder(objectMapper));
+                    codecs.defaultCodecs().jackson2JsonDecoder(new Jackson2JsonDecoder(objectMapper));
+                })
+                .webFilter(new CorsWebFilter(corsConfigurationSource()))
+                .build();
+        HttpHandler httpHandler = RouterFunctions.toHttpHandler(catalogRoutes, strategies);
+
+        DisposableServer server = HttpServer.create()
+                .port(port)
+                .runOn(catalogLoopResources)
+                .handle(new ReactorHttpHandlerAdapter(httpHandler))
+                .bindNow();
+        log.info("Reactive catalog API listening on port {}", server.port());
+        return server;
+    }
+
+    // SecurityConfig 와 같은 CORS 정책
+    private static UrlBasedCorsConfigurationSource corsConfigurationSource() {
+        CorsConfiguration configuration = new CorsConfiguration();
+        configuration.setAllowCredentials(true);
+        configuration.setAllowedOrigins(List.of("https://reciguard.com","https://www.reciguard.com","http://localhost:5173"));
+        configuration.setAllowedMethods(List.of("GET", "OPTIONS"));
+        configuration.setAllowedHeaders(List.of("*"));
+
+        UrlBasedCorsConfigurationSource source = new UrlBasedCorsConfigurationSource();
+        source.registerCorsConfiguration("/**", configuration);
+        return source;
+    }
+}
@@ -1,14 +1,23 @@
 package com.ReciGuard.RestTemplateConfig;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.web.client.RestTemplate;
 
+import java.time.Duration;
+
 @Configuration
 public class RestTemplateConfig {
+    // 외부 API 가 응답하지 않을 때 호출 스레드가 무기한 묶이지 않도록 timeout 지정
     @Bean
-    public RestTemplate restTemplate(RestTemplateBuilder builder) {
-        return builder.build();
+    public RestTemplate restTemplate(RestTemplateBuilder builder,
+                                     @Value("${reciguard.http.connect-timeout-ms:2000}") long connectTimeoutMs,
+                                     @Value("${reciguard.http.read-timeout-ms:5000}") long readTimeoutMs) {
+        return builder
+                .connectTimeout(Duration.ofMillis(connectTimeoutMs))
+                .readTimeout(Duration.ofMillis(readTimeoutMs))
+                .build();
     }
 }
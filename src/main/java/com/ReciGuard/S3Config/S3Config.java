@@ -5,11 +5,15 @@ import com.amazonaws.auth.AWSStaticCredentialsProvider;
 import com.amazonaws.auth.BasicAWSCredentials;
 import com.amazonaws.services.s3.AmazonS3;
 import com.amazonaws.services.s3.AmazonS3ClientBuilder;
+import com.amazonaws.services.s3.transfer.TransferManager;
+import com.amazonaws.services.s3.transfer.TransferManagerBuilder;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
 @Configuration
+@ConditionalOnProperty(name = "reciguard.storage.type", havingValue = "s3", matchIfMissing = true)
 public class S3Config {
 
     @Value("${spring.cloud.aws.S3.credentials.accessKey}")
@@ -31,4 +35,16 @@ public class S3Config {
                 .withRegion(region)
                 .build();
     }
+
+    // 큰 파일은 멀티파트로 나눠 병렬 업로드
+    @Bean(destroyMethod = "shutdownNow")
+    public TransferManager transferManager(AmazonS3 amazonS3,
+                                           @Value("${reciguard.upload.multipart-threshold-bytes:5242880}") long multipartThreshold) {
+        return TransferManagerBuilder
+                .standard()
+                .withS3Client(amazonS3)
+                .withMultipartUploadThreshold(multipartThreshold)
+                .withMinimumUploadPartSize(5L * 1024 * 1024)
+                .build();
+    }
 }
@@ -0,0 +1,121 @@
+package com.ReciGuard.SecurityConfig;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+// BCrypt 해시/검증을 전용 풀에서 실행 (로그인 폭주가 요청 스레드와 CPU 를 모두 잡아먹지 않도록)
+// 큐가 차거나 대기 시간이 max-wait 를 넘으면 해시를 하지 않고 바로 PasswordHashingOverloadedException
+@Slf4j
+public class BoundedPasswordEncoder extends BCryptPasswordEncoder {
+
+    private final ExecutorService executor;
+    private final long maxWaitNanos;
+
+    private final LongAdder completed = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder hashNanos = new LongAdder();
+    private final LongAdder queueWaitNanos = new LongAdder();
+    private final AtomicLong maxHashNanos = new AtomicLong();
+    private final AtomicLong maxQueueWaitNanos = new AtomicLong();
+
+    public record Metrics(long completed, long rejected, double avgHashMs, double maxHashMs,
+                          double avgQueueWaitMs, double maxQueueWaitMs, int activeThreads, int queued) {
+    }
+
+    public BoundedPasswordEncoder(ExecutorService executor, long maxWaitMs) {
+        this.executor = executor;
+        this.maxWaitNanos = TimeUnit.MILLISECONDS.toNanos(maxWaitMs);
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return submit(() -> super.encode(rawPassword));
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return submit(() -> super.matches(rawPassword, encodedPassword));
+    }
+
+    public Metrics metrics() {
+        long done = completed.sum();
+        int active = 0;
+        int queued = 0;
+        if (executor instanceof ThreadPoolExecutor pool) {
+            active = pool.getActiveCount();
+            queued = pool.getQueue().size();
+        }
+        return new Metrics(done, rejected.sum(),
+                done == 0 ? 0 : toMillis(hashNanos.sum()) / done, toMillis(maxHashNanos.get()),
+                done == 0 ? 0 : toMillis(queueWaitNanos.sum()) / done, toMillis(maxQueueWaitNanos.get()),
+                active, queued);
+    }
+
+    private <T> T submit(Callable<T> hashing) {
+        long submittedAt = System.nanoTime();
+        Future<T> future;
+        try {
+            future = executor.submit(() -> {
+                long startedAt = System.nanoTime();
+                long waited = startedAt - submittedAt;
+                if (waited > maxWaitNanos) {
+                    return null; // 호출자는 이미 포기했으므로 해시하지 않는다
+                }
+                T result = hashing.call();
+                record(waited, System.nanoTime() - startedAt);
+                return result;
+            });
+        } catch (RejectedExecutionException e) {
+            throw overloaded("queue full");
+        }
+
+        try {
+            T result = future.get(maxWaitNanos, TimeUnit.NANOSECONDS);
+            if (result == null) {
+                throw overloaded("queue wait exceeded");
+            }
+            return result;
+        } catch (TimeoutException e) {
+            future.cancel(false);
+            throw overloaded("timed out");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            future.cancel(false);
+            throw overloaded("interrupted");
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause; // 잘못된 입력 등 BCrypt 자체 예외는 그대로
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    private void record(long waitedNanos, long elapsedNanos) {
+        completed.increment();
+        hashNanos.add(elapsedNanos);
+        queueWaitNanos.add(waitedNanos);
+        maxHashNanos.accumulateAndGet(elapsedNanos, Math::max);
+        maxQueueWaitNanos.accumulateAndGet(waitedNanos, Math::max);
+    }
+
+    private PasswordHashingOverloadedException overloaded(String reason) {
+        rejected.increment();
+        log.warn("Password hashing rejected ({}), rejected so far: {}", reason, rejected.sum());
+        return new PasswordHashingOverloadedException("요청이 많아 잠시 후 다시 시도해주세요.");
+    }
+
+    private static double toMillis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+}
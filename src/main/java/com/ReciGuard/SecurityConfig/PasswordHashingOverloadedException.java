@@ -0,0 +1,14 @@
+package com.ReciGuard.SecurityConfig;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.security.authentication.AuthenticationServiceException;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+// 비밀번호 해시 풀이 포화 상태 (로그인 필터에서도 인증 실패가 아니라 503 으로 응답하기 위해 AuthenticationException 계열)
+@ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+public class PasswordHashingOverloadedException extends AuthenticationServiceException {
+
+    public PasswordHashingOverloadedException(String message) {
+        super(message);
+    }
+}
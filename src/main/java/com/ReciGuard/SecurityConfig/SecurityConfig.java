@@ -1,15 +1,18 @@
 package com.ReciGuard.SecurityConfig;
 
 import java.util.List;
+import java.util.concurrent.ExecutorService;
 
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpMethod;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.config.annotation.authentication.configuration.AuthenticationConfiguration;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.http.SessionCreationPolicy;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 import org.springframework.web.cors.CorsConfiguration;
@@ -19,6 +22,8 @@ import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
 import com.ReciGuard.JWT.JWTFilter;
 import com.ReciGuard.JWT.JWTUtil;
 import com.ReciGuard.JWT.LoginFilter;
+import com.ReciGuard.service.RefreshTokenService;
+import com.ReciGuard.service.TokenRevocationService;
 
 import lombok.RequiredArgsConstructor;
 
@@ -29,6 +34,8 @@ public class SecurityConfig {
 
     private final AuthenticationConfiguration authenticationConfiguration;
     private final JWTUtil jwtUtil;
+    private final RefreshTokenService refreshTokenService;
+    private final TokenRevocationService tokenRevocationService;
 
     //AuthenticationManager Bean 등록
     @Bean
@@ -37,9 +44,11 @@ public class SecurityConfig {
         return configuration.getAuthenticationManager();
     }
 
+    // UserService 와 로그인 필터(DaoAuthenticationProvider) 모두 이 인코더를 사용
     @Bean
-    public BCryptPasswordEncoder bCryptPasswordEncoder() {
-        return new BCryptPasswordEncoder();
+    public BoundedPasswordEncoder bCryptPasswordEncoder(@Qualifier("passwordHashExecutor") ExecutorService passwordHashExecutor,
+                                                        @Value("${reciguard.password.max-wait-ms:2000}") long maxWaitMs) {
+        return new BoundedPasswordEncoder(passwordHashExecutor, maxWaitMs);
     }
 
     @Bean
@@ -55,18 +64,24 @@ public class SecurityConfig {
         http
                 .httpBasic((auth) -> auth.disable());
 
+        // /logout 은 AuthController 에서 토큰 폐기로 처리
+        http
+                .logout((auth) -> auth.disable());
+
         http
                 .authorizeHttpRequests((auth) -> auth
-                .requestMatchers("/login", "/password", "/register", "/api/recipes/scraps").permitAll()
+                .requestMatchers("/login", "/password", "/register", "/token/refresh", "/logout", "/api/recipes/scraps").permitAll()
+                .requestMatchers(HttpMethod.GET, "/images/**").permitAll()
+                .requestMatchers("/api/admin/**").hasRole("ADMIN")
                 .requestMatchers("/api/users/**").authenticated()
                 .anyRequest().authenticated());
 
         //JWTFilter 등록
         http
-                .addFilterBefore(new JWTFilter(jwtUtil), LoginFilter.class);
+                .addFilterBefore(new JWTFilter(jwtUtil, tokenRevocationService), LoginFilter.class);
 
         http //전에 사용하지 않는다고 지정한 필터 자리에 커스텀 로그인 필터를 만들어서 넣어줌
-                .addFilterAt(new LoginFilter(authenticationManager(authenticationConfiguration), jwtUtil), UsernamePasswordAuthenticationFilter.class);
+                .addFilterAt(new LoginFilter(authenticationManager(authenticationConfiguration), jwtUtil, refreshTokenService), UsernamePasswordAuthenticationFilter.class);
 
         http
                 .sessionManagement((session) -> session
@@ -82,7 +97,7 @@ public class SecurityConfig {
         configuration.setAllowedOrigins(List.of("https://reciguard.com","https://www.reciguard.com","http://localhost:5173"));  // 허용할 프론트엔드 URL
         configuration.setAllowedMethods(List.of("GET", "POST", "PUT", "DELETE", "OPTIONS"));  // 허용할 HTTP 메서드
         configuration.setAllowedHeaders(List.of("*"));  // 모든 헤더 허용
-        configuration.setExposedHeaders(List.of("Authorization"));  // 클라이언트가 응답에서 `Authorization` 헤더 확인 가능
+        configuration.setExposedHeaders(List.of("Authorization", "Refresh-Token"));  // 클라이언트가 응답에서 `Authorization`, `Refresh-Token` 헤더 확인 가능
 
         UrlBasedCorsConfigurationSource source = new UrlBasedCorsConfigurationSource();
         source.registerCorsConfiguration("/**", configuration);  // 모든 경로에 대해 CORS 설정 적용
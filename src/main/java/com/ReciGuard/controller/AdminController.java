@@ -0,0 +1,55 @@
+package com.ReciGuard.controller;
+
+import com.ReciGuard.SecurityConfig.BoundedPasswordEncoder;
+import com.ReciGuard.service.RecipeImportService;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.IOException;
+import java.util.Map;
+
+@Slf4j
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/admin")
+public class AdminController {
+
+    private final RecipeImportService recipeImportService;
+    private final BoundedPasswordEncoder passwordEncoder;
+
+    // 레시피 대량 import (요청 본문: JSON Lines 스트림, 중단되면 같은 importId 로 다시 보내면 이어서 처리)
+    @PostMapping("/recipes/import")
+    public ResponseEntity<?> importRecipes(@RequestParam String importId, HttpServletRequest request) {
+        try {
+            return ResponseEntity.ok(recipeImportService.importRecipes(importId, request.getInputStream()));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(importError(importId, e.getMessage()));
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(importError(importId, e.getMessage()));
+        } catch (IOException e) {
+            log.error("Recipe import {} interrupted: {}", importId, e.getMessage());
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(importError(importId, "import 가 중단되었습니다. 같은 importId 로 다시 요청하세요."));
+        } catch (DataAccessException e) {
+            // 줄 단위로 기록할 수 없는 오류 (체크포인트/재료 사전 저장 실패, DB 연결 등)
+            log.error("Recipe import {} failed: {}", importId, e.getMessage());
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .body(importError(importId, "저장 중 오류가 발생했습니다. 같은 importId 로 다시 요청하세요."));
+        }
+    }
+
+    private static Map<String, String> importError(String importId, String message) {
+        return Map.of("importId", importId, "message", message);
+    }
+
+    // 비밀번호 해시 풀 지표 (해시 시간, 큐 대기 시간, 거절 수)
+    @GetMapping("/metrics/password-hashing")
+    public BoundedPasswordEncoder.Metrics passwordHashingMetrics() {
+        return passwordEncoder.metrics();
+    }
+}
@@ -8,14 +8,22 @@ import org.springframework.validation.BindingResult;
 import org.springframework.web.bind.annotation.CrossOrigin;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.ReciGuard.JWT.JWTUtil;
+import com.ReciGuard.JWT.VerifiedClaims;
+import com.ReciGuard.dto.TokenPairDTO;
+import com.ReciGuard.dto.TokenRefreshRequestDTO;
 import com.ReciGuard.dto.UserPasswordDTO;
 import com.ReciGuard.dto.UserResponseDTO;
+import com.ReciGuard.service.RefreshTokenService;
+import com.ReciGuard.service.TokenRevocationService;
 import com.ReciGuard.service.UserService;
 
+import io.jsonwebtoken.JwtException;
+
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -29,6 +37,8 @@ public class AuthController {
 
     private final UserService userService;
     private final JWTUtil jwtUtil;
+    private final RefreshTokenService refreshTokenService;
+    private final TokenRevocationService tokenRevocationService;
 
     // 회원가입
     @PostMapping("/register")
@@ -39,7 +49,11 @@ public class AuthController {
                     .body(bindingResult.getFieldError().getDefaultMessage());
         }
 
-        userService.save(userDTO);
+        try {
+            userService.save(userDTO);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
         return ResponseEntity.status(HttpStatus.CREATED).body("회원가입에 성공했습니다.");
 
     }
@@ -55,10 +69,13 @@ public class AuthController {
         }
         UserResponseDTO.Request loginResult = userService.login(userDTO);
         if (loginResult != null) {
-            String token = jwtUtil.createJwt(userDTO.getUsername(), userDTO.getId(), "ROLE_USER", 60 * 60 * 1000L); // 토큰 생성
+            // 토큰 생성 (LoginFilter / refresh 와 같이 저장된 권한 사용)
+            TokenPairDTO tokens = refreshTokenService.issueTokens(loginResult.getUsername(), loginResult.getId(),
+                    RefreshTokenService.authorityOf(loginResult.getRole()));
             Map<String, String> responseBody = Map.of(
                     "message", "로그인 성공",
-                    "token", token
+                    "token", tokens.getAccessToken(),
+                    "refreshToken", tokens.getRefreshToken()
             );
             return ResponseEntity.ok(responseBody);
         } else {
@@ -89,4 +106,36 @@ public class AuthController {
             return ResponseEntity.badRequest().body(e.getMessage());
         }
     }
+
+    // access 토큰 재발급 (refresh 토큰도 새 것으로 교체, 이전 토큰은 다시 쓸 수 없음)
+    @PostMapping("/token/refresh")
+    public ResponseEntity<?> refresh(@RequestBody TokenRefreshRequestDTO requestDTO) {
+        try {
+            TokenPairDTO tokens = refreshTokenService.refresh(requestDTO.getRefreshToken());
+            return ResponseEntity.ok(Map.of(
+                    "token", tokens.getAccessToken(),
+                    "refreshToken", tokens.getRefreshToken()
+            ));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(e.getMessage());
+        }
+    }
+
+    // 로그아웃: 현재 access 토큰과 refresh 토큰 폐기
+    @PostMapping("/logout")
+    public ResponseEntity<String> logout(@RequestHeader(value = "Authorization", required = false) String authorization,
+                                         @RequestBody(required = false) TokenRefreshRequestDTO requestDTO) {
+        if (authorization != null && authorization.startsWith("Bearer ")) {
+            try {
+                VerifiedClaims claims = jwtUtil.verify(authorization.substring("Bearer ".length()));
+                tokenRevocationService.revokeToken(claims.tokenId(), claims.expiresAt());
+            } catch (JwtException | IllegalArgumentException e) {
+                // 이미 만료되었거나 잘못된 토큰은 폐기할 필요 없음
+            }
+        }
+        if (requestDTO != null) {
+            refreshTokenService.revoke(requestDTO.getRefreshToken());
+        }
+        return ResponseEntity.ok("로그아웃 되었습니다.");
+    }
 }
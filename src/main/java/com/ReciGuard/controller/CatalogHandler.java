@@ -0,0 +1,199 @@
+package com.ReciGuard.controller;
+
+import com.ReciGuard.JWT.JWTUtil;
+import com.ReciGuard.JWT.VerifiedClaims;
+import com.ReciGuard.dto.RecipeDetailResponseDTO;
+import com.ReciGuard.dto.RecipeListResponseDTO;
+import com.ReciGuard.service.*;
+import io.jsonwebtoken.JwtException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+
+// reactive 카탈로그 조회 API (목록/cuisine/검색/상세/자동완성)
+// CatalogReadModel 과 메모리 인덱스로 event loop 에서 바로 응답하고, 캐시에 없는 사용자 정보만 boundedElastic 에서 조회한다
+// 레시피 저장/스크랩 등 쓰기는 기존 servlet API 를 그대로 사용
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "reciguard.reactive.enabled", havingValue = "true")
+public class CatalogHandler {
+
+    private final CatalogReadModel catalogReadModel;
+    private final JWTUtil jwtUtil;
+    private final TokenRevocationService tokenRevocationService;
+    private final UserService userService;
+    private final ScrapSimilarityIndex scrapSimilarityIndex;
+    private final AllergyProfileCache allergyProfileCache;
+    private final IngredientSimilarityIndex ingredientSimilarityIndex;
+    private final RecipeStatsService recipeStatsService;
+
+    // 전체 레시피 리스트 (?filter=true 면 알레르기 재료 포함 레시피 제외)
+    public Mono<ServerResponse> list(ServerRequest request) {
+        return authenticated(request, userId ->
+                listResponse(catalogReadModel.all(), userId, filter(request), "레시피를 찾을 수 없습니다."));
+    }
+
+    // cuisine별 레시피 리스트
+    public Mono<ServerResponse> byCuisine(ServerRequest request) {
+        Optional<String> cuisine = request.queryParam("cuisine");
+        if (cuisine.isEmpty()) {
+            return ServerResponse.badRequest().bodyValue("cuisine 이 필요합니다.");
+        }
+        return authenticated(request, userId ->
+                listResponse(catalogReadModel.byCuisine(cuisine.get()), userId, filter(request), "검색 결과가 없습니다."));
+    }
+
+    // query로 레시피 검색
+    public Mono<ServerResponse> search(ServerRequest request) {
+        Optional<String> query = request.queryParam("query");
+        if (query.isEmpty()) {
+            return ServerResponse.badRequest().bodyValue("query 가 필요합니다.");
+        }
+        return authenticated(request, userId ->
+                listResponse(catalogReadModel.search(query.get()), userId, filter(request), query.get() + "로(으로) 검색된 결과가 없습니다."));
+    }
+
+    // 레시피명 자동완성
+    public Mono<ServerResponse> suggest(ServerRequest request) {
+        String prefix = request.queryParam("prefix").orElse("");
+        return authenticated(request, userId ->
+                ServerResponse.ok().contentType(MediaType.APPLICATION_JSON).bodyValue(catalogReadModel.suggest(prefix)));
+    }
+
+    // 레시피 상세
+    public Mono<ServerResponse> detail(ServerRequest request) {
+        Long recipeId;
+        try {
+            recipeId = Long.valueOf(request.pathVariable("recipeId"));
+        } catch (NumberFormatException e) {
+            return ServerResponse.badRequest().bodyValue("잘못된 recipeId 입니다.");
+        }
+        return authenticated(request, userId -> {
+            Optional<CatalogReadModel.Entry> found = catalogReadModel.find(recipeId);
+            // snapshot 갱신 전에 만들어진 레시피는 DB 에서 직접 조회
+            Mono<Optional<CatalogReadModel.Entry>> entry = found.isPresent()
+                    ? Mono.just(found)
+                    : Mono.fromCallable(() -> catalogReadModel.load(recipeId)).subscribeOn(Schedulers.boundedElastic());
+            return entry.flatMap(loaded -> loaded.isPresent()
+                    ? detailResponse(loaded.get(), userId)
+                    : ServerResponse.status(HttpStatus.NOT_FOUND).bodyValue("요청한 데이터를 찾을 수 없습니다."));
+        });
+    }
+
+    private Mono<ServerResponse> detailResponse(CatalogReadModel.Entry entry, Long userId) {
+        Long recipeId = entry.recipeId();
+        return allergyIngredients(userId).flatMap(allergy -> {
+            increaseViewCount(recipeId);
+            RecipeDetailResponseDTO body = new RecipeDetailResponseDTO(
+                    entry.imagePath(),
+                    entry.recipeName(),
+                    entry.ownerId(),
+                    entry.serving(),
+                    entry.cuisine(),
+                    entry.foodType(),
+                    entry.cookingStyle(),
+                    entry.calories(), entry.sodium(), entry.carbohydrate(), entry.fat(), entry.protein(),
+                    scrapSimilarityIndex.scrapsOf(userId).contains(recipeId),
+                    entry.scrapCount(),
+                    entry.viewCount(),
+                    entry.ingredients(),
+                    entry.instructions(),
+                    ingredientSimilarityIndex.findSimilarAllergyIngredients(allergy, entry.ingredientNames()));
+            return ServerResponse.ok().contentType(MediaType.APPLICATION_JSON).bodyValue(body);
+        });
+    }
+
+    private Mono<ServerResponse> listResponse(List<CatalogReadModel.Entry> entries, Long userId, boolean filter, String emptyMessage) {
+        Mono<List<CatalogReadModel.Entry>> visible = Mono.just(entries);
+        if (filter) {
+            visible = allergyIngredients(userId).flatMap(allergy -> allergy.isEmpty()
+                    ? Mono.error(new IllegalStateException("사용자의 알레르기 정보가 없습니다."))
+                    : Mono.just(entries.stream().filter(entry -> !CatalogReadModel.containsAllergen(entry, allergy)).toList()));
+        }
+        return visible.flatMap(recipes -> {
+            if (recipes.isEmpty()) {
+                return ServerResponse.status(HttpStatus.NOT_FOUND).bodyValue(emptyMessage);
+            }
+            Set<Long> scraps = scrapSimilarityIndex.scrapsOf(userId);
+            List<RecipeListResponseDTO> body = recipes.stream()
+                    .map(entry -> new RecipeListResponseDTO(
+                            entry.recipeId(),
+                            entry.recipeName(),
+                            entry.imagePath(),
+                            entry.thumbnailPath(),
+                            entry.serving(),
+                            scraps.contains(entry.recipeId())))
+                    .toList();
+            return ServerResponse.ok().contentType(MediaType.APPLICATION_JSON).bodyValue(body);
+        }).onErrorResume(IllegalStateException.class, e -> ServerResponse.status(HttpStatus.NOT_FOUND).bodyValue(e.getMessage()));
+    }
+
+    // JWT 검증은 메모리(서명 검증 + 캐시), 폐기 여부가 애매하거나 userid claim 이 없는 예전 토큰만 DB 확인
+    private Mono<ServerResponse> authenticated(ServerRequest request, Function<Long, Mono<ServerResponse>> handler) {
+        return currentUserId(request)
+                .flatMap(handler)
+                .switchIfEmpty(Mono.defer(() -> ServerResponse.status(HttpStatus.UNAUTHORIZED).build()));
+    }
+
+    private Mono<Long> currentUserId(ServerRequest request) {
+        String authorization = request.headers().firstHeader(HttpHeaders.AUTHORIZATION);
+        if (authorization == null || !authorization.startsWith("Bearer ")) {
+            return Mono.empty();
+        }
+        VerifiedClaims claims;
+        try {
+            claims = jwtUtil.verify(authorization.substring("Bearer ".length()));
+        } catch (JwtException | IllegalArgumentException e) {
+            return Mono.empty();
+        }
+
+        Mono<Boolean> revoked = tokenRevocationService.mightBeRevoked(claims)
+                ? Mono.fromCallable(() -> tokenRevocationService.isRevoked(claims)).subscribeOn(Schedulers.boundedElastic())
+                : Mono.just(false);
+        return revoked.flatMap(isRevoked -> {
+            if (isRevoked) {
+                return Mono.empty();
+            }
+            if (claims.userId() != null) {
+                return Mono.just(claims.userId());
+            }
+            return Mono.fromCallable(() -> userService.findUserIdByUsername(claims.username()))
+                    .subscribeOn(Schedulers.boundedElastic())
+                    .onErrorResume(IllegalArgumentException.class, e -> Mono.empty());
+        });
+    }
+
+    private Mono<List<String>> allergyIngredients(Long userId) {
+        List<String> cached = allergyProfileCache.getCachedAllergyIngredients(userId);
+        if (cached != null) {
+            return Mono.just(cached);
+        }
+        return Mono.fromCallable(() -> allergyProfileCache.getAllergyIngredients(userId))
+                .subscribeOn(Schedulers.boundedElastic());
+    }
+
+    // 조회수 증가는 응답을 기다리게 하지 않는다
+    private void increaseViewCount(Long recipeId) {
+        Mono.fromRunnable(() -> recipeStatsService.increaseViewCount(recipeId))
+                .subscribeOn(Schedulers.boundedElastic())
+                .subscribe(null, e -> log.warn("View count update failed for recipe {}: {}", recipeId, e.getMessage()));
+    }
+
+    private static boolean filter(ServerRequest request) {
+        return request.queryParam("filter").map(Boolean::parseBoolean).orElse(false);
+    }
+}
@@ -4,20 +4,23 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 
+import com.ReciGuard.SecurityConfig.CurrentUser;
+import com.ReciGuard.dto.ImageUploadIntentRequestDTO;
 import com.ReciGuard.dto.MyRecipeForm;
 import com.ReciGuard.dto.MyRecipeFormEdit;
 import com.ReciGuard.dto.RecipeDetailResponseDTO;
 import com.ReciGuard.dto.RecipeListResponseDTO;
 import com.ReciGuard.dto.RecipeRecommendResponseDTO;
+import com.ReciGuard.service.ImageUploadIntentService;
 import com.ReciGuard.service.RecipeService;
 import com.ReciGuard.service.RecipeStatsService;
 import com.ReciGuard.service.UserScrapService;
-import com.ReciGuard.service.UserService;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -35,22 +38,17 @@ public class RecipeController {
     private final RecipeService recipeService;
     private final RecipeStatsService recipeStatsService;
     private final UserScrapService userScrapService;
-    private final UserService userService;
+    private final ImageUploadIntentService imageUploadIntentService;
 
     // 오늘의 추천 레시피
     @GetMapping("/recommend")
-    public RecipeRecommendResponseDTO getTodayRecipe() {
-        String username = SecurityContextHolder.getContext().getAuthentication().getName();
-        Long userId = userService.findUserIdByUsername(username);
-
+    public RecipeRecommendResponseDTO getTodayRecipe(@CurrentUser Long userId) {
         return recipeService.getTodayRecipe(userId);
     }
 
     // 전체 레시피 리스트
     @GetMapping("/all")
-    public List<RecipeListResponseDTO> getRecipes(@RequestParam(required = false, defaultValue = "false") boolean filter) {
-        String username = SecurityContextHolder.getContext().getAuthentication().getName();
-        Long userId = userService.findUserIdByUsername(username);
+    public List<RecipeListResponseDTO> getRecipes(@RequestParam(required = false, defaultValue = "false") boolean filter, @CurrentUser Long userId) {
         if (filter) {
             return recipeService.getAllFilteredRecipes(userId);
         }
@@ -61,9 +59,7 @@ public class RecipeController {
     @GetMapping
     public List<RecipeListResponseDTO> getRecipesByCuisine(
             @RequestParam String cuisine,
-            @RequestParam(required = false, defaultValue = "false") boolean filter) {
-        String username = SecurityContextHolder.getContext().getAuthentication().getName();
-        Long userId = userService.findUserIdByUsername(username);
+            @RequestParam(required = false, defaultValue = "false") boolean filter, @CurrentUser Long userId) {
         if (filter) {
             return recipeService.getFilteredRecipesByCuisine(userId, cuisine);
         }
@@ -74,46 +70,86 @@ public class RecipeController {
     @GetMapping("/search")
     public List<RecipeListResponseDTO> getRecipesByQuery(
             @RequestParam String query,
-            @RequestParam(required = false, defaultValue = "false") boolean filter) {
-        String username = SecurityContextHolder.getContext().getAuthentication().getName();
-        Long userId = userService.findUserIdByUsername(username);
+            @RequestParam(required = false, defaultValue = "false") boolean filter, @CurrentUser Long userId) {
         if (filter) {
             return recipeService.getFilteredRecipesByQuery(userId, query);
         }
         return recipeService.getRecipesByQuery(userId, query);
     }
 
+    // 리스트 화면의 유사 알레르기 뱃지 정보
+    @GetMapping("/allergy-hints")
+    public Map<Long, List<String>> getAllergyHints(@RequestParam List<Long> recipeIds, @CurrentUser Long userId) {
+        return recipeService.getAllergyHints(recipeIds, userId);
+    }
+
     // 레시피 상세 페이지
     @GetMapping("/{recipeId}")
-    public RecipeDetailResponseDTO getRecipeDetail(@PathVariable Long recipeId) {
+    public RecipeDetailResponseDTO getRecipeDetail(@PathVariable Long recipeId, @CurrentUser Long userId) {
         log.info("Received recipeId: {}", recipeId);
-        String username = SecurityContextHolder.getContext().getAuthentication().getName();
-        Long userId = userService.findUserIdByUsername(username);
         recipeStatsService.increaseViewCount(recipeId); // viewCount 증가
 
         return recipeService.getRecipeDetail(recipeId, userId);
     }
 
+    // 재료 구성이 비슷한 레시피 (알레르기 재료 포함 레시피 제외)
+    @GetMapping("/{recipeId}/similar")
+    public List<RecipeListResponseDTO> getSimilarRecipes(@PathVariable Long recipeId, @CurrentUser Long userId) {
+        return recipeService.getSimilarRecipes(recipeId, userId);
+    }
+
+    // 이 레시피를 스크랩한 사람들이 함께 스크랩한 레시피
+    @GetMapping("/{recipeId}/also-scrapped")
+    public List<RecipeListResponseDTO> getAlsoScrappedRecipes(@PathVariable Long recipeId, @CurrentUser Long userId) {
+        return recipeService.getAlsoScrappedRecipes(recipeId, userId);
+    }
+
+    // 스크랩 기반 개인화 추천 레시피
+    @GetMapping("/recommend/scrap")
+    public List<RecipeListResponseDTO> getScrapBasedRecommendations(@CurrentUser Long userId) {
+        return recipeService.getScrapBasedRecommendations(userId);
+    }
+
     // 하트 버튼 눌러서 레시피 스크랩 (등록/수정)
     @PostMapping("/scrap/{recipeId}")
-    public ResponseEntity<String> toggleScrap(@PathVariable Long recipeId) {
-        String username = SecurityContextHolder.getContext().getAuthentication().getName();
-        Long userId = userService.findUserIdByUsername(username);
+    public ResponseEntity<String> toggleScrap(@PathVariable Long recipeId, @CurrentUser Long userId) {
+        try {
+            boolean isScrapped = userScrapService.toggleScrap(userId, recipeId);
+            String message = isScrapped
+                    ? "레시피가 성공적으로 스크랩되었습니다."
+                    : "레시피가 스크랩 취소 되었습니다.";
+
+            return ResponseEntity.ok(message);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
+    }
 
-        boolean isScrapped = userScrapService.toggleScrap(userId, recipeId);
-        String message = isScrapped
-                ? "레시피가 성공적으로 스크랩되었습니다."
-                : "레시피가 스크랩 취소 되었습니다.";
+    // 레시피 스크랩 (멱등, 여러 번 보내도 결과는 스크랩된 상태)
+    @PutMapping("/{recipeId}/scrap")
+    public ResponseEntity<String> addScrap(@PathVariable Long recipeId, @CurrentUser Long userId) {
+        try {
+            boolean added = userScrapService.addScrap(userId, recipeId);
+            return ResponseEntity.ok(added
+                    ? "레시피가 성공적으로 스크랩되었습니다."
+                    : "이미 스크랩된 레시피입니다.");
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
+    }
 
-        return ResponseEntity.ok(message);
+    // 레시피 스크랩 취소 (멱등, 여러 번 보내도 결과는 해제된 상태)
+    @DeleteMapping("/{recipeId}/scrap")
+    public ResponseEntity<String> removeScrap(@PathVariable Long recipeId, @CurrentUser Long userId) {
+        boolean removed = userScrapService.removeScrap(userId, recipeId);
+        return ResponseEntity.ok(removed
+                ? "레시피가 스크랩 취소 되었습니다."
+                : "스크랩되지 않은 레시피입니다.");
     }
 
     // 나만의 레시피 조회 (간단 리스트 조회)
     @GetMapping("/myrecipes")
-    public List<RecipeListResponseDTO> getMyRecipes() {
-        String username = SecurityContextHolder.getContext().getAuthentication().getName();
-        Long userId = userService.findUserIdByUsername(username);
-
+    public List<RecipeListResponseDTO> getMyRecipes(@CurrentUser Long userId) {
         return recipeService.findMyRecipes(userId);
     }
 
@@ -123,7 +159,8 @@ public class RecipeController {
             @RequestPart("recipeForm") String recipeFormJson,
             @RequestPart(value = "recipeImage", required = false) MultipartFile recipeImage,
             @RequestPart(value = "instructionImageFiles", required = false) Map<String, MultipartFile> instructionImageFiles,
-            HttpServletRequest request) {
+            HttpServletRequest request,
+            @CurrentUser Long userId) {
 
         // instructionImageFiles 확인
         log.info("Received instructionImageFiles: {}", instructionImageFiles);
@@ -155,17 +192,41 @@ public class RecipeController {
         log.info("Received instructionImageFiles: {}", instructionImageFiles);
 
         // Recipe 저장 서비스 호출
-        recipeService.saveMyRecipe(recipeForm, recipeImage, instructionImageFiles, request);
+        try {
+            recipeService.saveMyRecipe(userId, recipeForm, recipeImage, instructionImageFiles, request);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
 
         return ResponseEntity.ok("레시피가 성공적으로 등록되었습니다.");
     }
 
+    // 이미지 직접 업로드 준비 (presigned PUT URL 발급)
+    @PostMapping("/images/upload-intents")
+    public ResponseEntity<?> createImageUploadIntents(@RequestBody ImageUploadIntentRequestDTO request) {
+        try {
+            return ResponseEntity.ok(imageUploadIntentService.createIntents(request));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.NOT_IMPLEMENTED).body(e.getMessage());
+        }
+    }
+
+    // 나만의 레시피 저장 (이미지는 직접 업로드 후 imageKey / instructionImageKeys 로 전달)
+    @PostMapping(value = "/myrecipe/save", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<String> saveMyRecipeWithImageKeys(@RequestBody MyRecipeForm recipeForm, @CurrentUser Long userId) {
+        try {
+            recipeService.saveMyRecipe(userId, recipeForm, null, null, null);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
+        return ResponseEntity.ok("레시피가 성공적으로 등록되었습니다.");
+    }
+
     // 나만의 레시피 수정 폼
     @GetMapping("/myrecipe/{recipeId}/edit")
-    public MyRecipeForm UpdateMyRecipeForm(@PathVariable Long recipeId) {
-        String username = SecurityContextHolder.getContext().getAuthentication().getName();
-        Long userId = userService.findUserIdByUsername(username);
-
+    public MyRecipeForm UpdateMyRecipeForm(@PathVariable Long recipeId, @CurrentUser Long userId) {
         return recipeService.getRecipeFormEdit(recipeId, userId);
     }
 
@@ -194,6 +255,17 @@ public class RecipeController {
         }
     }
 
+    // 나만의 레시피 수정 (이미지는 직접 업로드 후 imageKey / instructionImageKeys 로 전달)
+    @PostMapping(value = "/myrecipe/{recipeId}/edit", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<String> updateMyRecipeWithImageKeys(@PathVariable Long recipeId, @RequestBody MyRecipeFormEdit recipeForm) {
+        try {
+            recipeService.updateMyRecipe(recipeId, recipeForm, null, null, null);
+            return ResponseEntity.ok("레시피가 수정되었습니다.");
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
+    }
+
     @DeleteMapping("/myrecipe/{recipeId}/delete")
     public ResponseEntity<String> deleteMyRecipe(@PathVariable Long recipeId){
         recipeService.deleteMyRecipe(recipeId);
@@ -1,4 +1,5 @@
 package com.ReciGuard.controller;
+import com.ReciGuard.SecurityConfig.CurrentUser;
 import com.ReciGuard.SecurityConfig.UserPrincipal;
 import com.ReciGuard.dto.*;
 import com.ReciGuard.entity.Ingredient;
@@ -35,12 +36,9 @@ public class UserController {
 
     //회원정보 조회
     @GetMapping("/{userid}")
-    public ResponseEntity<?> getUserInfo(@PathVariable Long userid) {
-        String username = SecurityContextHolder.getContext().getAuthentication().getName();
-
+    public ResponseEntity<?> getUserInfo(@PathVariable Long userid, @CurrentUser Long findUserId) {
         try {
             // 서비스 호출
-            Long findUserId = userService.findUserIdByUsername(username);
             if (!findUserId.equals(userid))
                 return ResponseEntity.status(HttpStatus.FORBIDDEN).body("권한이 없습니다");
 
@@ -53,11 +51,9 @@ public class UserController {
 
     //회원 탈퇴
     @DeleteMapping("/{userid}")
-    public ResponseEntity<String> deleteUser(@PathVariable Long userid) {
+    public ResponseEntity<String> deleteUser(@PathVariable Long userid, @CurrentUser Long findUserId) {
         // 본인 확인 (id와 인증된 사용자 비교)
-        String username = SecurityContextHolder.getContext().getAuthentication().getName();
         try {
-            Long findUserId = userService.findUserIdByUsername(username);
             if (!findUserId.equals(userid))
                 return ResponseEntity.status(HttpStatus.FORBIDDEN).body("권한이 없습니다");
             userService.deleteUser(userid);
@@ -93,36 +89,34 @@ public class UserController {
 
     //스크랩 레시피 찾기
     @GetMapping("/scraps")
-    public List<ScrapRecipeDTO> getUserScrappedRecipes(){
-        String username = SecurityContextHolder.getContext().getAuthentication().getName();
-        Long userId = userService.findUserIdByUsername(username);
-
+    public List<ScrapRecipeDTO> getUserScrappedRecipes(@CurrentUser Long userId){
         return userScrapService.getScrappedRecipesByUser(userId);
     }
 
     @PutMapping("/info/{userid}")
-    public ResponseEntity<?> updateUserInfo(@Valid @RequestBody UserUpdateDTO.Request userDTO, @PathVariable Long userid, BindingResult bindingResult) {
+    public ResponseEntity<?> updateUserInfo(@Valid @RequestBody UserUpdateDTO.Request userDTO, @PathVariable Long userid, BindingResult bindingResult,
+                                            @CurrentUser Long findUserId) {
         if (bindingResult.hasErrors()) {
             return ResponseEntity.status(HttpStatus.BAD_REQUEST)
                     .body(bindingResult.getFieldError().getDefaultMessage());
         }
         String username = SecurityContextHolder.getContext().getAuthentication().getName();
-        Long findUserId = userService.findUserIdByUsername(username);
         if (!userid.equals(findUserId)) {
             return ResponseEntity.status(HttpStatus.FORBIDDEN).body("권한이 없습니다");
 
         }
         userDTO.setUsername(username);
-        userService.updateUserInfo(userDTO);
+        try {
+            userService.updateUserInfo(userDTO);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
         return ResponseEntity.ok(userDTO);
     }
     @GetMapping("/info/{userid}")
-    public ResponseEntity<?> updateGetUserInfo(@PathVariable Long userid) {
-        String username = SecurityContextHolder.getContext().getAuthentication().getName();
-
+    public ResponseEntity<?> updateGetUserInfo(@PathVariable Long userid, @CurrentUser Long findUserId) {
         try {
             // 서비스 호출
-            Long findUserId = userService.findUserIdByUsername(username);
             if (!findUserId.equals(userid))
                 return ResponseEntity.status(HttpStatus.FORBIDDEN).body("권한이 없습니다");
 
@@ -0,0 +1,26 @@
+package com.ReciGuard.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+// 직접 업로드할 이미지 목록 (hash: 클라이언트가 계산한 SHA-256, URL-safe Base64 패딩 없음)
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ImageUploadIntentRequestDTO {
+
+    private List<Image> images;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Image {
+        private String hash;
+        private String extension;
+        private String contentType;
+        private long size;
+    }
+}
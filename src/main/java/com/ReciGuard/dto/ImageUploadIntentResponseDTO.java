@@ -0,0 +1,27 @@
+package com.ReciGuard.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.Map;
+
+// uploaded 가 true 면 이미 같은 내용이 있으므로 업로드 없이 key 만 레시피 저장에 사용
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ImageUploadIntentResponseDTO {
+
+    private List<Intent> intents;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Intent {
+        private String key;
+        private boolean uploaded;
+        private String uploadUrl;
+        private Map<String, String> uploadHeaders;
+    }
+}
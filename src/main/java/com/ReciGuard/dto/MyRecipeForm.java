@@ -4,6 +4,7 @@ import lombok.Getter;
 import lombok.Setter;
 
 import java.util.List;
+import java.util.Map;
 
 @Getter @Setter
 public class MyRecipeForm {
@@ -18,4 +19,8 @@ public class MyRecipeForm {
     private List<IngredientResponseDTO> ingredients; // 재료 정보
     private List<InstructionResponseDTO> instructions; // 조리 단계 정보
 
+    // 직접 업로드(upload-intents)한 이미지의 object key
+    private String imageKey;                         // 메인 이미지
+    private Map<Integer, String> instructionImageKeys; // instructionId -> 단계 이미지
+
 }
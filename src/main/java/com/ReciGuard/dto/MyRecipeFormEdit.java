@@ -5,6 +5,7 @@ import lombok.Setter;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.util.List;
+import java.util.Map;
 
 @Getter @Setter
 public class MyRecipeFormEdit {
@@ -21,6 +22,10 @@ public class MyRecipeFormEdit {
     private List<IngredientResponseDTO> ingredients; // 재료 정보
     private List<InstructionRequestDTO> instructions; // 조리 단계 정보
 
+    // 직접 업로드(upload-intents)한 이미지의 object key
+    private String imageKey;                         // 새 메인 이미지
+    private Map<Integer, String> instructionImageKeys; // instructionId -> 새 단계 이미지
+
 
     public boolean hasNewImage() {
         return newImageFile != null && !newImageFile.isEmpty();
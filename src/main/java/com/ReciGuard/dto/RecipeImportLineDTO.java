@@ -0,0 +1,29 @@
+package com.ReciGuard.dto;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+// JSON Lines import 의 한 줄 (레시피 1개)
+@Getter @Setter
+@NoArgsConstructor
+public class RecipeImportLineDTO {
+    private String recipeName;
+    private String imagePath;
+    private int serving;
+    private String cuisine;
+    private String foodType;
+    private String cookingStyle;
+
+    private List<IngredientResponseDTO> ingredients;
+    private List<InstructionResponseDTO> instructions; // instructionId 가 없으면 순서대로 1부터
+
+    // 영양 정보 (모두 없으면 Nutrition 행을 만들지 않음)
+    private Double calories;
+    private Double sodium;
+    private Double carbohydrate;
+    private Double fat;
+    private Double protein;
+}
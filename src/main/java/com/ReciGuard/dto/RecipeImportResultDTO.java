@@ -0,0 +1,17 @@
+package com.ReciGuard.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+public class RecipeImportResultDTO {
+    private String importId;
+    private long importedCount; // 누적 (이전 요청에서 커밋된 것 포함)
+    private long failedCount;
+    private long lastLine;
+    private boolean completed;
+    private List<String> errors; // 이번 요청에서 건너뛴 줄 (최대 100개)
+}
@@ -7,14 +7,16 @@ import lombok.Setter;
 public class RecipeListResponseDTO { //전체 리스트, cuisine 별 리스트, 검색 후 리스트
     private Long recipeId;
     private String imagePath;
+    private String thumbnailUrl;
     private String recipeName;
     private int serving;
     private boolean scrapped;
 
-    public RecipeListResponseDTO(Long recipeId, String recipeName, String imagePath, int serving, boolean scrapped) {
+    public RecipeListResponseDTO(Long recipeId, String recipeName, String imagePath, String thumbnailUrl, int serving, boolean scrapped) {
         this.recipeId = recipeId;
         this.recipeName = recipeName;
         this.imagePath = imagePath;
+        this.thumbnailUrl = thumbnailUrl != null ? thumbnailUrl : imagePath; // 썸네일이 아직 없으면 원본
         this.serving = serving;
         this.scrapped = scrapped;
     }
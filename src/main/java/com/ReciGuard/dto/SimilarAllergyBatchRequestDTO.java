@@ -0,0 +1,31 @@
+package com.ReciGuard.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SimilarAllergyBatchRequestDTO {
+
+    @JsonProperty("items")
+    private List<Item> items;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Item {
+
+        @JsonProperty("recipe_id")
+        private Long recipeId;
+
+        @JsonProperty("user_id")
+        private Long userId;
+    }
+}
@@ -0,0 +1,34 @@
+package com.ReciGuard.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SimilarAllergyBatchResponseDTO {
+
+    @JsonProperty("results")
+    private List<Result> results;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Result {
+
+        @JsonProperty("recipe_id")
+        private Long recipeId;
+
+        @JsonProperty("user_id")
+        private Long userId;
+
+        @JsonProperty("ingredients")
+        private List<String> similarIngredient;
+    }
+}
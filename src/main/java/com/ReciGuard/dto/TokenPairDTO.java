@@ -0,0 +1,12 @@
+package com.ReciGuard.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 짧은 access 토큰 + 재발급용 refresh 토큰
+@Getter
+@AllArgsConstructor
+public class TokenPairDTO {
+    private String accessToken;
+    private String refreshToken;
+}
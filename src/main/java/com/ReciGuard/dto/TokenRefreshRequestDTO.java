@@ -0,0 +1,10 @@
+package com.ReciGuard.dto;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+public class TokenRefreshRequestDTO {
+    private String refreshToken;
+}
@@ -55,6 +55,10 @@ public class UserResponseDTO {
         @JsonProperty("ingredients")
         private List<String> ingredients;
 
+        // 로그인 결과로만 채워짐 (요청 본문에서는 받지 않고, toEntity 에도 넣지 않는다)
+        @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+        private String role;
+
         /* DTO -> Entity */
         public User toEntity() {
             User user = User.builder()
@@ -110,6 +114,7 @@ public class UserResponseDTO {
                 .age(userEntity.getAge())
                 .weight(userEntity.getWeight())
                 .email(userEntity.getEmail())  // 비밀번호 제외
+                .role(userEntity.getRole())
                 .build();
     }
 
@@ -103,15 +103,9 @@ public class UserUpdateDTO {
             this.weight = user.getWeight();
             this.createdAt = user.getCreatedAt();
             this.updatedAt = user.getUpdatedAt();
-            this.userCookingStyle = user.getCookingStyles().stream()
-                    .map(UserCookingStyle::getCookingsStyle)  // UserCookingStyle에서 필요한 속성만 추출
-                    .collect(Collectors.toList());
-            this.userFoodType = user.getFoodTypes().stream()
-                    .map(UserFoodType::getFoodType)
-                    .collect(Collectors.toList());
-            this.userCuisine = user.getCuisines().stream()
-                    .map(UserCuisine::getCuisine)
-                    .collect(Collectors.toList());
+            this.userCookingStyle = user.getCookingStyles();
+            this.userFoodType = user.getFoodTypes();
+            this.userCuisine = user.getCuisines();
         }
     }
     //dto로 변경
@@ -0,0 +1,31 @@
+package com.ReciGuard.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+// 해시 기반으로 공유되는 S3 object 의 참조 수 (0이 되고 유예 시간이 지나면 sweeper 가 삭제)
+@Entity
+@Getter @Setter
+@NoArgsConstructor
+@Table(name = "image_reference")
+public class ImageReference {
+    @Id
+    @Column(name = "object_key")
+    private String objectKey;
+
+    @Column(name = "ref_count", nullable = false)
+    private int refCount;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    public ImageReference(String objectKey, int refCount) {
+        this.objectKey = objectKey;
+        this.refCount = refCount;
+        this.updatedAt = LocalDateTime.now();
+    }
+}
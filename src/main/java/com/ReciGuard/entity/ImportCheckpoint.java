@@ -0,0 +1,40 @@
+package com.ReciGuard.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+// 대량 import 진행 위치 (청크 커밋과 같은 트랜잭션에서 갱신 -> 중단 후 같은 importId 로 다시 보내면 이어서 처리)
+@Entity
+@Getter @Setter
+@NoArgsConstructor
+@Table(name = "import_checkpoint")
+public class ImportCheckpoint {
+    @Id
+    @Column(name = "import_id")
+    private String importId;
+
+    // 마지막으로 커밋된 줄 번호 (1부터)
+    @Column(name = "line_number", nullable = false)
+    private long lineNumber;
+
+    @Column(name = "imported_count", nullable = false)
+    private long importedCount;
+
+    @Column(name = "failed_count", nullable = false)
+    private long failedCount;
+
+    @Column(nullable = false)
+    private boolean completed;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    public ImportCheckpoint(String importId) {
+        this.importId = importId;
+        this.updatedAt = LocalDateTime.now();
+    }
+}
@@ -11,6 +11,7 @@ import java.util.List;
 @Entity
 @Getter @Setter
 @NoArgsConstructor
+@Table(uniqueConstraints = @UniqueConstraint(name = "uk_ingredient_name", columnNames = "ingredient"))
 public class Ingredient {
     @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
     @Column(name = "ingredient_id")
@@ -10,8 +10,10 @@ import lombok.Setter;
 @Getter @Setter
 @NoArgsConstructor
 public class Instruction {
-    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
-    @Column(name = "recipe_instruction_id")
+    @Id @GeneratedValue(strategy = GenerationType.TABLE, generator = "instruction_id")
+    @TableGenerator(name = "instruction_id", table = "id_generator", pkColumnName = "sequence_name", valueColumnName = "next_val",
+            pkColumnValue = "instruction", allocationSize = 50)
+    @Column(name = "recipe_instruction_id", columnDefinition = "bigint auto_increment")
     private Long id;
 
     @Column(name = "instruction_id")
@@ -25,6 +27,10 @@ public class Instruction {
     @Column(name = "instruction_image")
     private String instructionImage;
 
+    // 이미지 내용의 SHA-256 (S3 object key 와 같은 값)
+    @Column(name = "instruction_image_hash")
+    private String instructionImageHash;
+
     @Lob
     private String  instruction;
 
@@ -9,8 +9,10 @@ import lombok.Setter;
 @Getter @Setter
 @NoArgsConstructor
 public class Nutrition {
-    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
-    @Column(name = "nutrition_id")
+    @Id @GeneratedValue(strategy = GenerationType.TABLE, generator = "nutrition_id")
+    @TableGenerator(name = "nutrition_id", table = "id_generator", pkColumnName = "sequence_name", valueColumnName = "next_val",
+            pkColumnValue = "nutrition", allocationSize = 50)
+    @Column(name = "nutrition_id", columnDefinition = "bigint auto_increment")
     private Long id;
 
     @OneToOne(fetch = FetchType.LAZY, cascade = CascadeType.ALL)
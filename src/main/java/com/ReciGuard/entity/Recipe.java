@@ -12,8 +12,11 @@ import java.util.List;
 @Getter @Setter
 @NoArgsConstructor
 public class Recipe {
-    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
-    @Column(name = "recipe_id")
+    // IDENTITY 는 INSERT 배치를 막으므로 테이블 기반 pooled 할당 (시드 데이터용 auto_increment 는 유지)
+    @Id @GeneratedValue(strategy = GenerationType.TABLE, generator = "recipe_id")
+    @TableGenerator(name = "recipe_id", table = "id_generator", pkColumnName = "sequence_name", valueColumnName = "next_val",
+            pkColumnValue = "recipe", allocationSize = 50)
+    @Column(name = "recipe_id", columnDefinition = "bigint auto_increment")
     private Long id;
 
     @ManyToOne(fetch = FetchType.EAGER)
@@ -24,6 +27,14 @@ public class Recipe {
     @Column(name = "image_path")
     private String imagePath;
 
+    // 이미지 내용의 SHA-256 (S3 object key 와 같은 값)
+    @Column(name = "image_hash")
+    private String imageHash;
+
+    // 목록 화면용 썸네일 (비동기 생성 완료 후 채워짐)
+    @Column(name = "thumbnail_path")
+    private String thumbnailPath;
+
     @Column(name = "recipe_name")
     private String recipeName;
 
@@ -10,8 +10,10 @@ import lombok.Setter;
 @Getter @Setter
 @NoArgsConstructor
 public class RecipeIngredient {
-    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
-    @Column(name = "recipe_ingredient_id")
+    @Id @GeneratedValue(strategy = GenerationType.TABLE, generator = "recipe_ingredient_id")
+    @TableGenerator(name = "recipe_ingredient_id", table = "id_generator", pkColumnName = "sequence_name", valueColumnName = "next_val",
+            pkColumnValue = "recipe_ingredient", allocationSize = 50)
+    @Column(name = "recipe_ingredient_id", columnDefinition = "bigint auto_increment")
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -12,8 +12,10 @@ import java.util.Date;
 @Getter @Setter
 @NoArgsConstructor
 public class RecipeStats {
-    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
-    @Column(name = "stats_id")
+    @Id @GeneratedValue(strategy = GenerationType.TABLE, generator = "recipe_stats_id")
+    @TableGenerator(name = "recipe_stats_id", table = "id_generator", pkColumnName = "sequence_name", valueColumnName = "next_val",
+            pkColumnValue = "recipe_stats", allocationSize = 50)
+    @Column(name = "stats_id", columnDefinition = "bigint auto_increment")
     private Long id;
 
     @OneToOne(fetch = FetchType.LAZY, cascade = CascadeType.ALL)
@@ -0,0 +1,43 @@
+package com.ReciGuard.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+// 재발급(refresh) 토큰, 원문 대신 SHA-256 digest 만 저장
+// 한 번 쓰면 used 로 바뀌고 같은 family 의 새 토큰이 발급된다 (used 토큰이 다시 오면 탈취로 보고 family 전체 폐기)
+@Entity
+@Getter @Setter
+@NoArgsConstructor
+@Table(name = "refresh_token", indexes = @Index(name = "idx_refresh_token_user", columnList = "user_id"))
+public class RefreshToken {
+    @Id
+    @Column(name = "token_hash", length = 64)
+    private String tokenHash;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "family_id", nullable = false, length = 36)
+    private String familyId;
+
+    @Column(nullable = false)
+    private boolean used;
+
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    public RefreshToken(String tokenHash, Long userId, String familyId, LocalDateTime expiresAt) {
+        this.tokenHash = tokenHash;
+        this.userId = userId;
+        this.familyId = familyId;
+        this.expiresAt = expiresAt;
+        this.createdAt = LocalDateTime.now();
+    }
+}
@@ -0,0 +1,36 @@
+package com.ReciGuard.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+// 만료 전에 폐기된 access 토큰 (로그아웃: jti 단위, 비밀번호 변경/탈퇴: user 단위로 revoked_at 이전 발급분 전체)
+// access 토큰이 어차피 만료되는 expires_at 이 지나면 삭제
+@Entity
+@Getter @Setter
+@NoArgsConstructor
+@Table(name = "revoked_token")
+public class RevokedToken {
+    @Id
+    @Column(name = "token_id", length = 64)
+    private String tokenId; // jti 또는 "user:{userId}"
+
+    @Column(name = "user_id")
+    private Long userId; // user 단위 폐기인 경우만
+
+    @Column(name = "revoked_at", nullable = false)
+    private LocalDateTime revokedAt;
+
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+
+    public RevokedToken(String tokenId, Long userId, LocalDateTime revokedAt, LocalDateTime expiresAt) {
+        this.tokenId = tokenId;
+        this.userId = userId;
+        this.revokedAt = revokedAt;
+        this.expiresAt = expiresAt;
+    }
+}
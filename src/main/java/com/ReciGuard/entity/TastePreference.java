@@ -0,0 +1,55 @@
+package com.ReciGuard.entity;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+// 사용자 취향(요리 종류/음식 분류/조리 방식)의 값 사전 -> users 테이블의 bitmask 컬럼으로 저장
+// 값의 순서가 곧 bit 위치이므로 새 값은 반드시 끝에만 추가한다
+public enum TastePreference {
+    CUISINE("한식", "양식", "일식", "중식", "아시안", "기타"),
+    FOOD_TYPE("밥", "국", "찌개", "반찬", "면", "후식", "기타"),
+    COOKING_STYLE("끓이기", "굽기", "볶기", "찌기", "튀기기", "기타");
+
+    private final List<String> values;
+
+    TastePreference(String... values) {
+        this.values = List.of(values);
+    }
+
+    // 값 하나의 bit (사전에 없으면 0)
+    public int bitOf(String value) {
+        int index = value != null ? values.indexOf(value) : -1;
+        return index >= 0 ? 1 << index : 0;
+    }
+
+    public int encode(Collection<String> selected) {
+        int mask = 0;
+        if (selected == null) {
+            return mask;
+        }
+        for (String value : selected) {
+            int bit = bitOf(value);
+            if (bit == 0) {
+                throw new IllegalArgumentException("지원하지 않는 선호 항목입니다: " + value);
+            }
+            mask |= bit;
+        }
+        return mask;
+    }
+
+    public List<String> decode(int mask) {
+        List<String> selected = new ArrayList<>();
+        for (int i = 0; i < values.size(); i++) {
+            if ((mask & (1 << i)) != 0) {
+                selected.add(values.get(i));
+            }
+        }
+        return selected;
+    }
+
+    // 레시피 값이 사용자 선호에 포함되는지
+    public boolean matches(int mask, String value) {
+        return (mask & bitOf(value)) != 0;
+    }
+}
@@ -41,14 +41,15 @@ public class User {
     @Column
     private String role;
 
-    @OneToMany(mappedBy = "user", cascade = CascadeType.ALL, orphanRemoval = true)
-    private List<UserCuisine> cuisines;
+    // 취향은 TastePreference 사전 순서의 bitmask
+    @Column(name = "cuisine_mask", nullable = false, columnDefinition = "integer default 0")
+    private int cuisineMask;
 
-    @OneToMany(mappedBy = "user", cascade = CascadeType.ALL, orphanRemoval = true)
-    private List<UserFoodType> foodTypes;
+    @Column(name = "food_type_mask", nullable = false, columnDefinition = "integer default 0")
+    private int foodTypeMask;
 
-    @OneToMany(mappedBy = "user", cascade = CascadeType.ALL, orphanRemoval = true)
-    private List<UserCookingStyle> cookingStyles;
+    @Column(name = "cooking_style_mask", nullable = false, columnDefinition = "integer default 0")
+    private int cookingStyleMask;
 
     @Builder.Default
     @OneToMany(mappedBy = "user", cascade = CascadeType.ALL, orphanRemoval = true)
@@ -77,6 +78,31 @@ public class User {
         this.updatedAt = LocalDateTime.now();
     }
 
+    public void updateTastes(List<String> cuisines, List<String> foodTypes, List<String> cookingStyles) {
+        this.cuisineMask = TastePreference.CUISINE.encode(cuisines);
+        this.foodTypeMask = TastePreference.FOOD_TYPE.encode(foodTypes);
+        this.cookingStyleMask = TastePreference.COOKING_STYLE.encode(cookingStyles);
+    }
+
+    public List<String> getCuisines() {
+        return TastePreference.CUISINE.decode(cuisineMask);
+    }
+
+    public List<String> getFoodTypes() {
+        return TastePreference.FOOD_TYPE.decode(foodTypeMask);
+    }
+
+    public List<String> getCookingStyles() {
+        return TastePreference.COOKING_STYLE.decode(cookingStyleMask);
+    }
+
+    // 레시피의 요리 종류/음식 분류/조리 방식 중 취향과 겹치는 수 (0~3)
+    public int tasteScore(Recipe recipe) {
+        return Integer.bitCount(cuisineMask & TastePreference.CUISINE.bitOf(recipe.getCuisine()))
+                + Integer.bitCount(foodTypeMask & TastePreference.FOOD_TYPE.bitOf(recipe.getFoodType()))
+                + Integer.bitCount(cookingStyleMask & TastePreference.COOKING_STYLE.bitOf(recipe.getCookingStyle()));
+    }
+
     public void modify(String password) {
         this.password = password;
     }
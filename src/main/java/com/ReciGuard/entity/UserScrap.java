@@ -10,7 +10,8 @@ import java.time.LocalDateTime;
 @Entity
 @Getter @Setter
 @NoArgsConstructor
-@Table(name = "user_scrap")
+@Table(name = "user_scrap",
+        uniqueConstraints = @UniqueConstraint(name = "uk_user_scrap", columnNames = {"user_id", "recipe_id"}))
 public class UserScrap {
     @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
     @Column(name = "scrap_id")
@@ -0,0 +1,5 @@
+package com.ReciGuard.event;
+
+// 사용자 알레르기 재료 목록이 바뀜 (커밋 후 캐시 무효화용)
+public record AllergyProfileChangedEvent(Long userId) {
+}
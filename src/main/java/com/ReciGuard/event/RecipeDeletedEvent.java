@@ -0,0 +1,5 @@
+package com.ReciGuard.event;
+
+// 레시피가 삭제됨 (커밋 후 메모리 카탈로그에서 바로 제외)
+public record RecipeDeletedEvent(Long recipeId) {
+}
@@ -0,0 +1,64 @@
+package com.ReciGuard.repository;
+
+import com.ReciGuard.entity.ImageReference;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface ImageReferenceRepository extends JpaRepository<ImageReference, String> {
+
+    // 참조 수 증가 (행이 없으면 0, 서비스에서 참조 1로 INSERT)
+    @Modifying
+    @Query("""
+        UPDATE ImageReference r
+        SET r.refCount = r.refCount + 1, r.updatedAt = :now
+        WHERE r.objectKey = :objectKey
+    """)
+    int incrementRefCount(@Param("objectKey") String objectKey, @Param("now") LocalDateTime now);
+
+    // 참조가 없는 경우에만 유예 시간 연장 (행이 없거나 참조 중이면 0)
+    @Modifying
+    @Query("""
+        UPDATE ImageReference r
+        SET r.updatedAt = :now
+        WHERE r.objectKey = :objectKey AND r.refCount = 0
+    """)
+    int touchUnreferenced(@Param("objectKey") String objectKey, @Param("now") LocalDateTime now);
+
+    // 참조 수 감소 (0 밑으로는 내려가지 않음)
+    @Modifying
+    @Query("""
+        UPDATE ImageReference r
+        SET r.refCount = r.refCount - 1, r.updatedAt = :now
+        WHERE r.objectKey = :objectKey AND r.refCount > 0
+    """)
+    int decrementRefCount(@Param("objectKey") String objectKey, @Param("now") LocalDateTime now);
+
+    // 삭제 대상 (참조 0 + 유예 시간 경과), 삭제가 끝날 때까지 행을 잠가서 그 사이 참조 증가를 막는다
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("""
+        SELECT r
+        FROM ImageReference r
+        WHERE r.refCount = 0 AND r.updatedAt < :cutoff
+        ORDER BY r.updatedAt
+    """)
+    List<ImageReference> findUnreferencedForUpdate(@Param("cutoff") LocalDateTime cutoff, Pageable pageable);
+
+    @Modifying
+    @Query("DELETE FROM ImageReference r WHERE r.objectKey IN :objectKeys AND r.refCount = 0")
+    int deleteUnreferenced(@Param("objectKeys") Collection<String> objectKeys);
+
+    // 시작 시 이미 저장된 이미지 key 캐시 재구성용
+    @Query("SELECT r.objectKey FROM ImageReference r")
+    List<String> findAllObjectKeys();
+}
@@ -0,0 +1,20 @@
+package com.ReciGuard.repository;
+
+import com.ReciGuard.entity.ImportCheckpoint;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface ImportCheckpointRepository extends JpaRepository<ImportCheckpoint, String> {
+
+    // 같은 importId 로 동시에 들어온 요청이 같은 청크를 두 번 쓰지 않도록 잠금
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT c FROM ImportCheckpoint c WHERE c.importId = :importId")
+    Optional<ImportCheckpoint> findByIdForUpdate(@Param("importId") String importId);
+}
@@ -14,4 +14,8 @@ public interface IngredientRepository extends JpaRepository<Ingredient, Long> {
     @Query("SELECT i FROM Ingredient i WHERE i.ingredient = :ingredient")
     Optional<Ingredient> findFirstByIngredient(@Param("ingredient") String ingredient);
 
+    // 전체 재료명 조회 -> 재료 유사도 인덱스 구축용
+    @Query("SELECT i.ingredient FROM Ingredient i")
+    List<String> findAllIngredientNames();
+
 }
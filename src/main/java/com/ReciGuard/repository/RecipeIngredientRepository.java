@@ -2,6 +2,24 @@ package com.ReciGuard.repository;
 
 import com.ReciGuard.entity.RecipeIngredient;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
 
 public interface RecipeIngredientRepository extends JpaRepository<RecipeIngredient, Long> {
+
+    // 전체 (recipeId, ingredientId) 쌍 조회 -> MinHash 인덱스 구축용
+    @Query("SELECT ri.recipe.id, ri.ingredient.id FROM RecipeIngredient ri")
+    List<Object[]> findAllRecipeIngredientPairs();
+
+    // 여러 레시피의 (recipeId, 재료명) 조회
+    @Query("""
+        SELECT ri.recipe.id, i.ingredient
+        FROM RecipeIngredient ri
+        JOIN ri.ingredient i
+        WHERE ri.recipe.id IN :recipeIds
+    """)
+    List<Object[]> findIngredientNamesByRecipeIds(@Param("recipeIds") Collection<Long> recipeIds);
 }
@@ -180,4 +180,13 @@ public interface RecipeRepository extends JpaRepository<Recipe, Long> {
     // 사용자가 작성한 나만의 레시피 조회
     @Query("SELECT r FROM Recipe r WHERE r.id = :recipeId AND r.user.id = :userId")
     Optional<Recipe> findRecipeByUserId(@Param("recipeId") Long recipeId, @Param("userId") Long userId);
+
+    // 썸네일 생성 완료 시 같은 이미지를 쓰는 레시피에 썸네일 경로 반영
+    @Modifying
+    @Query("""
+        UPDATE Recipe r
+        SET r.thumbnailPath = :thumbnailPath
+        WHERE r.imageHash = :imageHash
+    """)
+    int updateThumbnailPathByImageHash(@Param("imageHash") String imageHash, @Param("thumbnailPath") String thumbnailPath);
 }
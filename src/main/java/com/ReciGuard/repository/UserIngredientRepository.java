@@ -9,6 +9,7 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -38,4 +39,11 @@ public interface UserIngredientRepository extends JpaRepository<UserIngredient,
     """)
     List<String> findAllergyIngredientsByUserId(@Param("userId") Long userId);
 
+    // 현재 알레르기 재료 id 집합 (프로필 diff 계산용)
+    @Query("SELECT ui.ingredient.id FROM UserIngredient ui WHERE ui.user.id = :userId")
+    List<Long> findIngredientIdsByUserId(@Param("userId") Long userId);
+
+    @Modifying
+    @Query("DELETE FROM UserIngredient ui WHERE ui.user.id = :userId AND ui.ingredient.id IN :ingredientIds")
+    int deleteByUserIdAndIngredientIds(@Param("userId") Long userId, @Param("ingredientIds") Collection<Long> ingredientIds);
 }
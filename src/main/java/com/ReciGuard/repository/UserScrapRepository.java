@@ -20,13 +20,17 @@ public interface UserScrapRepository extends JpaRepository<UserScrap, Long> {
     """)
     boolean existsUserScrap(@Param("userId") Long userId, @Param("recipeId") Long recipeId);
 
-    // 사용자 스크랩 정보 삭제
+    // 사용자 스크랩 정보 삭제 -> 실제로 지워진 행 수 (0 또는 1)
     @Modifying
     @Query("""
         DELETE FROM UserScrap us
         WHERE us.user.id = :userId AND us.recipe.id = :recipeId
     """)
-    void deleteUserScrap(@Param("userId") Long userId, @Param("recipeId") Long recipeId);
+    int deleteUserScrap(@Param("userId") Long userId, @Param("recipeId") Long recipeId);
 
     List<UserScrap> findAllByUser_Userid(Long userId); // 특정 user_id의 모든 스크랩 조회
+
+    // 전체 스크랩 (userId, recipeId) 쌍 조회 -> 스크랩 기반 유사도 모델 구축용
+    @Query("SELECT us.user.userid, us.recipe.id FROM UserScrap us")
+    List<Object[]> findAllScrapPairs();
 }
@@ -0,0 +1,25 @@
+package com.ReciGuard.service;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+// 메모리 인덱스처럼 롤백할 수 없는 변경을 트랜잭션이 커밋된 뒤에만 반영
+// 트랜잭션 밖에서 호출되면 이미 커밋된 상태이므로 바로 실행한다
+public final class AfterCommit {
+
+    private AfterCommit() {
+    }
+
+    public static void run(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
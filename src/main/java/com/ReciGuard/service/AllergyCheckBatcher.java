@@ -0,0 +1,211 @@
+package com.ReciGuard.service;
+
+import com.ReciGuard.dto.SimilarAllergyBatchRequestDTO;
+import com.ReciGuard.dto.SimilarAllergyBatchResponseDTO;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestTemplate;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// check_allergy 호출 micro-batching
+// 몇 ms 동안(또는 maxBatchSize 개가 모일 때까지) 요청을 모아 batch API 한 번으로 보내고 결과를 future 로 돌려준다
+// batch API 호출이 실패하면 빈 리스트로, 전송 대기열이 가득 찼거나 종료 중이면 예외로 완료된다
+@Slf4j
+@Component
+public class AllergyCheckBatcher {
+
+    private static final int QUEUED_BATCHES_PER_SENDER = 2;
+
+    private final RestTemplate restTemplate;
+    private final String batchApiUrl;
+    private final int maxBatchSize;
+    private final long maxDelayMs;
+
+    private final Queue<PendingCheck> pending = new ConcurrentLinkedQueue<>();
+    // 아직 완료되지 않은 모든 future (전송 중인 batch 포함), 종료 시 한 번에 실패 처리
+    private final Set<CompletableFuture<List<String>>> outstanding = ConcurrentHashMap.newKeySet();
+    private volatile boolean closed;
+    private final AtomicInteger pendingCount = new AtomicInteger();
+    private final AtomicBoolean flushScheduled = new AtomicBoolean();
+
+    private final ScheduledExecutorService dispatcher;
+    private final ExecutorService sender;
+    // virtual thread 모드에서만 사용 (platform 모드는 풀 크기와 대기열이 같은 제한을 건다)
+    private final Semaphore admitted;   // 전송 중 + 대기 중인 batch 수 (senders + 대기열)
+    private final Semaphore inFlight;   // 동시에 호출 중인 batch 수 (senders)
+
+    private record PendingCheck(Long recipeId, Long userId, CompletableFuture<List<String>> future) {
+    }
+
+    private record CheckKey(Long recipeId, Long userId) {
+    }
+
+    public AllergyCheckBatcher(RestTemplate restTemplate,
+                               @Value("${reciguard.allergy.batch.url:http://54.180.85.44:8000/check_allergy/batch}") String batchApiUrl,
+                               @Value("${reciguard.allergy.batch.max-size:64}") int maxBatchSize,
+                               @Value("${reciguard.allergy.batch.max-delay-ms:5}") long maxDelayMs,
+                               @Value("${reciguard.allergy.batch.senders:4}") int senders,
+                               @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads) {
+        this.restTemplate = restTemplate;
+        this.batchApiUrl = batchApiUrl;
+        this.maxBatchSize = maxBatchSize;
+        this.maxDelayMs = maxDelayMs;
+        this.dispatcher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "allergy-batch-dispatcher");
+            thread.setDaemon(true);
+            return thread;
+        });
+        // virtual thread 모드: batch 마다 virtual thread 로 전송하되 동시 호출/대기 수는 platform 풀과 같게 제한
+        // 그 외: 전송 스레드와 대기열이 모두 차면 batch 를 바로 실패 처리 (dispatcher 가 직접 보내면 다른 batch flush 가 멈춘다)
+        this.sender = virtualThreads
+                ? Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("allergy-batch-sender-", 0).factory())
+                : new ThreadPoolExecutor(senders, senders, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(senders * QUEUED_BATCHES_PER_SENDER),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "allergy-batch-sender");
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+        this.admitted = virtualThreads ? new Semaphore(senders * (1 + QUEUED_BATCHES_PER_SENDER)) : null;
+        this.inFlight = virtualThreads ? new Semaphore(senders) : null;
+    }
+
+    // (recipeId, userId) 한 쌍의 유사 알레르기 재료 조회 요청
+    public CompletableFuture<List<String>> submit(Long recipeId, Long userId) {
+        PendingCheck check = new PendingCheck(recipeId, userId, new CompletableFuture<>());
+        if (closed) {
+            check.future().completeExceptionally(new RejectedExecutionException("AllergyCheckBatcher is shut down"));
+            return check.future();
+        }
+        outstanding.add(check.future());
+        check.future().whenComplete((result, e) -> outstanding.remove(check.future()));
+        pending.add(check);
+
+        try {
+            if (pendingCount.incrementAndGet() >= maxBatchSize) {
+                dispatcher.execute(this::flush);
+            } else if (flushScheduled.compareAndSet(false, true)) {
+                dispatcher.schedule(this::flush, maxDelayMs, TimeUnit.MILLISECONDS);
+            }
+        } catch (RejectedExecutionException e) {
+            check.future().completeExceptionally(e); // 종료와 겹친 경우
+        }
+        return check.future();
+    }
+
+    private void flush() {
+        // 먼저 플래그를 내려야 drain 이후에 들어온 요청이 다음 flush 를 예약한다
+        flushScheduled.set(false);
+
+        List<PendingCheck> batch = new ArrayList<>(maxBatchSize);
+        PendingCheck check;
+        while ((check = pending.poll()) != null) {
+            pendingCount.decrementAndGet();
+            batch.add(check);
+            if (batch.size() == maxBatchSize) {
+                dispatch(batch);
+                batch = new ArrayList<>(maxBatchSize);
+            }
+        }
+        if (!batch.isEmpty()) {
+            dispatch(batch);
+        }
+    }
+
+    private void dispatch(List<PendingCheck> batch) {
+        if (admitted != null && !admitted.tryAcquire()) {
+            reject(batch, new RejectedExecutionException("Too many allergy batches in flight"));
+            return;
+        }
+        try {
+            sender.execute(admitted != null ? () -> sendLimited(batch) : () -> send(batch));
+        } catch (RejectedExecutionException e) {
+            if (admitted != null) {
+                admitted.release();
+            }
+            reject(batch, e);
+        }
+    }
+
+    // virtual thread 모드: 동시에 호출하는 batch 가 senders 개를 넘지 않도록 대기
+    private void sendLimited(List<PendingCheck> batch) {
+        try {
+            inFlight.acquire();
+            try {
+                send(batch);
+            } finally {
+                inFlight.release();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            reject(batch, new RejectedExecutionException("Interrupted while waiting to send", e));
+        } finally {
+            admitted.release();
+        }
+    }
+
+    private void reject(List<PendingCheck> batch, RejectedExecutionException e) {
+        log.warn("AI 모델 batch 전송 대기열이 가득 참, {} items 실패 처리", batch.size());
+        batch.forEach(check -> check.future().completeExceptionally(e));
+    }
+
+    private void send(List<PendingCheck> batch) {
+        // 같은 (recipeId, userId) 는 한 번만 보낸다
+        Map<CheckKey, List<PendingCheck>> waiting = new LinkedHashMap<>();
+        for (PendingCheck check : batch) {
+            waiting.computeIfAbsent(new CheckKey(check.recipeId(), check.userId()), key -> new ArrayList<>()).add(check);
+        }
+
+        List<SimilarAllergyBatchRequestDTO.Item> items = waiting.keySet().stream()
+                .map(key -> new SimilarAllergyBatchRequestDTO.Item(key.recipeId(), key.userId()))
+                .toList();
+
+        Map<CheckKey, List<String>> results = new HashMap<>();
+        try {
+            ResponseEntity<SimilarAllergyBatchResponseDTO> response = restTemplate.exchange(
+                    batchApiUrl,
+                    HttpMethod.POST,
+                    new HttpEntity<>(new SimilarAllergyBatchRequestDTO(items)),
+                    SimilarAllergyBatchResponseDTO.class
+            );
+            SimilarAllergyBatchResponseDTO body = response.getBody();
+            if (body != null && body.getResults() != null) {
+                for (SimilarAllergyBatchResponseDTO.Result result : body.getResults()) {
+                    results.put(new CheckKey(result.getRecipeId(), result.getUserId()),
+                            result.getSimilarIngredient() != null ? result.getSimilarIngredient() : Collections.emptyList());
+                }
+            }
+            log.info("AI 모델 batch 응답: {} / {} items", results.size(), items.size());
+        } catch (Exception e) {
+            log.error("AI 모델 batch 호출 실패 ({} items): {}", items.size(), e.getMessage());
+        }
+
+        waiting.forEach((key, checks) -> {
+            List<String> ingredients = results.getOrDefault(key, Collections.emptyList());
+            checks.forEach(check -> check.future().complete(ingredients));
+        });
+    }
+
+    // 대기 중인 요청과 전송 중인 batch 의 future 를 모두 실패로 완료 (호출한 쪽이 기다리며 멈추지 않도록)
+    @PreDestroy
+    public void shutdown() {
+        closed = true;
+        dispatcher.shutdownNow();
+        sender.shutdownNow();
+        RejectedExecutionException shutdown = new RejectedExecutionException("AllergyCheckBatcher is shut down");
+        pending.clear();
+        for (CompletableFuture<List<String>> future : List.copyOf(outstanding)) {
+            future.completeExceptionally(shutdown);
+        }
+    }
+}
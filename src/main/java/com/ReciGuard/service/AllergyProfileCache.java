@@ -0,0 +1,103 @@
+package com.ReciGuard.service;
+
+import com.ReciGuard.event.AllergyProfileChangedEvent;
+import com.ReciGuard.repository.UserIngredientRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+// 사용자별 알레르기 재료명 캐시 (레시피 목록/상세 조회마다 반복되던 조회 제거)
+// AllergyProfileChangedEvent 가 커밋된 뒤에 해당 사용자 항목을 지우고, 놓친 경우를 대비해 ttl 이 지난 항목은 다시 조회한다
+@Slf4j
+@Component
+public class AllergyProfileCache {
+
+    private record Entry(List<String> ingredients, long loadedAt) {
+    }
+
+    private final UserIngredientRepository userIngredientRepository;
+    // 호출한 쪽 트랜잭션(REPEATABLE READ)의 스냅샷은 프로필 변경 커밋보다 오래됐을 수 있으므로 새 트랜잭션에서 조회
+    private final TransactionTemplate freshRead;
+    private final long ttlMs;
+    private final Map<Long, Entry> profiles;
+    // 조회마다 거치는 lock 이라 synchronized 대신 사용 (virtual thread 모드에서 carrier 고정 방지)
+    private final ReentrantLock lock = new ReentrantLock();
+    // 조회 중에 무효화가 끼어들면 오래된 목록을 넣지 않도록 하는 카운터
+    private final AtomicLong invalidations = new AtomicLong();
+
+    public AllergyProfileCache(UserIngredientRepository userIngredientRepository,
+                               PlatformTransactionManager transactionManager,
+                               @Value("${reciguard.allergy.profile-cache.max-size:10000}") int maxSize,
+                               @Value("${reciguard.allergy.profile-cache.ttl-ms:300000}") long ttlMs) {
+        this.userIngredientRepository = userIngredientRepository;
+        this.freshRead = new TransactionTemplate(transactionManager);
+        this.freshRead.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.freshRead.setReadOnly(true);
+        this.ttlMs = ttlMs;
+        this.profiles = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, Entry> eldest) {
+                return size() > maxSize; // LRU
+            }
+        };
+    }
+
+    public List<String> getAllergyIngredients(Long userId) {
+        List<String> cached = getCachedAllergyIngredients(userId);
+        if (cached != null) {
+            return cached;
+        }
+        long version = invalidations.get();
+        List<String> loaded = freshRead.execute(status -> List.copyOf(userIngredientRepository.findAllergyIngredientsByUserId(userId)));
+        lock.lock();
+        try {
+            if (invalidations.get() == version) {
+                profiles.put(userId, new Entry(loaded, System.currentTimeMillis()));
+            }
+        } finally {
+            lock.unlock();
+        }
+        return loaded;
+    }
+
+    // 캐시에 있을 때만 반환 (없거나 ttl 이 지났으면 null), DB 를 기다리면 안 되는 event loop 용
+    public List<String> getCachedAllergyIngredients(Long userId) {
+        lock.lock();
+        try {
+            Entry entry = profiles.get(userId);
+            if (entry == null) {
+                return null;
+            }
+            if (System.currentTimeMillis() - entry.loadedAt() >= ttlMs) {
+                profiles.remove(userId);
+                return null;
+            }
+            return entry.ingredients();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // 트랜잭션 밖에서 발행된 경우에도 바로 무효화
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onAllergyProfileChanged(AllergyProfileChangedEvent event) {
+        lock.lock();
+        try {
+            invalidations.incrementAndGet();
+            profiles.remove(event.userId());
+        } finally {
+            lock.unlock();
+        }
+        log.debug("Allergy profile cache invalidated for user {}", event.userId());
+    }
+}
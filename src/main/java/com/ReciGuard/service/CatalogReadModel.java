@@ -0,0 +1,279 @@
+package com.ReciGuard.service;
+
+import com.ReciGuard.dto.IngredientResponseDTO;
+import com.ReciGuard.dto.InstructionResponseDTO;
+import com.ReciGuard.event.RecipeDeletedEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.sql.ResultSet;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+// reactive 조회 API 용 레시피 카탈로그 (읽기 전용, 메모리)
+// 주기적으로 JDBC 쿼리 몇 개로 전체를 다시 읽어 snapshot 을 통째로 교체하므로 event loop 는 DB 를 기다리지 않는다
+// 조회수/스크랩 수와 레시피 수정 내용, 새 레시피의 목록/검색/자동완성 노출은 다음 갱신까지 최대 refresh-ms 만큼 늦다
+// 새 레시피 상세는 snapshot 에 없으면 DB 에서 직접 읽고, 삭제된 레시피는 삭제 커밋 직후부터 목록/검색/상세에서 빠진다
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "reciguard.reactive.enabled", havingValue = "true")
+public class CatalogReadModel {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int suggestLimit;
+
+    private volatile Snapshot snapshot = Snapshot.EMPTY;
+    // 삭제 이벤트를 받았지만 아직 snapshot 에 남아 있는 레시피 (다음 갱신에서 정리)
+    private final Set<Long> deleted = ConcurrentHashMap.newKeySet();
+
+    public record Entry(Long recipeId, Long ownerId, String recipeName, String imagePath, String thumbnailPath,
+                        int serving, String cuisine, String foodType, String cookingStyle,
+                        int calories, int sodium, int carbohydrate, int fat, int protein,
+                        int scrapCount, int viewCount,
+                        List<IngredientResponseDTO> ingredients, List<InstructionResponseDTO> instructions,
+                        List<String> ingredientNames) {
+    }
+
+    private record Snapshot(List<Entry> recipes, Map<Long, Entry> byId, Map<String, List<Entry>> byCuisine,
+                            String[] suggestKeys, String[] suggestNames) {
+        private static final Snapshot EMPTY = new Snapshot(List.of(), Map.of(), Map.of(), new String[0], new String[0]);
+    }
+
+    // 읽는 동안 모으는 가변 행
+    private static final class Row {
+        private Long recipeId;
+        private Long ownerId;
+        private String recipeName;
+        private String imagePath;
+        private String thumbnailPath;
+        private int serving;
+        private String cuisine;
+        private String foodType;
+        private String cookingStyle;
+        private double calories;
+        private double sodium;
+        private double carbohydrate;
+        private double fat;
+        private double protein;
+        private int scrapCount;
+        private int viewCount;
+        private final List<IngredientResponseDTO> ingredients = new ArrayList<>();
+        private final List<InstructionResponseDTO> instructions = new ArrayList<>();
+    }
+
+    public CatalogReadModel(JdbcTemplate jdbcTemplate,
+                            @Value("${reciguard.reactive.suggest-limit:10}") int suggestLimit) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.suggestLimit = suggestLimit;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(initialDelayString = "${reciguard.reactive.catalog.refresh-ms:60000}",
+            fixedDelayString = "${reciguard.reactive.catalog.refresh-ms:60000}")
+    public void refresh() {
+        long start = System.currentTimeMillis();
+        Map<Long, Row> rows = readRows(null);
+        Snapshot refreshed = build(rows.values());
+        snapshot = refreshed;
+        // 새 snapshot 에도 남아 있는 id 만 유지 (삭제 커밋 전에 읽기 시작한 갱신이면 아직 들어 있다)
+        deleted.retainAll(refreshed.byId().keySet());
+        log.info("Catalog read model refreshed: {} recipes in {} ms", rows.size(), System.currentTimeMillis() - start);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onRecipeDeleted(RecipeDeletedEvent event) {
+        deleted.add(event.recipeId());
+    }
+
+    public List<Entry> all() {
+        return visible(snapshot.recipes());
+    }
+
+    public List<Entry> byCuisine(String cuisine) {
+        return visible(snapshot.byCuisine().getOrDefault(cuisine, List.of()));
+    }
+
+    // snapshot 에 있는 레시피만 (event loop 에서 호출)
+    public Optional<Entry> find(Long recipeId) {
+        if (deleted.contains(recipeId)) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(snapshot.byId().get(recipeId));
+    }
+
+    // snapshot 갱신 전에 만들어진 레시피를 DB 에서 직접 조회 (blocking, boundedElastic 에서 호출)
+    public Optional<Entry> load(Long recipeId) {
+        if (deleted.contains(recipeId)) {
+            return Optional.empty();
+        }
+        Row row = readRows(recipeId).get(recipeId);
+        return row != null ? Optional.of(toEntry(row)) : Optional.empty();
+    }
+
+    // recipeId 가 null 이면 전체, 아니면 그 레시피만
+    private Map<Long, Row> readRows(Long recipeId) {
+        Object[] args = recipeId != null ? new Object[]{recipeId} : new Object[0];
+        Map<Long, Row> rows = new LinkedHashMap<>();
+        jdbcTemplate.query("""
+                SELECT r.recipe_id, r.user_id, r.recipe_name, r.image_path, r.thumbnail_path, r.serving,
+                       r.cuisine, r.food_type, r.cooking_style,
+                       n.calories, n.sodium, n.carbohydrate, n.fat, n.protein,
+                       s.scrap_count, s.view_count
+                FROM recipe r
+                LEFT JOIN nutrition n ON n.recipe_id = r.recipe_id
+                LEFT JOIN recipe_stats s ON s.recipe_id = r.recipe_id
+                """ + (recipeId != null ? "WHERE r.recipe_id = ? " : "") + """
+                ORDER BY r.recipe_id
+                """, (ResultSet rs) -> {
+            Row row = new Row();
+            row.recipeId = rs.getLong("recipe_id");
+            row.ownerId = rs.getObject("user_id", Long.class);
+            row.recipeName = rs.getString("recipe_name");
+            row.imagePath = rs.getString("image_path");
+            row.thumbnailPath = rs.getString("thumbnail_path");
+            row.serving = rs.getInt("serving");
+            row.cuisine = rs.getString("cuisine");
+            row.foodType = rs.getString("food_type");
+            row.cookingStyle = rs.getString("cooking_style");
+            row.calories = rs.getDouble("calories");
+            row.sodium = rs.getDouble("sodium");
+            row.carbohydrate = rs.getDouble("carbohydrate");
+            row.fat = rs.getDouble("fat");
+            row.protein = rs.getDouble("protein");
+            row.scrapCount = rs.getInt("scrap_count");
+            row.viewCount = rs.getInt("view_count");
+            rows.put(row.recipeId, row);
+        }, args);
+        if (rows.isEmpty()) {
+            return rows;
+        }
+        jdbcTemplate.query("""
+                SELECT ri.recipe_id, i.ingredient, ri.quantity
+                FROM recipe_ingredient ri
+                JOIN ingredient i ON i.ingredient_id = ri.ingredient_id
+                """ + (recipeId != null ? "WHERE ri.recipe_id = ? " : "") + """
+                ORDER BY ri.recipe_ingredient_id
+                """, (ResultSet rs) -> {
+            Row row = rows.get(rs.getLong("recipe_id"));
+            if (row != null) {
+                row.ingredients.add(new IngredientResponseDTO(rs.getString("ingredient"), rs.getString("quantity")));
+            }
+        }, args);
+        jdbcTemplate.query("""
+                SELECT recipe_id, instruction_id, instruction_image, instruction
+                FROM instruction
+                """ + (recipeId != null ? "WHERE recipe_id = ? " : "") + """
+                ORDER BY recipe_id, instruction_id
+                """, (ResultSet rs) -> {
+            Row row = rows.get(rs.getLong("recipe_id"));
+            if (row != null) {
+                row.instructions.add(new InstructionResponseDTO(rs.getObject("instruction_id", Integer.class),
+                        rs.getString("instruction_image"), rs.getString("instruction")));
+            }
+        }, args);
+        return rows;
+    }
+
+    // 삭제 이벤트 이후 아직 snapshot 에 남아 있는 레시피 제외
+    private List<Entry> visible(List<Entry> entries) {
+        if (deleted.isEmpty()) {
+            return entries;
+        }
+        return entries.stream().filter(entry -> !deleted.contains(entry.recipeId())).toList();
+    }
+
+    // 레시피명 또는 재료명에 검색어가 포함된 레시피 (RecipeRepository.findByQuery 와 같은 기준)
+    public List<Entry> search(String query) {
+        List<Entry> result = new ArrayList<>();
+        for (Entry entry : visible(snapshot.recipes())) {
+            if (contains(entry.recipeName(), query)
+                    || entry.ingredientNames().stream().anyMatch(name -> contains(name, query))) {
+                result.add(entry);
+            }
+        }
+        return result;
+    }
+
+    // 레시피명 자동완성 (정렬된 배열에서 이진 탐색 후 prefix 가 같은 동안만 읽는다)
+    public List<String> suggest(String prefix) {
+        Snapshot current = snapshot;
+        String key = normalize(prefix);
+        if (key.isEmpty()) {
+            return List.of();
+        }
+        int index = Arrays.binarySearch(current.suggestKeys(), key);
+        if (index < 0) {
+            index = -index - 1;
+        }
+        Set<String> names = new LinkedHashSet<>();
+        while (index < current.suggestKeys().length && names.size() < suggestLimit
+                && current.suggestKeys()[index].startsWith(key)) {
+            names.add(current.suggestNames()[index]);
+            index++;
+        }
+        return new ArrayList<>(names);
+    }
+
+    // 사용자 알레르기 재료(또는 그것을 포함하는 재료명)가 들어간 레시피인지 (필터링 쿼리와 같은 기준)
+    public static boolean containsAllergen(Entry entry, Collection<String> allergyIngredients) {
+        for (String name : entry.ingredientNames()) {
+            for (String allergy : allergyIngredients) {
+                if (contains(name, allergy)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private static Snapshot build(Collection<Row> rows) {
+        List<Entry> recipes = new ArrayList<>(rows.size());
+        Map<Long, Entry> byId = new HashMap<>(rows.size() * 2);
+        Map<String, List<Entry>> byCuisine = new HashMap<>();
+        for (Row row : rows) {
+            Entry entry = toEntry(row);
+            recipes.add(entry);
+            byId.put(entry.recipeId(), entry);
+            if (entry.cuisine() != null) {
+                byCuisine.computeIfAbsent(entry.cuisine(), cuisine -> new ArrayList<>()).add(entry);
+            }
+        }
+
+        List<Entry> named = recipes.stream()
+                .filter(entry -> entry.recipeName() != null)
+                .sorted(Comparator.comparing((Entry entry) -> normalize(entry.recipeName())))
+                .toList();
+        String[] suggestKeys = new String[named.size()];
+        String[] suggestNames = new String[named.size()];
+        for (int i = 0; i < named.size(); i++) {
+            suggestKeys[i] = normalize(named.get(i).recipeName());
+            suggestNames[i] = named.get(i).recipeName();
+        }
+        byCuisine.replaceAll((cuisine, entries) -> List.copyOf(entries));
+        return new Snapshot(List.copyOf(recipes), Map.copyOf(byId), Map.copyOf(byCuisine), suggestKeys, suggestNames);
+    }
+
+    private static Entry toEntry(Row row) {
+        return new Entry(row.recipeId, row.ownerId, row.recipeName, row.imagePath, row.thumbnailPath,
+                row.serving, row.cuisine, row.foodType, row.cookingStyle,
+                (int) row.calories, (int) row.sodium, (int) row.carbohydrate, (int) row.fat, (int) row.protein,
+                row.scrapCount, row.viewCount,
+                List.copyOf(row.ingredients), List.copyOf(row.instructions),
+                row.ingredients.stream().map(IngredientResponseDTO::getIngredient).filter(Objects::nonNull).toList());
+    }
+
+    private static boolean contains(String value, String part) {
+        return value != null && part != null && value.contains(part);
+    }
+
+    private static String normalize(String value) {
+        return value == null ? "" : value.strip().toLowerCase(Locale.ROOT);
+    }
+}
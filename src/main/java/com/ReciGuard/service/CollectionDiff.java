@@ -0,0 +1,65 @@
+package com.ReciGuard.service;
+
+import java.util.*;
+import java.util.function.BiPredicate;
+import java.util.function.Function;
+
+// 기존 엔티티 목록(E)과 수정 폼 목록(D)을 key 로 맞춰서 추가/수정/삭제 대상만 계산
+// HashMap 한 번으로 O(n), 내용이 같은 항목은 어느 목록에도 들어가지 않는다
+public final class CollectionDiff<E, D> {
+
+    public record Update<E, D>(E existing, D desired) {
+    }
+
+    private final List<D> inserts = new ArrayList<>();
+    private final List<Update<E, D>> updates = new ArrayList<>();
+    private final List<E> deletes = new ArrayList<>();
+
+    private CollectionDiff() {
+    }
+
+    // changed: 같은 key 인 두 항목의 내용이 다른지 (true 인 경우만 updates 에 포함)
+    public static <K, E, D> CollectionDiff<E, D> of(Collection<E> existing, Function<E, K> existingKey,
+                                                    Collection<D> desired, Function<D, K> desiredKey,
+                                                    BiPredicate<E, D> changed) {
+        CollectionDiff<E, D> diff = new CollectionDiff<>();
+        Map<K, E> existingByKey = new HashMap<>(existing.size() * 2);
+        for (E entity : existing) {
+            if (existingByKey.putIfAbsent(existingKey.apply(entity), entity) != null) {
+                diff.deletes.add(entity); // 같은 key 로 이미 중복 저장된 행은 첫 번째만 남기고 삭제
+            }
+        }
+
+        Set<K> seen = new HashSet<>(desired.size() * 2);
+        for (D item : desired) {
+            K key = desiredKey.apply(item);
+            if (!seen.add(key)) {
+                throw new IllegalArgumentException("중복된 항목이 있습니다: " + key);
+            }
+            E entity = existingByKey.remove(key);
+            if (entity == null) {
+                diff.inserts.add(item);
+            } else if (changed.test(entity, item)) {
+                diff.updates.add(new Update<>(entity, item));
+            }
+        }
+        diff.deletes.addAll(existingByKey.values()); // 폼에 없는 기존 항목
+        return diff;
+    }
+
+    public List<D> inserts() {
+        return inserts;
+    }
+
+    public List<Update<E, D>> updates() {
+        return updates;
+    }
+
+    public List<E> deletes() {
+        return deletes;
+    }
+
+    public boolean isEmpty() {
+        return inserts.isEmpty() && updates.isEmpty() && deletes.isEmpty();
+    }
+}
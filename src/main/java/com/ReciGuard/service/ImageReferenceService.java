@@ -0,0 +1,84 @@
+package com.ReciGuard.service;
+
+import com.ReciGuard.repository.ImageReferenceRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+// 해시 기반 이미지 object 의 참조 수 관리
+// 업로드 직전에 acquire, 레시피/단계에서 이미지가 빠질 때 release 하고, 실제 S3 삭제는 ImageReferenceSweeper 가 모아서 처리한다
+// 모두 호출한 쪽 트랜잭션에 참여 (롤백되면 참조 수 변경도 함께 취소, 요청당 커넥션은 하나)
+// 트랜잭션 밖(업로드 전용 풀)에서 호출되면 각각 바로 커밋된다
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ImageReferenceService {
+
+    private final ImageReferenceRepository imageReferenceRepository;
+    private final S3Uploader s3Uploader;
+    private final JdbcTemplate jdbcTemplate;
+
+    // 참조 수 증가 (업로드/존재 확인보다 먼저 호출해야 sweeper 와 겹쳐도 object 가 사라지지 않는다)
+    // 증가한 행은 커밋까지 잠겨 있어서 sweeper 의 SELECT ... FOR UPDATE 가 그 사이에 삭제 대상으로 잡지 못한다
+    @Transactional
+    public void acquire(String objectKey) {
+        LocalDateTime now = LocalDateTime.now();
+        if (imageReferenceRepository.incrementRefCount(objectKey, now) > 0) {
+            return;
+        }
+        if (!insert(objectKey, 1, now)) {
+            // 동시에 처음 등록한 요청이 먼저 추가함
+            imageReferenceRepository.incrementRefCount(objectKey, now);
+        }
+    }
+
+    // 직접 업로드 예정인 key 를 참조 0으로 등록 (저장까지 이어지지 않으면 유예 시간 후 sweeper 가 삭제)
+    // 이미 있으면 참조가 없는 경우에만 유예 시간 연장
+    @Transactional
+    public void track(String objectKey) {
+        LocalDateTime now = LocalDateTime.now();
+        if (imageReferenceRepository.touchUnreferenced(objectKey, now) == 0 && !insert(objectKey, 0, now)) {
+            imageReferenceRepository.touchUnreferenced(objectKey, now);
+        }
+    }
+
+    // 행 추가 -> 이미 있으면 false
+    // JdbcTemplate 로 보내서 중복 키 오류가 나도 JPA 트랜잭션이 rollback-only 가 되지 않는다 (실패한 문장만 취소)
+    private boolean insert(String objectKey, int refCount, LocalDateTime now) {
+        try {
+            jdbcTemplate.update("INSERT INTO image_reference (object_key, ref_count, updated_at) VALUES (?, ?, ?)",
+                    objectKey, refCount, now);
+            return true;
+        } catch (DuplicateKeyException e) {
+            return false;
+        }
+    }
+
+    // acquire 직후 업로드/존재 확인이 실패한 경우 바로 되돌림
+    @Transactional
+    public void abandon(String objectKey) {
+        imageReferenceRepository.decrementRefCount(objectKey, LocalDateTime.now());
+    }
+
+    // 참조 수 감소 (호출한 쪽 트랜잭션과 함께 커밋)
+    @Transactional
+    public void release(String fileUrl) {
+        if (fileUrl == null || s3Uploader.hashFromUrl(fileUrl) == null) {
+            return; // 해시 기반으로 올린 파일이 아니면 관리 대상 아님 (외부 이미지 등)
+        }
+        releaseKey(s3Uploader.extractKey(fileUrl));
+    }
+
+    @Transactional
+    public void releaseKey(String objectKey) {
+        if (imageReferenceRepository.decrementRefCount(objectKey, LocalDateTime.now()) == 0) {
+            // 참조 테이블 도입 전에 올라간 파일은 누가 쓰는지 알 수 없으므로 그대로 둔다
+            log.info("No image reference to release: {}", objectKey);
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package com.ReciGuard.service;
+
+import com.ReciGuard.entity.ImageReference;
+import com.ReciGuard.repository.ImageReferenceRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+// 참조 수가 0이 된 이미지를 유예 시간 후 DeleteObjects 로 묶어서 삭제
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ImageReferenceSweeper {
+
+    private static final int SWEEP_BATCH_SIZE = 200;
+
+    private final ImageReferenceRepository imageReferenceRepository;
+    private final S3Uploader s3Uploader;
+    private final KnownImageIndex knownImageIndex;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${reciguard.image.sweep.grace-ms:600000}")
+    private long graceMs;
+
+    @Scheduled(fixedDelayString = "${reciguard.image.sweep.interval-ms:60000}")
+    public void sweep() {
+        int swept;
+        do {
+            swept = sweepBatch();
+        } while (swept == SWEEP_BATCH_SIZE);
+    }
+
+    // 한 트랜잭션 안에서 행 잠금 -> S3 삭제 -> 행 삭제 (S3 삭제가 실패하면 롤백되어 다음 주기에 재시도)
+    private int sweepBatch() {
+        try {
+            Integer swept = transactionTemplate.execute(status -> {
+                LocalDateTime cutoff = LocalDateTime.now().minusNanos(graceMs * 1_000_000);
+                List<ImageReference> unreferenced = imageReferenceRepository.findUnreferencedForUpdate(cutoff, PageRequest.of(0, SWEEP_BATCH_SIZE));
+                if (unreferenced.isEmpty()) {
+                    return 0;
+                }
+
+                List<String> objectKeys = new ArrayList<>();
+                List<String> deleteKeys = new ArrayList<>();
+                for (ImageReference reference : unreferenced) {
+                    objectKeys.add(reference.getObjectKey());
+                    deleteKeys.add(reference.getObjectKey());
+                    String imageHash = s3Uploader.hashFromKey(reference.getObjectKey());
+                    if (imageHash != null) {
+                        deleteKeys.addAll(ImageRenditionService.renditionKeys(imageHash));
+                    }
+                }
+                s3Uploader.deleteKeys(deleteKeys);
+                knownImageIndex.forget(deleteKeys);
+                imageReferenceRepository.deleteUnreferenced(objectKeys);
+                return unreferenced.size();
+            });
+            if (swept != null && swept > 0) {
+                log.info("Swept {} unreferenced images", swept);
+            }
+            return swept != null ? swept : 0;
+        } catch (Exception e) {
+            log.error("Image sweep failed: {}", e.getMessage());
+            return 0;
+        }
+    }
+}
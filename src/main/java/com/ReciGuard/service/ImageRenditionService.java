@@ -0,0 +1,184 @@
+package com.ReciGuard.service;
+
+import com.ReciGuard.repository.RecipeRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.MemoryCacheImageOutputStream;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+
+// 업로드된 레시피 사진의 축소본(썸네일/중간 크기) 비동기 생성
+// 축소본은 원본과 같은 해시 기반 이름(<hash>_thumb.jpg 등)으로 저장하고, 완료되면 Recipe.thumbnailPath 를 채운다
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ImageRenditionService {
+
+    private static final float JPEG_QUALITY = 0.8f;
+
+    private final S3Uploader s3Uploader;
+    private final RecipeRepository recipeRepository;
+    private final TransactionTemplate transactionTemplate;
+    @Qualifier("imageRenditionExecutor")
+    private final ExecutorService imageRenditionExecutor;
+
+    // 같은 이미지에 대한 중복 작업 방지
+    private final Set<String> inFlight = ConcurrentHashMap.newKeySet();
+
+    // 썸네일을 마지막에 저장해서, 썸네일이 있으면 모든 축소본이 있다고 볼 수 있게 한다
+    private enum Rendition {
+        MEDIUM("medium", 960),
+        THUMBNAIL("thumb", 320);
+
+        private final String suffix;
+        private final int width;
+
+        Rendition(String suffix, int width) {
+            this.suffix = suffix;
+            this.width = width;
+        }
+
+        private String key(String imageHash, String extension) {
+            return imageHash + "_" + suffix + "." + extension;
+        }
+    }
+
+    // 원본 이미지에서 파생된 모든 축소본 key (원본 삭제 시 함께 삭제)
+    public static List<String> renditionKeys(String imageHash) {
+        List<String> keys = new ArrayList<>();
+        for (Rendition rendition : Rendition.values()) {
+            keys.add(rendition.key(imageHash, "jpg"));
+        }
+        keys.add(Rendition.MEDIUM.key(imageHash, "webp"));
+        return keys;
+    }
+
+    // 원본이 DB에 커밋된 뒤 호출 (요청 스레드는 기다리지 않는다)
+    public void requestRenditions(String imageHash, String imageUrl) {
+        if (imageHash == null || imageUrl == null || !inFlight.add(imageHash)) {
+            return;
+        }
+        try {
+            imageRenditionExecutor.execute(() -> {
+                try {
+                    render(imageHash, imageUrl);
+                } finally {
+                    inFlight.remove(imageHash);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            // 목록은 원본 이미지로 대체되므로 작업을 버려도 기능에는 문제 없음
+            inFlight.remove(imageHash);
+            log.warn("Rendition queue full, skipping image: {}", imageHash);
+        }
+    }
+
+    private void render(String imageHash, String imageUrl) {
+        String thumbnailKey = Rendition.THUMBNAIL.key(imageHash, "jpg");
+        try {
+            if (!s3Uploader.exists(thumbnailKey)) {
+                BufferedImage source;
+                try (InputStream in = s3Uploader.openStream(s3Uploader.extractKey(imageUrl))) {
+                    source = ImageIO.read(in);
+                }
+                if (source == null) {
+                    log.warn("Unsupported image format, skipping renditions: {}", imageUrl);
+                    return;
+                }
+
+                for (Rendition rendition : Rendition.values()) {
+                    BufferedImage resized = resize(source, rendition.width);
+                    s3Uploader.putBytes(rendition.key(imageHash, "jpg"), encode(resized, "jpeg"), "image/jpeg");
+                    // JDK ImageIO 에는 WebP writer 가 없어서, 플러그인이 있을 때만 생성
+                    if (rendition == Rendition.MEDIUM && ImageIO.getImageWritersByFormatName("webp").hasNext()) {
+                        s3Uploader.putBytes(rendition.key(imageHash, "webp"), encode(resized, "webp"), "image/webp");
+                    }
+                }
+                log.info("Renditions created for image: {}", imageHash);
+            }
+
+            String thumbnailUrl = s3Uploader.urlOf(thumbnailKey);
+            Integer updated = transactionTemplate.execute(status ->
+                    recipeRepository.updateThumbnailPathByImageHash(imageHash, thumbnailUrl));
+            log.info("Thumbnail linked to {} recipes: {}", updated, thumbnailUrl);
+        } catch (Exception e) {
+            log.error("Failed to create renditions for image {}: {}", imageHash, e.getMessage());
+        }
+    }
+
+    // 비율 유지 축소 (확대는 하지 않음), 절반씩 줄여가며 품질 유지
+    private static BufferedImage resize(BufferedImage source, int targetWidth) {
+        int width = Math.min(targetWidth, source.getWidth());
+        int height = Math.max(1, (int) Math.round((double) source.getHeight() * width / source.getWidth()));
+
+        BufferedImage current = source;
+        int currentWidth = source.getWidth();
+        int currentHeight = source.getHeight();
+        do {
+            currentWidth = Math.max(width, currentWidth / 2);
+            currentHeight = Math.max(height, currentHeight / 2);
+            current = draw(current, currentWidth, currentHeight);
+        } while (currentWidth != width || currentHeight != height);
+        return current;
+    }
+
+    // JPEG 은 알파 채널이 없으므로 흰 배경 위에 그린다
+    private static BufferedImage draw(BufferedImage source, int width, int height) {
+        BufferedImage target = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = target.createGraphics();
+        try {
+            graphics.setColor(Color.WHITE);
+            graphics.fillRect(0, 0, width, height);
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            graphics.drawImage(source, 0, 0, width, height, null);
+        } finally {
+            graphics.dispose();
+        }
+        return target;
+    }
+
+    private static byte[] encode(BufferedImage image, String format) throws IOException {
+        Iterator<ImageWriter> writers = ImageIO.getImageWritersByFormatName(format);
+        if (!writers.hasNext()) {
+            throw new IOException("No image writer for format: " + format);
+        }
+        ImageWriter writer = writers.next();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (MemoryCacheImageOutputStream output = new MemoryCacheImageOutputStream(out)) {
+            writer.setOutput(output);
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            if (param.canWriteCompressed()) {
+                param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+                if (param.getCompressionTypes() != null && param.getCompressionType() == null) {
+                    param.setCompressionType(param.getCompressionTypes()[0]);
+                }
+                param.setCompressionQuality(JPEG_QUALITY);
+            }
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+        return out.toByteArray();
+    }
+}
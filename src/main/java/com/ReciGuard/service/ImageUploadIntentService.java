@@ -0,0 +1,67 @@
+package com.ReciGuard.service;
+
+import com.ReciGuard.dto.ImageUploadIntentRequestDTO;
+import com.ReciGuard.dto.ImageUploadIntentResponseDTO;
+import com.ReciGuard.storage.PresignedPut;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+// 클라이언트가 이미지를 저장소에 직접 올리도록 presigned PUT URL 발급
+// 앱 서버는 이미지 바이트를 중계하지 않고, 레시피 저장 시에는 object key 만 받는다
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ImageUploadIntentService {
+
+    private static final int MAX_IMAGES_PER_REQUEST = 30;
+
+    private final S3Uploader s3Uploader;
+    private final ImageReferenceService imageReferenceService;
+
+    // 서명 유효 시간 (sweeper 유예 시간보다 충분히 짧아야 함)
+    @Value("${reciguard.upload.presign-ttl-seconds:300}")
+    private long presignTtlSeconds;
+
+    public ImageUploadIntentResponseDTO createIntents(ImageUploadIntentRequestDTO request) {
+        if (request.getImages() == null || request.getImages().isEmpty()) {
+            return new ImageUploadIntentResponseDTO(List.of());
+        }
+        if (request.getImages().size() > MAX_IMAGES_PER_REQUEST) {
+            throw new IllegalArgumentException("한 번에 요청할 수 있는 이미지 수를 초과했습니다.");
+        }
+
+        long maxFileSize = s3Uploader.maxFileSize();
+        Duration ttl = Duration.ofSeconds(presignTtlSeconds);
+
+        List<ImageUploadIntentResponseDTO.Intent> intents = new ArrayList<>();
+        for (ImageUploadIntentRequestDTO.Image image : request.getImages()) {
+            if (image.getContentType() == null || !image.getContentType().startsWith("image/")) {
+                throw new IllegalArgumentException("이미지 파일만 업로드할 수 있습니다.");
+            }
+            if (image.getSize() <= 0 || image.getSize() > maxFileSize) {
+                throw new IllegalArgumentException("파일 크기가 허용 범위를 벗어났습니다.");
+            }
+            String key = s3Uploader.keyFor(image.getHash(), image.getExtension());
+
+            // 같은 내용이 이미 있으면 업로드 생략
+            if (s3Uploader.exists(key)) {
+                intents.add(new ImageUploadIntentResponseDTO.Intent(key, true, null, null));
+                continue;
+            }
+
+            PresignedPut presigned = s3Uploader.presignUpload(key, image.getContentType(), image.getSize(), ttl)
+                    .orElseThrow(() -> new IllegalStateException("현재 저장소는 직접 업로드를 지원하지 않습니다."));
+            // 저장까지 이어지지 않은 업로드는 sweeper 가 정리하도록 참조 0으로 등록
+            imageReferenceService.track(key);
+            intents.add(new ImageUploadIntentResponseDTO.Intent(key, false, presigned.url(), presigned.headers()));
+        }
+        log.info("Created {} upload intents", intents.size());
+        return new ImageUploadIntentResponseDTO(intents);
+    }
+}
@@ -0,0 +1,139 @@
+package com.ReciGuard.service;
+
+import com.ReciGuard.entity.Ingredient;
+import com.ReciGuard.repository.IngredientRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.ResultSet;
+import java.text.Normalizer;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+// Ingredient 테이블의 재료명 -> id 사전
+// 시작 시 전체를 읽어 두고, 쓰기 경로에서는 여러 재료명을 한 번에 조회/생성한다
+@Slf4j
+@Component
+public class IngredientDictionary {
+
+    private final IngredientRepository ingredientRepository;
+    private final IngredientSimilarityIndex ingredientSimilarityIndex;
+    private final JdbcTemplate jdbcTemplate;
+
+    // keyOf(재료명) -> id
+    private final Map<String, Long> idsByKey = new ConcurrentHashMap<>();
+
+    // DB 에서 읽은 재료 행
+    private record Row(Long id, String name) {
+    }
+
+    public IngredientDictionary(IngredientRepository ingredientRepository,
+                                IngredientSimilarityIndex ingredientSimilarityIndex,
+                                JdbcTemplate jdbcTemplate) {
+        this.ingredientRepository = ingredientRepository;
+        this.ingredientSimilarityIndex = ingredientSimilarityIndex;
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        for (Ingredient ingredient : ingredientRepository.findAll()) {
+            idsByKey.put(keyOf(ingredient.getIngredient()), ingredient.getId());
+        }
+        log.info("Ingredient dictionary loaded: {} ingredients", idsByKey.size());
+    }
+
+    // 재료명 -> id (없는 재료는 한 번의 INSERT 로 모두 생성), 입력 순서 유지, 빈 재료명은 결과에 넣지 않는다
+    // 호출한 쪽 트랜잭션에서 INSERT 하고 (요청당 커넥션 하나), 메모리 사전은 커밋된 뒤에만 갱신한다
+    // "Egg" 처럼 대소문자/악센트만 다른 이름은 DB 의 기존 행("egg")과 같은 재료로 본다
+    public Map<String, Long> resolveAll(Collection<String> names) {
+        Map<String, Long> resolved = new LinkedHashMap<>();
+        Map<String, String> missing = new LinkedHashMap<>(); // key -> 처음 나온 재료명
+        for (String name : new LinkedHashSet<>(names)) {
+            if (name == null || name.isBlank()) {
+                continue;
+            }
+            String key = keyOf(name);
+            Long id = idsByKey.get(key);
+            resolved.put(name, id);
+            if (id == null) {
+                missing.putIfAbsent(key, name);
+            }
+        }
+        if (missing.isEmpty()) {
+            return resolved;
+        }
+
+        Map<String, Row> created = findOrInsert(List.copyOf(missing.values()));
+        // 롤백되면 사라질 id 가 사전에 남지 않도록
+        AfterCommit.run(() -> created.forEach((key, row) -> {
+            idsByKey.put(key, row.id());
+            ingredientSimilarityIndex.register(row.name());
+        }));
+        resolved.replaceAll((name, id) -> {
+            if (id != null) {
+                return id;
+            }
+            Row row = created.get(keyOf(name));
+            if (row == null) {
+                throw new IllegalStateException("재료 id 를 찾지 못했습니다: " + name);
+            }
+            return row.id();
+        });
+        return resolved;
+    }
+
+    public Long resolve(String name) {
+        return resolveAll(List.of(name)).get(name);
+    }
+
+    // ingredient 컬럼의 기본 collation(utf8mb4_0900_ai_ci)과 같은 기준의 비교 key (대소문자/악센트 무시)
+    static String keyOf(String name) {
+        return Normalizer.normalize(name, Normalizer.Form.NFD).replaceAll("\\p{M}", "").toLowerCase(Locale.ROOT);
+    }
+
+    // names 는 key 기준으로 중복 없음, 결과는 key -> 행
+    private Map<String, Row> findOrInsert(List<String> names) {
+        Map<String, Row> found = findRows(names, false);
+        // 여러 요청이 겹치는 재료를 동시에 만들 때 잠금 순서가 같도록 정렬
+        List<String> toInsert = names.stream().filter(name -> !found.containsKey(keyOf(name))).sorted().toList();
+        if (!toInsert.isEmpty()) {
+            // JPA 쿼리가 아니라서 중복 키 오류가 나도 호출한 쪽 트랜잭션이 rollback-only 가 되지 않는다
+            String placeholders = String.join(", ", Collections.nCopies(toInsert.size(), "(?)"));
+            try {
+                jdbcTemplate.update("INSERT INTO ingredient (ingredient) VALUES " + placeholders, toInsert.toArray());
+            } catch (DuplicateKeyException e) {
+                // 다른 요청이 일부를 먼저 만듦 (실패한 문장만 취소됨) -> 한 건씩 다시 추가하고 uk_ingredient_name 중복만 무시
+                for (String name : toInsert) {
+                    try {
+                        jdbcTemplate.update("INSERT INTO ingredient (ingredient) VALUES (?)", name);
+                    } catch (DuplicateKeyException duplicate) {
+                        log.debug("Ingredient already created by another request: {}", name);
+                    }
+                }
+            }
+            // 다른 트랜잭션이 방금 커밋한 행은 스냅샷에 보이지 않을 수 있으므로 잠금 읽기로 최신 행을 읽는다
+            found.putAll(findRows(toInsert, true));
+            log.info("Created {} ingredients", toInsert.size());
+        }
+        return found;
+    }
+
+    // IN 비교도 컬럼 collation 을 따르므로 결과 행 이름은 요청한 이름과 대소문자가 다를 수 있다 -> keyOf 로 되돌려 매핑
+    private Map<String, Row> findRows(List<String> names, boolean latest) {
+        String placeholders = String.join(", ", Collections.nCopies(names.size(), "?"));
+        Map<String, Row> rows = new HashMap<>();
+        jdbcTemplate.query("SELECT ingredient_id, ingredient FROM ingredient WHERE ingredient IN (" + placeholders + ")"
+                        + (latest ? " FOR UPDATE" : ""),
+                (ResultSet rs) -> {
+                    String name = rs.getString("ingredient");
+                    rows.put(keyOf(name), new Row(rs.getLong("ingredient_id"), name));
+                },
+                names.toArray());
+        return rows;
+    }
+}
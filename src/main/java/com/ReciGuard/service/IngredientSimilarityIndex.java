@@ -0,0 +1,286 @@
+package com.ReciGuard.service;
+
+import com.ReciGuard.repository.IngredientRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+// Ingredient 어휘에 대한 내장 유사도 엔진
+// 재료명을 글자 n-gram + 자모 n-gram 희소 벡터로 표현하고, 재료별 top-K 최근접 이웃 테이블을 미리 계산해 둔다
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class IngredientSimilarityIndex {
+
+    private static final int TOP_K = 32;
+    private static final float SIMILARITY_THRESHOLD = 0.4f;
+    private static final float JAMO_WEIGHT = 0.5f;
+
+    private static final char[] CHOSEONG = "ㄱㄲㄴㄷㄸㄹㅁㅂㅃㅅㅆㅇㅈㅉㅊㅋㅌㅍㅎ".toCharArray();
+    private static final char[] JUNGSEONG = "ㅏㅐㅑㅒㅓㅔㅕㅖㅗㅘㅙㅚㅛㅜㅝㅞㅟㅠㅡㅢㅣ".toCharArray();
+    private static final char[] JONGSEONG = " ㄱㄲㄳㄴㄵㄶㄷㄹㄺㄻㄼㄽㄾㄿㅀㅁㅂㅄㅅㅆㅇㅈㅊㅋㅌㅍㅎ".toCharArray();
+
+    private final IngredientRepository ingredientRepository;
+
+    // 재료명 -> 항목 (조회는 lock 없이, 등록은 synchronized)
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    // 아래 두 구조는 등록 시에만 사용 (synchronized)
+    private final List<Entry> entriesById = new ArrayList<>();
+    private final Map<Integer, List<Integer>> postings = new HashMap<>();
+
+    private static final class Entry {
+        private final int id;
+        private final SparseVector vector;
+        private volatile Neighbors neighbors = Neighbors.EMPTY;
+
+        private Entry(int id, SparseVector vector) {
+            this.id = id;
+            this.vector = vector;
+        }
+    }
+
+    // 유사도 내림차순 top-K 이웃
+    private static final class Neighbors {
+        private static final Neighbors EMPTY = new Neighbors(new int[0], new float[0]);
+
+        private final int[] ids;
+        private final float[] scores;
+
+        private Neighbors(int[] ids, float[] scores) {
+            this.ids = ids;
+            this.scores = scores;
+        }
+
+        private float scoreOf(int id) {
+            for (int i = 0; i < ids.length; i++) {
+                if (ids[i] == id) {
+                    return scores[i];
+                }
+            }
+            return -1f;
+        }
+
+        // threshold 이상인 이웃이 top-K 밖으로 밀려났을 수 있는지
+        private boolean isTruncatedAt(float threshold) {
+            return ids.length == TOP_K && scores[TOP_K - 1] >= threshold;
+        }
+    }
+
+    // L2 정규화된 희소 벡터 (feature 해시 오름차순)
+    private static final class SparseVector {
+        private final int[] features;
+        private final float[] weights;
+
+        private SparseVector(int[] features, float[] weights) {
+            this.features = features;
+            this.weights = weights;
+        }
+
+        private float dot(SparseVector other) {
+            float sum = 0f;
+            int i = 0;
+            int j = 0;
+            while (i < features.length && j < other.features.length) {
+                if (features[i] == other.features[j]) {
+                    sum += weights[i++] * other.weights[j++];
+                } else if (features[i] < other.features[j]) {
+                    i++;
+                } else {
+                    j++;
+                }
+            }
+            return sum;
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        List<String> names = ingredientRepository.findAllIngredientNames();
+        synchronized (this) {
+            for (String name : names) {
+                addEntry(name);
+            }
+            for (Entry entry : entriesById) {
+                entry.neighbors = computeNeighbors(entry);
+            }
+        }
+        log.info("Ingredient similarity index loaded: {} ingredients", entriesById.size());
+    }
+
+    // 새 재료 등록 (자신의 이웃 테이블 계산 + 이웃들의 테이블에 자신을 반영)
+    public synchronized void register(String name) {
+        if (name == null || name.isBlank() || entries.containsKey(normalize(name))) {
+            return;
+        }
+        Entry entry = addEntry(name);
+        entry.neighbors = computeNeighbors(entry);
+
+        Neighbors own = entry.neighbors;
+        for (int i = 0; i < own.ids.length; i++) {
+            Entry neighbor = entriesById.get(own.ids[i]);
+            neighbor.neighbors = insert(neighbor.neighbors, entry.id, own.scores[i]);
+        }
+    }
+
+    // 레시피 재료 중 사용자 알레르기 재료와 같은 계열로 보이는 재료
+    public List<String> findSimilarAllergyIngredients(Collection<String> allergyIngredients, Collection<String> recipeIngredients) {
+        if (allergyIngredients.isEmpty() || recipeIngredients.isEmpty()) {
+            return Collections.emptyList();
+        }
+        List<String> similar = new ArrayList<>();
+        for (String ingredient : new LinkedHashSet<>(recipeIngredients)) {
+            for (String allergy : allergyIngredients) {
+                if (ingredient.contains(allergy) || similarity(allergy, ingredient) >= SIMILARITY_THRESHOLD) {
+                    similar.add(ingredient);
+                    break;
+                }
+            }
+        }
+        return similar;
+    }
+
+    private float similarity(String a, String b) {
+        Entry left = entries.get(normalize(a));
+        Entry right = entries.get(normalize(b));
+        if (left != null && right != null) {
+            Neighbors neighbors = left.neighbors;
+            float score = neighbors.scoreOf(right.id);
+            if (score >= 0f || !neighbors.isTruncatedAt(SIMILARITY_THRESHOLD)) {
+                return score;
+            }
+            return left.vector.dot(right.vector);
+        }
+        // 아직 어휘에 없는 재료는 바로 계산
+        SparseVector leftVector = left != null ? left.vector : vectorize(a);
+        SparseVector rightVector = right != null ? right.vector : vectorize(b);
+        return leftVector.dot(rightVector);
+    }
+
+    private Entry addEntry(String name) {
+        String normalized = normalize(name);
+        Entry existing = entries.get(normalized);
+        if (existing != null) {
+            return existing;
+        }
+        Entry entry = new Entry(entriesById.size(), vectorize(normalized));
+        entriesById.add(entry);
+        for (int feature : entry.vector.features) {
+            postings.computeIfAbsent(feature, f -> new ArrayList<>()).add(entry.id);
+        }
+        entries.put(normalized, entry);
+        return entry;
+    }
+
+    // 역색인으로 feature 를 공유하는 재료만 내적 계산
+    private Neighbors computeNeighbors(Entry entry) {
+        Map<Integer, Float> scores = new HashMap<>();
+        SparseVector vector = entry.vector;
+        for (int i = 0; i < vector.features.length; i++) {
+            float weight = vector.weights[i];
+            for (int otherId : postings.getOrDefault(vector.features[i], Collections.emptyList())) {
+                if (otherId != entry.id) {
+                    float otherWeight = weightOf(entriesById.get(otherId).vector, vector.features[i]);
+                    scores.merge(otherId, weight * otherWeight, Float::sum);
+                }
+            }
+        }
+
+        PriorityQueue<Map.Entry<Integer, Float>> topK = new PriorityQueue<>(Map.Entry.comparingByValue());
+        for (Map.Entry<Integer, Float> score : scores.entrySet()) {
+            topK.offer(score);
+            if (topK.size() > TOP_K) {
+                topK.poll();
+            }
+        }
+        int size = topK.size();
+        int[] ids = new int[size];
+        float[] values = new float[size];
+        for (int i = size - 1; i >= 0; i--) {
+            Map.Entry<Integer, Float> top = topK.poll();
+            ids[i] = top.getKey();
+            values[i] = top.getValue();
+        }
+        return new Neighbors(ids, values);
+    }
+
+    private static Neighbors insert(Neighbors neighbors, int id, float score) {
+        int size = neighbors.ids.length;
+        if (size == TOP_K && neighbors.scores[size - 1] >= score) {
+            return neighbors;
+        }
+        int position = 0;
+        while (position < size && neighbors.scores[position] >= score) {
+            position++;
+        }
+        int newSize = Math.min(size + 1, TOP_K);
+        int[] ids = new int[newSize];
+        float[] scores = new float[newSize];
+        System.arraycopy(neighbors.ids, 0, ids, 0, position);
+        System.arraycopy(neighbors.scores, 0, scores, 0, position);
+        ids[position] = id;
+        scores[position] = score;
+        System.arraycopy(neighbors.ids, position, ids, position + 1, newSize - position - 1);
+        System.arraycopy(neighbors.scores, position, scores, position + 1, newSize - position - 1);
+        return new Neighbors(ids, scores);
+    }
+
+    private static float weightOf(SparseVector vector, int feature) {
+        int index = Arrays.binarySearch(vector.features, feature);
+        return index >= 0 ? vector.weights[index] : 0f;
+    }
+
+    private static String normalize(String name) {
+        return name.replaceAll("\\s+", "");
+    }
+
+    // 글자 2/3-gram + 자모 3-gram (경계 문자 포함)
+    private static SparseVector vectorize(String name) {
+        Map<Integer, Float> counts = new HashMap<>();
+        String padded = "^" + normalize(name) + "$";
+        for (int n = 2; n <= 3; n++) {
+            for (int i = 0; i + n <= padded.length(); i++) {
+                counts.merge(("c" + padded.substring(i, i + n)).hashCode(), 1f, Float::sum);
+            }
+        }
+        String jamo = "^" + toJamo(normalize(name)) + "$";
+        for (int i = 0; i + 3 <= jamo.length(); i++) {
+            counts.merge(("j" + jamo.substring(i, i + 3)).hashCode(), JAMO_WEIGHT, Float::sum);
+        }
+
+        int[] features = counts.keySet().stream().mapToInt(Integer::intValue).sorted().toArray();
+        float[] weights = new float[features.length];
+        double norm = 0;
+        for (int i = 0; i < features.length; i++) {
+            weights[i] = counts.get(features[i]);
+            norm += weights[i] * weights[i];
+        }
+        norm = Math.sqrt(norm);
+        for (int i = 0; i < weights.length; i++) {
+            weights[i] /= (float) norm;
+        }
+        return new SparseVector(features, weights);
+    }
+
+    // 한글 음절을 초성/중성/종성 자모로 분해
+    private static String toJamo(String text) {
+        StringBuilder sb = new StringBuilder(text.length() * 3);
+        for (char c : text.toCharArray()) {
+            if (c >= 0xAC00 && c <= 0xD7A3) {
+                int offset = c - 0xAC00;
+                sb.append(CHOSEONG[offset / 588]);
+                sb.append(JUNGSEONG[(offset % 588) / 28]);
+                if (offset % 28 != 0) {
+                    sb.append(JONGSEONG[offset % 28]);
+                }
+            } else {
+                sb.append(c);
+            }
+        }
+        return sb.toString();
+    }
+}
@@ -0,0 +1,111 @@
+package com.ReciGuard.service;
+
+import com.ReciGuard.repository.ImageReferenceRepository;
+import com.ReciGuard.storage.BlobStore;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+// 이미 저장한 이미지 object key 의 메모리 색인 (업로드 전 HEAD 요청 줄이기)
+// - Bloom filter: false 면 확실히 새 파일 -> HEAD 없이 바로 PUT, true 면 HEAD 로 확인
+// - 최근 key 캐시: 이 노드가 방금 저장/확인한 key -> HEAD 와 PUT 모두 생략
+@Slf4j
+@Component
+public class KnownImageIndex {
+
+    private final ImageReferenceRepository imageReferenceRepository;
+    private final BlobStore blobStore;
+    private final boolean listBucket;
+    private final long recentTtlMs;
+    private final int recentMaxSize;
+
+    private final BloomFilter bloomFilter;
+    // key -> 저장 확인 시각
+    private final Map<String, Long> recent = new ConcurrentHashMap<>();
+    private final AtomicLong loaded = new AtomicLong();
+
+    public KnownImageIndex(ImageReferenceRepository imageReferenceRepository,
+                           BlobStore blobStore,
+                           @Value("${reciguard.image.known-index.expected:1000000}") long expectedKeys,
+                           @Value("${reciguard.image.known-index.fpp:0.01}") double falsePositiveRate,
+                           @Value("${reciguard.image.known-index.list-bucket:false}") boolean listBucket,
+                           @Value("${reciguard.image.known-index.recent-ttl-ms:300000}") long recentTtlMs,
+                           @Value("${reciguard.image.known-index.recent-max-size:10000}") int recentMaxSize) {
+        this.imageReferenceRepository = imageReferenceRepository;
+        this.blobStore = blobStore;
+        this.listBucket = listBucket;
+        // 스위퍼 유예 시간(기본 10분)보다 짧아야 삭제된 object 를 "있음"으로 착각하지 않는다
+        this.recentTtlMs = recentTtlMs;
+        this.recentMaxSize = recentMaxSize;
+        this.bloomFilter = new BloomFilter(expectedKeys, falsePositiveRate);
+    }
+
+    // 참조 테이블 (+ 설정 시 버킷 목록) 으로 Bloom filter 채우기
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        for (String key : imageReferenceRepository.findAllObjectKeys()) {
+            add(key);
+        }
+        if (listBucket) {
+            try {
+                blobStore.forEachKey(this::add);
+            } catch (Exception e) {
+                log.warn("Failed to list storage keys, using reference table only: {}", e.getMessage());
+            }
+        }
+        log.info("Known image index loaded: {} keys", loaded.get());
+    }
+
+    // 최근에 저장이 확인된 key (HEAD/PUT 모두 생략 가능)
+    public boolean isRecentlyStored(String key) {
+        Long storedAt = recent.get(key);
+        if (storedAt == null) {
+            return false;
+        }
+        if (System.currentTimeMillis() - storedAt > recentTtlMs) {
+            recent.remove(key, storedAt);
+            return false;
+        }
+        return true;
+    }
+
+    // false 면 저장소에 확실히 없음 (다른 노드/직접 업로드로 생긴 object 는 예외 -> 같은 내용을 다시 PUT 할 뿐)
+    public boolean mightBeStored(String key) {
+        return bloomFilter.mightContain(key);
+    }
+
+    // 저장(또는 존재 확인)된 key 기록
+    public void markStored(String key) {
+        add(key);
+        if (recent.size() >= recentMaxSize) {
+            evictExpired();
+        }
+        if (recent.size() < recentMaxSize) {
+            recent.put(key, System.currentTimeMillis());
+        }
+    }
+
+    // 스위퍼가 삭제한 key (Bloom filter 는 삭제가 안 되므로 이후 HEAD 로 확인하게 된다)
+    public void forget(Collection<String> keys) {
+        for (String key : keys) {
+            recent.remove(key);
+        }
+    }
+
+    private void add(String key) {
+        bloomFilter.put(key);
+        loaded.incrementAndGet();
+    }
+
+    private void evictExpired() {
+        long now = System.currentTimeMillis();
+        recent.values().removeIf(storedAt -> now - storedAt > recentTtlMs);
+    }
+}
@@ -0,0 +1,300 @@
+package com.ReciGuard.service;
+
+import com.ReciGuard.dto.IngredientResponseDTO;
+import com.ReciGuard.dto.InstructionResponseDTO;
+import com.ReciGuard.dto.RecipeImportLineDTO;
+import com.ReciGuard.dto.RecipeImportResultDTO;
+import com.ReciGuard.entity.*;
+import com.ReciGuard.repository.ImportCheckpointRepository;
+import com.ReciGuard.repository.IngredientRepository;
+import com.ReciGuard.repository.RecipeRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.*;
+
+// 공공 데이터셋 레시피 대량 import (JSON Lines, 한 줄 = 레시피 1개)
+// 스트림을 한 줄씩 읽어 청크 단위로 커밋하고, 같은 트랜잭션에서 체크포인트를 갱신해서 중단되면 같은 importId 로 이어서 처리한다
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class RecipeImportService {
+
+    private static final int MAX_ERRORS = 100;
+
+    private final ObjectMapper objectMapper;
+    private final RecipeRepository recipeRepository;
+    private final IngredientRepository ingredientRepository;
+    private final ImportCheckpointRepository importCheckpointRepository;
+    private final IngredientDictionary ingredientDictionary;
+    private final RecipeMinHashIndex recipeMinHashIndex;
+    private final TransactionTemplate transactionTemplate;
+    private final EntityManager entityManager;
+
+    @Value("${reciguard.import.chunk-size:500}")
+    private int chunkSize;
+
+    private record ParsedLine(long lineNumber, RecipeImportLineDTO recipe) {
+    }
+
+    // 레시피와 MinHash 인덱스 갱신용 재료 id
+    private record ImportedRecipe(Recipe recipe, List<Long> ingredientIds) {
+    }
+
+    public RecipeImportResultDTO importRecipes(String importId, InputStream in) throws IOException {
+        if (importId == null || importId.isBlank()) {
+            throw new IllegalArgumentException("importId 가 필요합니다.");
+        }
+        ImportCheckpoint checkpoint = loadOrCreateCheckpoint(importId);
+        List<String> errors = new ArrayList<>();
+        if (checkpoint.isCompleted()) {
+            return toResult(checkpoint, errors);
+        }
+
+        long committedLine = checkpoint.getLineNumber();
+        if (committedLine > 0) {
+            log.info("Resuming import {} after line {}", importId, committedLine);
+        }
+
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8))) {
+            List<ParsedLine> chunk = new ArrayList<>(chunkSize);
+            long lineNumber = 0;
+            int failedInChunk = 0;
+            String line;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (lineNumber <= committedLine || line.isBlank()) {
+                    continue; // 이미 커밋된 줄
+                }
+                try {
+                    chunk.add(new ParsedLine(lineNumber, parse(line)));
+                } catch (IllegalArgumentException e) {
+                    failedInChunk++;
+                    if (errors.size() < MAX_ERRORS) {
+                        errors.add("line " + lineNumber + ": " + e.getMessage());
+                    }
+                }
+                if (chunk.size() + failedInChunk >= chunkSize) {
+                    commitChunk(importId, committedLine, lineNumber, chunk, failedInChunk, false, errors);
+                    committedLine = lineNumber;
+                    chunk.clear();
+                    failedInChunk = 0;
+                }
+            }
+            commitChunk(importId, committedLine, Math.max(lineNumber, committedLine), chunk, failedInChunk, true, errors);
+        }
+
+        ImportCheckpoint finished = importCheckpointRepository.findById(importId).orElseThrow();
+        log.info("Import {} finished: {} imported, {} failed", importId, finished.getImportedCount(), finished.getFailedCount());
+        return toResult(finished, errors);
+    }
+
+    private RecipeImportLineDTO parse(String line) {
+        RecipeImportLineDTO recipe;
+        try {
+            recipe = objectMapper.readValue(line, RecipeImportLineDTO.class);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("JSON 형식 오류 - " + e.getOriginalMessage());
+        }
+        if (recipe.getRecipeName() == null || recipe.getRecipeName().isBlank()) {
+            throw new IllegalArgumentException("recipeName 이 없습니다.");
+        }
+        if (recipe.getIngredients() == null || recipe.getIngredients().isEmpty()) {
+            throw new IllegalArgumentException("재료가 없습니다.");
+        }
+        for (IngredientResponseDTO ingredient : recipe.getIngredients()) {
+            if (ingredient.getIngredient() == null || ingredient.getIngredient().isBlank()) {
+                throw new IllegalArgumentException("재료명이 비어 있습니다.");
+            }
+        }
+        return recipe;
+    }
+
+    // 청크 저장 + 체크포인트 갱신을 한 트랜잭션으로, 커밋 후 인덱스 증분 갱신
+    // DB 오류(유니크 키, 컬럼 길이 등)로 청크가 롤백되면 한 줄씩 다시 저장해서 실패한 줄만 기록하고 체크포인트를 넘긴다
+    private void commitChunk(String importId, long expectedLine, long lastLine, List<ParsedLine> chunk, int failed,
+                             boolean completed, List<String> errors) {
+        List<ImportedRecipe> imported;
+        try {
+            imported = transactionTemplate.execute(status -> {
+                ImportCheckpoint checkpoint = lockCheckpoint(importId, expectedLine);
+
+                // 재료 사전은 청크 전체를 한 번에 조회/생성 (청크가 롤백되면 새 재료도 함께 롤백)
+                Map<String, Long> ingredientIds = resolveIngredients(chunk);
+                List<ImportedRecipe> recipes = new ArrayList<>(chunk.size());
+                for (ParsedLine parsed : chunk) {
+                    recipes.add(toEntity(parsed.recipe(), ingredientIds));
+                }
+                // pooled id + JDBC 배치로 테이블별 INSERT 를 묶어서 전송
+                recipeRepository.saveAll(recipes.stream().map(ImportedRecipe::recipe).toList());
+                // 배치 INSERT 오류가 이 안에서 나도록 커밋 전에 flush
+                recipeRepository.flush();
+
+                advanceCheckpoint(checkpoint, lastLine, chunk.size(), failed, completed);
+                return recipes;
+            });
+        } catch (DataAccessException e) {
+            log.warn("Import {} chunk up to line {} failed ({}), retrying line by line", importId, lastLine, e.getMessage());
+            imported = commitLineByLine(importId, expectedLine, lastLine, chunk, failed, completed, errors);
+        }
+
+        // 전체 재구성 없이 새 레시피만 유사 레시피 인덱스에 반영 (알레르기 유사도 인덱스는 재료 사전이 갱신)
+        for (ImportedRecipe recipe : imported) {
+            recipeMinHashIndex.update(recipe.recipe().getId(), recipe.ingredientIds());
+        }
+        log.info("Import {} committed up to line {} ({} recipes)", importId, lastLine, imported.size());
+
+        // open-in-view 로 요청 동안 같은 영속성 컨텍스트가 유지되므로, 커밋된 청크의 엔티티는 비워서
+        // 메모리가 계속 늘거나 다음 flush 때 이전 청크까지 dirty checking 하지 않게 한다
+        entityManager.clear();
+    }
+
+    private Map<String, Long> resolveIngredients(List<ParsedLine> lines) {
+        return ingredientDictionary.resolveAll(lines.stream()
+                .flatMap(parsed -> parsed.recipe().getIngredients().stream())
+                .map(IngredientResponseDTO::getIngredient)
+                .toList());
+    }
+
+    // 한 줄씩 저장, 줄마다 체크포인트를 그 줄까지 넘겨서 중간에 끊겨도 같은 줄을 두 번 저장하지 않는다
+    private List<ImportedRecipe> commitLineByLine(String importId, long expectedLine, long lastLine, List<ParsedLine> chunk,
+                                                  int failed, boolean completed, List<String> errors) {
+        List<ImportedRecipe> imported = new ArrayList<>(chunk.size());
+        long committedLine = expectedLine;
+        for (ParsedLine parsed : chunk) {
+            long previousLine = committedLine;
+            try {
+                // 롤백된 청크의 엔티티는 id 가 이미 채워져 있으므로 DTO 에서 새로 만든다
+                imported.add(transactionTemplate.execute(status -> {
+                    ImportCheckpoint checkpoint = lockCheckpoint(importId, previousLine);
+                    ImportedRecipe recipe = toEntity(parsed.recipe(), resolveIngredients(List.of(parsed)));
+                    recipeRepository.saveAndFlush(recipe.recipe());
+                    advanceCheckpoint(checkpoint, parsed.lineNumber(), 1, 0, false);
+                    return recipe;
+                }));
+            } catch (DataAccessException e) {
+                if (errors.size() < MAX_ERRORS) {
+                    errors.add("line " + parsed.lineNumber() + ": " + e.getMostSpecificCause().getMessage());
+                }
+                transactionTemplate.executeWithoutResult(status ->
+                        advanceCheckpoint(lockCheckpoint(importId, previousLine), parsed.lineNumber(), 0, 1, false));
+            }
+            committedLine = parsed.lineNumber();
+        }
+
+        // 청크 안에서 파싱에 실패한 줄과 마지막 빈 줄까지 반영
+        long chunkStart = committedLine;
+        transactionTemplate.executeWithoutResult(status ->
+                advanceCheckpoint(lockCheckpoint(importId, chunkStart), lastLine, 0, failed, completed));
+        return imported;
+    }
+
+    private ImportCheckpoint lockCheckpoint(String importId, long expectedLine) {
+        ImportCheckpoint checkpoint = importCheckpointRepository.findByIdForUpdate(importId).orElseThrow();
+        if (checkpoint.getLineNumber() != expectedLine) {
+            throw new IllegalStateException("같은 importId 로 다른 요청이 진행 중입니다: " + importId);
+        }
+        return checkpoint;
+    }
+
+    private static void advanceCheckpoint(ImportCheckpoint checkpoint, long lineNumber, int imported, int failed, boolean completed) {
+        checkpoint.setLineNumber(lineNumber);
+        checkpoint.setImportedCount(checkpoint.getImportedCount() + imported);
+        checkpoint.setFailedCount(checkpoint.getFailedCount() + failed);
+        checkpoint.setCompleted(completed);
+        checkpoint.setUpdatedAt(LocalDateTime.now());
+    }
+
+    private ImportedRecipe toEntity(RecipeImportLineDTO dto, Map<String, Long> ingredientIds) {
+        Recipe recipe = new Recipe();
+        recipe.setRecipeName(dto.getRecipeName());
+        recipe.setImagePath(dto.getImagePath());
+        recipe.setServing(dto.getServing());
+        recipe.setCuisine(dto.getCuisine());
+        recipe.setFoodType(dto.getFoodType());
+        recipe.setCookingStyle(dto.getCookingStyle());
+
+        List<Long> recipeIngredientIds = new ArrayList<>();
+        List<RecipeIngredient> ingredients = new ArrayList<>();
+        Set<Long> seen = new HashSet<>();
+        for (IngredientResponseDTO ingredientDto : dto.getIngredients()) {
+            Long ingredientId = ingredientIds.get(ingredientDto.getIngredient());
+            if (!seen.add(ingredientId)) {
+                continue; // 같은 재료가 두 번 나오면 첫 번째만 (대소문자만 다른 이름 포함)
+            }
+            RecipeIngredient recipeIngredient = new RecipeIngredient();
+            recipeIngredient.setIngredient(ingredientRepository.getReferenceById(ingredientId));
+            recipeIngredient.setQuantity(ingredientDto.getQuantity());
+            recipeIngredient.setRecipe(recipe);
+            ingredients.add(recipeIngredient);
+            recipeIngredientIds.add(ingredientId);
+        }
+        recipe.setRecipeIngredients(ingredients);
+
+        List<Instruction> instructions = new ArrayList<>();
+        if (dto.getInstructions() != null) {
+            int order = 1;
+            for (InstructionResponseDTO instructionDto : dto.getInstructions()) {
+                Instruction instruction = new Instruction();
+                instruction.setInstructionId(instructionDto.getInstructionId() != null ? instructionDto.getInstructionId() : order);
+                instruction.setInstruction(instructionDto.getInstruction());
+                instruction.setInstructionImage(instructionDto.getInstructionImage());
+                instruction.setRecipe(recipe);
+                instructions.add(instruction);
+                order++;
+            }
+        }
+        recipe.setInstructions(instructions);
+
+        if (dto.getCalories() != null || dto.getSodium() != null || dto.getCarbohydrate() != null
+                || dto.getFat() != null || dto.getProtein() != null) {
+            Nutrition nutrition = new Nutrition();
+            nutrition.setCalories(valueOf(dto.getCalories()));
+            nutrition.setSodium(valueOf(dto.getSodium()));
+            nutrition.setCarbohydrate(valueOf(dto.getCarbohydrate()));
+            nutrition.setFat(valueOf(dto.getFat()));
+            nutrition.setProtein(valueOf(dto.getProtein()));
+            nutrition.setRecipe(recipe);
+            recipe.setNutrition(nutrition);
+        }
+
+        RecipeStats stats = new RecipeStats();
+        stats.setScrapCount(0);
+        stats.setViewCount(0);
+        recipe.setRecipeStats(stats);
+        return new ImportedRecipe(recipe, recipeIngredientIds);
+    }
+
+    private ImportCheckpoint loadOrCreateCheckpoint(String importId) {
+        try {
+            return transactionTemplate.execute(status -> importCheckpointRepository.findById(importId)
+                    .orElseGet(() -> importCheckpointRepository.saveAndFlush(new ImportCheckpoint(importId))));
+        } catch (DataIntegrityViolationException e) {
+            // 같은 importId 가 동시에 처음 들어옴
+            return importCheckpointRepository.findById(importId).orElseThrow();
+        }
+    }
+
+    private static double valueOf(Double value) {
+        return value != null ? value : 0;
+    }
+
+    private static RecipeImportResultDTO toResult(ImportCheckpoint checkpoint, List<String> errors) {
+        return new RecipeImportResultDTO(checkpoint.getImportId(), checkpoint.getImportedCount(), checkpoint.getFailedCount(),
+                checkpoint.getLineNumber(), checkpoint.isCompleted(), errors);
+    }
+}
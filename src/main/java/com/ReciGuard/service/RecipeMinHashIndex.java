@@ -0,0 +1,163 @@
+package com.ReciGuard.service;
+
+import com.ReciGuard.repository.RecipeIngredientRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+// 레시피 재료 집합의 MinHash 시그니처 + LSH banding 인덱스
+// 같은 band 버킷에 들어온 후보만 비교하므로 조회 비용이 전체 레시피 수와 무관하다
+@Slf4j
+@Component
+public class RecipeMinHashIndex {
+
+    private static final int NUM_HASHES = 128;
+    private static final int BANDS = 32;
+    private static final int ROWS = NUM_HASHES / BANDS; // Jaccard 약 0.42 부근에서 후보가 되도록 설정
+    private static final long PRIME = 2_147_483_647L;   // 2^31 - 1
+    private static final long SEED = 20241214L;
+
+    private final RecipeIngredientRepository recipeIngredientRepository;
+
+    private final long[] hashA = new long[NUM_HASHES];
+    private final long[] hashB = new long[NUM_HASHES];
+
+    // recipeId -> MinHash 시그니처
+    private final Map<Long, int[]> signatures = new ConcurrentHashMap<>();
+    // band 별 버킷: band 해시 -> recipeId 집합
+    private final List<Map<Long, Set<Long>>> bandBuckets = new ArrayList<>(BANDS);
+
+    public RecipeMinHashIndex(RecipeIngredientRepository recipeIngredientRepository) {
+        this.recipeIngredientRepository = recipeIngredientRepository;
+
+        // 노드마다 같은 시그니처가 나오도록 고정 시드 사용
+        Random random = new Random(SEED);
+        for (int i = 0; i < NUM_HASHES; i++) {
+            hashA[i] = 1 + (long) (random.nextDouble() * (PRIME - 1));
+            hashB[i] = (long) (random.nextDouble() * PRIME);
+        }
+        for (int band = 0; band < BANDS; band++) {
+            bandBuckets.add(new ConcurrentHashMap<>());
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        Map<Long, List<Long>> ingredientIdsByRecipe = new HashMap<>();
+        for (Object[] pair : recipeIngredientRepository.findAllRecipeIngredientPairs()) {
+            ingredientIdsByRecipe.computeIfAbsent((Long) pair[0], id -> new ArrayList<>()).add((Long) pair[1]);
+        }
+        ingredientIdsByRecipe.forEach(this::update);
+        log.info("Recipe MinHash index loaded: {} recipes", signatures.size());
+    }
+
+    // 레시피 등록/수정 시 시그니처와 버킷 갱신
+    public synchronized void update(Long recipeId, Collection<Long> ingredientIds) {
+        removeFromBuckets(recipeId);
+        if (ingredientIds == null || ingredientIds.isEmpty()) {
+            return;
+        }
+        int[] signature = signatureOf(ingredientIds);
+        signatures.put(recipeId, signature);
+        for (int band = 0; band < BANDS; band++) {
+            bandBuckets.get(band)
+                    .computeIfAbsent(bandKey(signature, band), key -> ConcurrentHashMap.newKeySet())
+                    .add(recipeId);
+        }
+    }
+
+    // 레시피 삭제 시 인덱스에서 제거
+    public synchronized void remove(Long recipeId) {
+        removeFromBuckets(recipeId);
+    }
+
+    // 추정 Jaccard 유사도가 minSimilarity 이상인 레시피 ID (유사도 내림차순)
+    public List<Long> findSimilarRecipeIds(Long recipeId, double minSimilarity, int limit) {
+        int[] signature = signatures.get(recipeId);
+        if (signature == null) {
+            return Collections.emptyList();
+        }
+
+        Set<Long> candidates = new HashSet<>();
+        for (int band = 0; band < BANDS; band++) {
+            Set<Long> bucket = bandBuckets.get(band).get(bandKey(signature, band));
+            if (bucket != null) {
+                candidates.addAll(bucket);
+            }
+        }
+        candidates.remove(recipeId);
+
+        List<Map.Entry<Long, Double>> scored = new ArrayList<>();
+        for (Long candidate : candidates) {
+            int[] other = signatures.get(candidate);
+            if (other == null) {
+                continue;
+            }
+            double similarity = estimateJaccard(signature, other);
+            if (similarity >= minSimilarity) {
+                scored.add(new AbstractMap.SimpleImmutableEntry<>(candidate, similarity));
+            }
+        }
+
+        return scored.stream()
+                .sorted(Map.Entry.<Long, Double>comparingByValue().reversed())
+                .limit(limit)
+                .map(Map.Entry::getKey)
+                .toList();
+    }
+
+    private int[] signatureOf(Collection<Long> ingredientIds) {
+        int[] signature = new int[NUM_HASHES];
+        Arrays.fill(signature, Integer.MAX_VALUE);
+        for (Long ingredientId : ingredientIds) {
+            long x = Math.floorMod(ingredientId, PRIME);
+            for (int i = 0; i < NUM_HASHES; i++) {
+                int h = (int) ((hashA[i] * x + hashB[i]) % PRIME);
+                if (h < signature[i]) {
+                    signature[i] = h;
+                }
+            }
+        }
+        return signature;
+    }
+
+    private static long bandKey(int[] signature, int band) {
+        long key = 1125899906842597L;
+        for (int row = band * ROWS; row < (band + 1) * ROWS; row++) {
+            key = 31 * key + signature[row];
+        }
+        return key;
+    }
+
+    private static double estimateJaccard(int[] a, int[] b) {
+        int matches = 0;
+        for (int i = 0; i < NUM_HASHES; i++) {
+            if (a[i] == b[i]) {
+                matches++;
+            }
+        }
+        return (double) matches / NUM_HASHES;
+    }
+
+    private void removeFromBuckets(Long recipeId) {
+        int[] previous = signatures.remove(recipeId);
+        if (previous == null) {
+            return;
+        }
+        for (int band = 0; band < BANDS; band++) {
+            Map<Long, Set<Long>> buckets = bandBuckets.get(band);
+            long key = bandKey(previous, band);
+            Set<Long> bucket = buckets.get(key);
+            if (bucket != null) {
+                bucket.remove(recipeId);
+                if (bucket.isEmpty()) {
+                    buckets.remove(key, bucket);
+                }
+            }
+        }
+    }
+}
@@ -2,28 +2,37 @@ package com.ReciGuard.service;
 
 import com.ReciGuard.dto.*;
 import com.ReciGuard.entity.*;
+import com.ReciGuard.event.RecipeDeletedEvent;
 import com.ReciGuard.repository.*;
 import jakarta.persistence.EntityNotFoundException;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.client.HttpClientErrorException;
 import org.springframework.web.client.RestTemplate;
 import org.springframework.web.multipart.MultipartFile;
 import org.springframework.web.multipart.MultipartHttpServletRequest;
 
-import java.security.MessageDigest;
-import java.security.NoSuchAlgorithmException;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -34,20 +43,43 @@ public class RecipeService {
 
     private final RecipeRepository recipeRepository;
     private final IngredientRepository ingredientRepository;
-    private final UserService userService;
+    private final IngredientDictionary ingredientDictionary;
+    private final UserRepository userRepository;
     private final RecipeStatsRepository recipeStatsRepository;
     private final RecipeIngredientRepository recipeIngredientRepository;
     private final UserScrapRepository userScrapRepository;
-    private final UserIngredientRepository userIngredientRepository;
+    private final AllergyProfileCache allergyProfileCache;
     private final InstructionRepository instructionRepository;
     private final S3Uploader s3Uploader;
     private final RestTemplate restTemplate;
+    private final ScrapSimilarityIndex scrapSimilarityIndex;
+    private final RecipeMinHashIndex recipeMinHashIndex;
+    private final AllergyCheckBatcher allergyCheckBatcher;
+    private final IngredientSimilarityIndex ingredientSimilarityIndex;
+    private final TransactionTemplate transactionTemplate;
+    private final ImageRenditionService imageRenditionService;
+    private final ImageReferenceService imageReferenceService;
+    private final ApplicationEventPublisher eventPublisher;
+    @Qualifier("imageUploadExecutor")
+    private final ExecutorService imageUploadExecutor;
+
+    @Value("${reciguard.allergy.batch.timeout-ms:2000}")
+    private long allergyHintTimeoutMs;
+
+    private static final int SCRAP_SIMILAR_LIMIT = 10;
+    private static final int TODAY_RECIPE_CANDIDATES = 10;
+    private static final int SIMILAR_RECIPE_LIMIT = 10;
+    private static final double SIMILAR_RECIPE_MIN_JACCARD = 0.3;
+    private static final int ALLERGY_HINT_MAX_RECIPES = 200;
 
     @Value("http://15.164.219.9:8000/recommend")
     private String recipeRecommendApiUrl;
 
-    @Value("http://54.180.85.44:8000/check_allergy")
-    private String similarAllergyApiUrl;
+    @Value("${reciguard.allergy.remote-refinement.enabled:false}")
+    private boolean remoteAllergyRefinementEnabled;
+
+    @Value("${reciguard.allergy.remote-refinement.timeout-ms:150}")
+    private long remoteAllergyRefinementTimeoutMs;
 
     public RecipeRecommendResponseDTO getTodayRecipe(Long userId) {
         // AI 모델에 전달할 데이터 준비
@@ -69,7 +101,7 @@ public class RecipeService {
             Map<String, Object> responseBody = response.getBody();
             if (!responseBody.containsKey("recipe_id")) {
                 log.error("AI 모델 응답에 recipeId가 없습니다.");
-                return new RecipeRecommendResponseDTO(null, null, null);
+                return getScrapBasedTodayRecipe(userId);
             }
 
             // AI 모델로부터 받은 recipeId
@@ -89,12 +121,93 @@ public class RecipeService {
             } catch (HttpClientErrorException e){
                 log.error("AI 모델 API 호출 실패: {}", e.getStatusCode());
                 log.info("Calling AI model with userId: {}", userId);
-                return new RecipeRecommendResponseDTO(null, null, null);
+                return getScrapBasedTodayRecipe(userId);
             } catch (Exception e) {
                 log.error("AI 모델 호출 중 오류 발생: {}", e.getMessage());
                 log.info("Calling AI model with userId: {}", userId);
-                return new RecipeRecommendResponseDTO(null, null, null);
+                return getScrapBasedTodayRecipe(userId);
+        }
+    }
+
+    // AI 모델 호출 실패 시 스크랩 기반 추천으로 대체 (상위 후보 중 취향 bitmask 와 가장 많이 겹치는 레시피)
+    private RecipeRecommendResponseDTO getScrapBasedTodayRecipe(Long userId) {
+        List<Long> candidates = scrapSimilarityIndex.recommendForUser(userId, TODAY_RECIPE_CANDIDATES);
+        Optional<User> user = userRepository.findById(userId);
+        Map<Long, Recipe> recipes = recipeRepository.findAllById(candidates).stream()
+                .collect(Collectors.toMap(Recipe::getId, recipe -> recipe));
+        return candidates.stream()
+                .map(recipes::get)
+                .filter(Objects::nonNull)
+                // 동점이면 스크랩 유사도 순서 유지
+                .max(Comparator.comparingInt((Recipe recipe) -> user.map(u -> u.tasteScore(recipe)).orElse(0))
+                        .thenComparing(recipe -> -candidates.indexOf(recipe.getId())))
+                .map(recipe -> new RecipeRecommendResponseDTO(
+                        recipe.getId(),
+                        recipe.getImagePath(),
+                        recipe.getRecipeName()))
+                .orElseGet(() -> new RecipeRecommendResponseDTO(null, null, null));
+    }
+
+    // 이 레시피를 스크랩한 사용자들이 함께 스크랩한 레시피
+    public List<RecipeListResponseDTO> getAlsoScrappedRecipes(Long recipeId, Long userId) {
+        List<Long> recipeIds = scrapSimilarityIndex.findSimilarRecipeIds(recipeId, SCRAP_SIMILAR_LIMIT);
+        return toRecipeListInOrder(recipeIds, userId);
+    }
+
+    // 스크랩 기반 개인화 추천 레시피
+    public List<RecipeListResponseDTO> getScrapBasedRecommendations(Long userId) {
+        List<Long> recipeIds = scrapSimilarityIndex.recommendForUser(userId, SCRAP_SIMILAR_LIMIT);
+        return toRecipeListInOrder(recipeIds, userId);
+    }
+
+    // 재료 구성이 비슷한 레시피 (사용자 알레르기 재료가 들어간 레시피 제외)
+    public List<RecipeListResponseDTO> getSimilarRecipes(Long recipeId, Long userId) {
+        if (!recipeRepository.existsById(recipeId)) {
+            throw new EntityNotFoundException("요청한 데이터를 찾을 수 없습니다.");
+        }
+
+        // 알레르기 제외 후에도 개수가 채워지도록 후보를 넉넉히 조회
+        List<Long> candidates = recipeMinHashIndex.findSimilarRecipeIds(
+                recipeId, SIMILAR_RECIPE_MIN_JACCARD, SIMILAR_RECIPE_LIMIT * 3);
+
+        List<String> allergyIngredients = allergyProfileCache.getAllergyIngredients(userId);
+        if (!candidates.isEmpty() && !allergyIngredients.isEmpty()) {
+            // 필터링 쿼리와 동일하게 재료명이 알레르기 재료명을 포함하면 제외
+            Set<Long> unsafeRecipeIds = recipeIngredientRepository.findIngredientNamesByRecipeIds(candidates).stream()
+                    .filter(row -> allergyIngredients.stream().anyMatch(allergy -> ((String) row[1]).contains(allergy)))
+                    .map(row -> (Long) row[0])
+                    .collect(Collectors.toSet());
+            candidates = candidates.stream()
+                    .filter(id -> !unsafeRecipeIds.contains(id))
+                    .toList();
         }
+
+        return toRecipeListInOrder(candidates.stream().limit(SIMILAR_RECIPE_LIMIT).toList(), userId);
+    }
+
+    // recipeId 순서(유사도 순)를 유지하면서 DTO로 변환
+    private List<RecipeListResponseDTO> toRecipeListInOrder(List<Long> recipeIds, Long userId) {
+        if (recipeIds.isEmpty()) {
+            return Collections.emptyList();
+        }
+        Map<Long, Recipe> recipes = recipeRepository.findAllById(recipeIds).stream()
+                .collect(Collectors.toMap(Recipe::getId, recipe -> recipe));
+
+        return recipeIds.stream()
+                .map(recipes::get)
+                .filter(Objects::nonNull) // 삭제된 레시피 제외
+                .map(recipe -> {
+                    boolean scrapped = userScrapRepository.existsUserScrap(userId, recipe.getId());
+                    return new RecipeListResponseDTO(
+                            recipe.getId(),
+                            recipe.getRecipeName(),
+                            recipe.getImagePath(),
+                            recipe.getThumbnailPath(),
+                            recipe.getServing(),
+                            scrapped
+                    );
+                })
+                .collect(Collectors.toList());
     }
 
     // 전체 레시피 리스트
@@ -113,6 +226,7 @@ public class RecipeService {
                             recipe.getId(),
                             recipe.getRecipeName(),
                             recipe.getImagePath(),
+                            recipe.getThumbnailPath(),
                             recipe.getServing(),
                             isScrapped // 추가
                     );
@@ -123,7 +237,7 @@ public class RecipeService {
     // 전체 레시피 리스트 -> 필터링 후
     public List<RecipeListResponseDTO> getAllFilteredRecipes(Long userId) {
 
-        List<String> allergyIngredients = userIngredientRepository.findAllergyIngredientsByUserId(userId);
+        List<String> allergyIngredients = allergyProfileCache.getAllergyIngredients(userId);
 
         if (allergyIngredients.isEmpty()) {
             throw new EntityNotFoundException("사용자의 알레르기 정보가 없습니다.");
@@ -144,6 +258,7 @@ public class RecipeService {
                             recipe.getId(),
                             recipe.getRecipeName(),
                             recipe.getImagePath(),
+                            recipe.getThumbnailPath(),
                             recipe.getServing(),
                             scrapped
                     );
@@ -166,6 +281,7 @@ public class RecipeService {
                             recipe.getId(),
                             recipe.getRecipeName(),
                             recipe.getImagePath(),
+                            recipe.getThumbnailPath(),
                             recipe.getServing(),
                             scrapped
                     );
@@ -176,7 +292,7 @@ public class RecipeService {
     // cuisine 별 레시피 리스트 -> 필터링 후
     public List<RecipeListResponseDTO> getFilteredRecipesByCuisine(Long userId, String cuisine) {
 
-        List<String> allergyIngredients = userIngredientRepository.findAllergyIngredientsByUserId(userId);
+        List<String> allergyIngredients = allergyProfileCache.getAllergyIngredients(userId);
 
         if (allergyIngredients.isEmpty()) {
             throw new EntityNotFoundException("사용자의 알레르기 정보가 없습니다.");
@@ -197,6 +313,7 @@ public class RecipeService {
                             recipe.getId(),
                             recipe.getRecipeName(),
                             recipe.getImagePath(),
+                            recipe.getThumbnailPath(),
                             recipe.getServing(),
                             scrapped
                     );
@@ -219,6 +336,7 @@ public class RecipeService {
                             recipe.getId(),
                             recipe.getRecipeName(),
                             recipe.getImagePath(),
+                            recipe.getThumbnailPath(),
                             recipe.getServing(),
                             scrapped
                     );
@@ -229,7 +347,7 @@ public class RecipeService {
     // 검색 단어와 사용자 알레르기 정보를 기반으로 필터링된 레시피 리스트 검색
     public List<RecipeListResponseDTO> getFilteredRecipesByQuery(Long userId, String query) {
 
-        List<String> allergyIngredients = userIngredientRepository.findAllergyIngredientsByUserId(userId);
+        List<String> allergyIngredients = allergyProfileCache.getAllergyIngredients(userId);
 
         if (allergyIngredients.isEmpty()) {
             throw new EntityNotFoundException("사용자의 알레르기 정보가 없습니다.");
@@ -250,6 +368,7 @@ public class RecipeService {
                             recipe.getId(),
                             recipe.getRecipeName(),
                             recipe.getImagePath(),
+                            recipe.getThumbnailPath(),
                             recipe.getServing(),
                             scrapped
                     );
@@ -257,34 +376,59 @@ public class RecipeService {
                 .collect(Collectors.toList());
     }
 
-    // 알레르기 유발 가능한 유사 재료 받아오는 ai 모델
-    private SimilarAllergyIngredientDTO getSimilarAllergyIngredients(Long recipeId, Long userId) {
-        try {
-            // 요청 페이로드 생성
-            Map<String, Object> requestPayload = Map.of(
-                    "recipe_id", recipeId,
-                    "user_id", userId
-            );
+    // 알레르기 유발 가능한 유사 재료 (내장 유사도 엔진으로 계산)
+    // 원격 AI 모델은 선택적으로 짧은 시간 동안만 기다려 결과를 보강한다
+    private List<String> getSimilarAllergyIngredients(Long recipeId, Long userId, List<String> recipeIngredientNames) {
+        List<String> allergyIngredients = allergyProfileCache.getAllergyIngredients(userId);
+        List<String> similarIngredients = ingredientSimilarityIndex.findSimilarAllergyIngredients(allergyIngredients, recipeIngredientNames);
 
-            // AI 모델 API 호출
-            ResponseEntity<SimilarAllergyIngredientDTO> response = restTemplate.exchange(
-                    similarAllergyApiUrl,
-                    HttpMethod.POST,
-                    new HttpEntity<>(requestPayload),
-                    SimilarAllergyIngredientDTO.class
-            );
-            log.info("AI 모델 응답: {}", response.getBody());
-            log.info("Calling AI model with recipeId: {} and userId: {}", recipeId, userId);
+        if (!remoteAllergyRefinementEnabled || allergyIngredients.isEmpty()) {
+            return similarIngredients;
+        }
 
-            // 응답 본문 반환 (null 체크)
-            response.getBody();
-            return response.getBody();
-        } catch (Exception e) {
+        try {
+            List<String> remoteIngredients = allergyCheckBatcher.submit(recipeId, userId)
+                    .get(remoteAllergyRefinementTimeoutMs, TimeUnit.MILLISECONDS);
+            Set<String> merged = new LinkedHashSet<>(similarIngredients);
+            merged.addAll(remoteIngredients);
+            return new ArrayList<>(merged);
+        } catch (TimeoutException e) {
+            log.info("AI 모델 응답 지연, 내장 모델 결과만 사용: recipeId={}, userId={}", recipeId, userId);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
             log.error("AI 모델 호출 실패: {}", e.getMessage());
-            log.info("Calling AI model with recipeId: {} and userId: {}", recipeId, userId);
+        }
+        return similarIngredients;
+    }
 
-            return new SimilarAllergyIngredientDTO(Collections.emptyList());
+    // 리스트 화면용 유사 알레르기 뱃지 정보 (recipeId -> 유사 알레르기 재료)
+    // 요청들은 AllergyCheckBatcher 에서 묶여 batch API 로 전송된다
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public Map<Long, List<String>> getAllergyHints(List<Long> recipeIds, Long userId) {
+        if (recipeIds.size() > ALLERGY_HINT_MAX_RECIPES) {
+            throw new IllegalArgumentException("한 번에 조회할 수 있는 레시피는 최대 " + ALLERGY_HINT_MAX_RECIPES + "개입니다.");
         }
+
+        Map<Long, CompletableFuture<List<String>>> futures = new LinkedHashMap<>();
+        recipeIds.forEach(recipeId -> futures.computeIfAbsent(recipeId, id -> allergyCheckBatcher.submit(id, userId)));
+
+        try {
+            CompletableFuture.allOf(futures.values().toArray(new CompletableFuture[0]))
+                    .get(allergyHintTimeoutMs, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            log.warn("유사 알레르기 batch 응답 지연: {}ms 안에 도착한 결과만 반환합니다.", allergyHintTimeoutMs);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            log.error("유사 알레르기 batch 조회 실패: {}", e.getMessage());
+        }
+
+        Map<Long, List<String>> hints = new LinkedHashMap<>();
+        // 아직 도착하지 않았거나 실패한 결과는 빈 리스트
+        futures.forEach((recipeId, future) -> hints.put(recipeId,
+                future.isDone() && !future.isCompletedExceptionally() ? future.join() : Collections.emptyList()));
+        return hints;
     }
 
     // 레시피 상세 검색
@@ -322,9 +466,11 @@ public class RecipeService {
                 ))
                 .collect(Collectors.toList());
 
-        // 8. AI 모델에서 유사 알레르기 유발 재료 가져오기
-        SimilarAllergyIngredientDTO similarAllergyIngredientsDTO = getSimilarAllergyIngredients(recipe.getId(), userId);
-        List<String> similarAllergyIngredients = similarAllergyIngredientsDTO.getSimilarIngredient();
+        // 8. 유사 알레르기 유발 재료 계산
+        List<String> similarAllergyIngredients = getSimilarAllergyIngredients(
+                recipe.getId(),
+                userId,
+                ingredients.stream().map(IngredientResponseDTO::getIngredient).collect(Collectors.toList()));
 
         // isScrapped 값 확인
         boolean scrapped = userScrapRepository.existsUserScrap(userId, recipe.getId());
@@ -352,52 +498,153 @@ public class RecipeService {
         );
     }
 
-    @Transactional
-    public void saveMyRecipe(MyRecipeForm recipeForm, MultipartFile recipeImage, Map<String, MultipartFile> instructionImageFiles, HttpServletRequest request) {
+    // 이미지 업로드는 트랜잭션 밖에서 병렬로 끝낸 뒤, 엔티티 저장만 짧은 트랜잭션으로 처리
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void saveMyRecipe(Long userId, MyRecipeForm recipeForm, MultipartFile recipeImage, Map<String, MultipartFile> instructionImageFiles, HttpServletRequest request) {
+
+        // 1. 작성자 userId 는 컨트롤러에서 @CurrentUser 로 전달
+        //    재료명이 비어 있으면 업로드 전에 400 (import 와 같은 기준)
+        if (recipeForm.getIngredients() == null) {
+            throw new IllegalArgumentException("재료가 없습니다.");
+        }
+        for (IngredientResponseDTO ingredientDto : recipeForm.getIngredients()) {
+            if (isBlank(ingredientDto.getIngredient())) {
+                throw new IllegalArgumentException("재료명이 비어 있습니다.");
+            }
+        }
 
-        // 1. 현재 인증된 사용자의 username 가져오기
-        String username = SecurityContextHolder.getContext().getAuthentication().getName();
-        Long userId = userService.findUserIdByUsername(username);
+        // 2. instruction 이미지 파일 파싱
+        if (request instanceof MultipartHttpServletRequest multipartRequest) {
+            Map<String, MultipartFile> parsedInstructionFiles = new HashMap<>();
+            multipartRequest.getFileMap().forEach((key, value) -> {
+                if (key.startsWith("instructionImageFiles[")) {
+                    parsedInstructionFiles.put(key, value);
+                }
+            });
+            instructionImageFiles = parsedInstructionFiles;
+        }
 
-        // 2. Recipe 엔티티 생성 및 설정
-        Recipe recipe = new Recipe();
+        // 파싱된 파일 키 확인
+        log.info("Parsed file keys: {}", instructionImageFiles != null ? instructionImageFiles.keySet() : "No files provided");
 
-        recipe.setRecipeName(recipeForm.getRecipeName());
-        // 레시피 사진 업로드 (사용자가 업로드한 경우만!!)
+        // 3. 모든 이미지 업로드를 업로드 전용 풀에서 동시에 시작
+        //    (직접 업로드한 이미지는 object key 확인만 한다)
+        CompletableFuture<S3Uploader.UploadResult> recipeImageUpload = null;
         if (recipeImage != null && !recipeImage.isEmpty()) {
-            String uploadedRecipeImage = s3Uploader.saveFile(recipeImage);
-            recipe.setImagePath(uploadedRecipeImage); // 단일 사진 저장
             log.info("Received recipeImage: {}, size: {}", recipeImage.getOriginalFilename(), recipeImage.getSize());
+            recipeImageUpload = uploadAsync(recipeImage);
+        } else if (recipeForm.getImageKey() != null) {
+            recipeImageUpload = claimAsync(recipeForm.getImageKey());
         } else {
-            recipe.setImagePath(null); // 사진이 없으면 null 처리
             log.info("No recipeImage provided.");
         }
 
+        // 새 레시피의 instruction_id 는 1부터 순서대로 부여
+        Map<Integer, CompletableFuture<S3Uploader.UploadResult>> instructionImageUploads = new HashMap<>();
+        for (int instructionId = 1; instructionId <= recipeForm.getInstructions().size(); instructionId++) {
+            MultipartFile file = instructionImageFiles != null
+                    ? instructionImageFiles.get("instructionImageFiles[" + instructionId + "]")
+                    : null;
+            String imageKey = recipeForm.getInstructionImageKeys() != null
+                    ? recipeForm.getInstructionImageKeys().get(instructionId)
+                    : null;
+            if (file != null && !file.isEmpty()) {
+                instructionImageUploads.put(instructionId, uploadAsync(file));
+            } else if (imageKey != null) {
+                instructionImageUploads.put(instructionId, claimAsync(imageKey));
+            } else {
+                log.info("No file provided for instruction {}", instructionId);
+            }
+        }
+
+        // 4. 업로드 완료 대기 (가장 느린 업로드 시간만큼만 걸린다)
+        List<CompletableFuture<S3Uploader.UploadResult>> uploads = new ArrayList<>(instructionImageUploads.values());
+        if (recipeImageUpload != null) {
+            uploads.add(recipeImageUpload);
+        }
+        CompletableFuture.allOf(uploads.toArray(new CompletableFuture[0]))
+                .exceptionally(e -> null)
+                .join();
+
+        List<S3Uploader.UploadResult> uploaded = uploads.stream()
+                .filter(upload -> !upload.isCompletedExceptionally())
+                .map(CompletableFuture::join)
+                .collect(Collectors.toList());
+
+        // 레시피 대표 사진 업로드 실패는 저장 실패로 처리
+        S3Uploader.UploadResult recipeImageResult = null;
+        if (recipeImageUpload != null) {
+            try {
+                recipeImageResult = recipeImageUpload.join();
+            } catch (CompletionException e) {
+                releaseUploads(uploaded);
+                if (e.getCause() instanceof IllegalArgumentException invalid) {
+                    throw invalid; // 잘못된 파일/이미지 key
+                }
+                throw new RuntimeException("File upload failed", e.getCause());
+            }
+        }
+
+        // instruction 사진 업로드 실패는 해당 단계만 사진 없이 저장
+        Map<Integer, S3Uploader.UploadResult> instructionImageResults = new HashMap<>();
+        instructionImageUploads.forEach((instructionId, upload) -> {
+            try {
+                S3Uploader.UploadResult result = upload.join();
+                instructionImageResults.put(instructionId, result);
+                log.info("Uploaded image for instruction {}: {}", instructionId, result.url());
+            } catch (CompletionException e) {
+                log.error("Failed to upload image for instruction {}: {}", instructionId, e.getCause().getMessage());
+            }
+        });
+
+        // 5. 엔티티 저장 (실패하면 이번 요청에서 잡은 이미지 참조를 반납)
+        S3Uploader.UploadResult finalRecipeImageResult = recipeImageResult;
+        Recipe saved;
+        try {
+            saved = transactionTemplate.execute(status ->
+                    persistMyRecipe(recipeForm, userId, finalRecipeImageResult, instructionImageResults));
+        } catch (RuntimeException e) {
+            log.error("Failed to save recipe, releasing {} uploaded images", uploaded.size());
+            releaseUploads(uploaded);
+            throw e;
+        }
+
+        // 6. 유사 레시피 인덱스 갱신 (저장 트랜잭션은 이미 커밋됨, 바깥 트랜잭션이 있으면 그 커밋 뒤)
+        Long savedId = saved.getId();
+        List<Long> savedIngredientIds = ingredientIdsOf(saved);
+        AfterCommit.run(() -> recipeMinHashIndex.update(savedId, savedIngredientIds));
+
+        // 7. 목록용 썸네일 생성 요청 (비동기)
+        imageRenditionService.requestRenditions(saved.getImageHash(), saved.getImagePath());
+    }
+
+    private Recipe persistMyRecipe(MyRecipeForm recipeForm, Long userId, S3Uploader.UploadResult recipeImage, Map<Integer, S3Uploader.UploadResult> instructionImages) {
+        // Recipe 엔티티 생성 및 설정
+        Recipe recipe = new Recipe();
+
+        recipe.setRecipeName(recipeForm.getRecipeName());
+        recipe.setImagePath(recipeImage != null ? recipeImage.url() : null); // 사진이 없으면 null
+        recipe.setImageHash(recipeImage != null ? recipeImage.hash() : null);
         recipe.setServing(recipeForm.getServing());
         recipe.setCuisine(recipeForm.getCuisine());
         recipe.setFoodType(recipeForm.getFoodType());
         recipe.setCookingStyle(recipeForm.getCookingStyle());
 
-        // 3. userId로 User 엔티티 연관관계 설정
+        // userId로 User 엔티티 연관관계 설정
         User user = new User();
         user.setUserid(userId);
         recipe.setUser(user);
 
-        // 4. Ingredients 저장
+        // Ingredients 저장 (재료 id 는 사전에서 한 번에 조회/생성)
+        Map<String, Long> ingredientIds = ingredientDictionary.resolveAll(recipeForm.getIngredients().stream()
+                .map(IngredientResponseDTO::getIngredient)
+                .toList());
         List<RecipeIngredient> ingredients = recipeForm.getIngredients().stream()
                 .map(ingredientDto -> {
                     RecipeIngredient recipeIngredient = new RecipeIngredient();
 
-                    // Ingredient 조회
-                    Ingredient ingredient = ingredientRepository.findByIngredient(ingredientDto.getIngredient());
-                    if (ingredient == null) {
-                        // 재료가 없으면 새로 추가
-                        ingredient = new Ingredient();
-                        ingredient.setIngredient(ingredientDto.getIngredient());
-                        ingredient = ingredientRepository.save(ingredient);
-                    }
                     // RecipeIngredient 설정
-                    recipeIngredient.setIngredient(ingredient);
+                    recipeIngredient.setIngredient(ingredientRepository.getReferenceById(ingredientIds.get(ingredientDto.getIngredient())));
                     recipeIngredient.setQuantity(ingredientDto.getQuantity());
                     recipeIngredient.setRecipe(recipe);
                     return recipeIngredient;
@@ -405,89 +652,91 @@ public class RecipeService {
                 .collect(Collectors.toList());
         recipe.setRecipeIngredients(ingredients);
 
-        // 5. Instructions 저장
-        if (request instanceof MultipartHttpServletRequest multipartRequest) {
-            Map<String, MultipartFile> parsedInstructionFiles = new HashMap<>();
-            multipartRequest.getFileMap().forEach((key, value) -> {
-                if (key.startsWith("instructionImageFiles[")) {
-                    parsedInstructionFiles.put(key, value);
-                }
-            });
-            instructionImageFiles = parsedInstructionFiles;
-        }
-
-        // 파싱된 파일 키 확인
-        log.info("Parsed file keys: {}", instructionImageFiles != null ? instructionImageFiles.keySet() : "No files provided");
-
-        // recipe_id 범위 내에서 instruction_id 시작값 설정
-        AtomicInteger instructionCounter = new AtomicInteger(
-                instructionRepository.findMaxInstructionIdByRecipeId(recipe.getId()).orElse(0) + 1
-        );
-
-        // 여기서부터 찐 Instructions 저장!!
-        Map<String, MultipartFile> finalInstructionImageFiles = instructionImageFiles;
+        // Instructions 저장 (업로드가 끝난 사진 URL만 연결)
+        AtomicInteger instructionCounter = new AtomicInteger(1);
         List<Instruction> instructions = recipeForm.getInstructions().stream()
                 .map(instructionDto -> {
                     Instruction instruction = new Instruction();
                     instruction.setInstruction(instructionDto.getInstruction());
-
-                    // instruction_id 설정
                     instruction.setInstructionId(instructionCounter.getAndIncrement());
-
-                    // 현재 처리 중인 Instruction ID 확인
-                    log.info("Processing instruction ID: {}", instruction.getInstructionId());
-
-                    // instructionImageFiles로부터 파일을 매핑하거나 null 처리
-                    if (finalInstructionImageFiles != null) {
-                        String matchingKey = finalInstructionImageFiles.keySet().stream()
-                                .filter(key -> key.equals("instructionImageFiles[" + instruction.getInstructionId() + "]"))
-                                .findFirst()
-                                .orElse(null);
-
-                        if (matchingKey != null) {
-                            log.info("Found matching key for instruction {}: {}", instruction.getInstructionId(), matchingKey);
-                            MultipartFile file = finalInstructionImageFiles.get(matchingKey);
-
-                            // 파일이 있으면 업로드, 없으면 null로 처리
-                            if (file != null && !file.isEmpty()) {
-                                try {
-                                    String uploadedUrl = s3Uploader.saveFile(file); // S3에 단일 파일 저장
-                                    instruction.setInstructionImage(uploadedUrl); // URL 설정
-                                    log.info("Uploaded image for instruction {}: {}", instruction.getInstructionId(), uploadedUrl);
-                                } catch (Exception e) {
-                                    log.error("Failed to upload image for instruction {}: {}", instruction.getInstructionId(), e.getMessage());
-                                    instruction.setInstructionImage(null); // 업로드 실패 시 null
-                                }
-                            } else {
-                                log.info("No file provided for instruction {}", instruction.getInstructionId());
-                                instruction.setInstructionImage(null); // 사진이 없으면 null로 처리
-                            }
-                        } else {
-                            log.info("No matching file found for instruction {}", instruction.getInstructionId());
-                            instruction.setInstructionImage(null); // 사진이 없으면 null로 처리
-                        }
-                    } else {
-                        log.info("No instruction image files provided");
-                        instruction.setInstructionImage(null); // 사진이 없으면 null로 처리
-                    }
+                    S3Uploader.UploadResult image = instructionImages.get(instruction.getInstructionId());
+                    instruction.setInstructionImage(image != null ? image.url() : null);
+                    instruction.setInstructionImageHash(image != null ? image.hash() : null);
                     instruction.setRecipe(recipe);
-
                     return instruction;
                 })
                 .collect(Collectors.toList());
         recipe.setInstructions(instructions);
-        recipeRepository.save(recipe);
-
 
-        // 6. RecipeStats 기본값 생성
+        // RecipeStats 기본값 생성
         RecipeStats stats = new RecipeStats();
         stats.setScrapCount(0);
         stats.setViewCount(0);
-        stats.setRecipe(recipe);
         recipe.setRecipeStats(stats);
 
-        // 7. Recipe 저장
-        recipeRepository.save(recipe);
+        // Recipe 저장 (한 번의 persist 로 재료/단계/통계까지 cascade, INSERT 는 커밋 시 배치로 전송)
+        return recipeRepository.save(recipe);
+    }
+
+    private CompletableFuture<S3Uploader.UploadResult> uploadAsync(MultipartFile file) {
+        return CompletableFuture.supplyAsync(() -> {
+            try (S3Uploader.SpooledFile spooled = s3Uploader.spool(file)) {
+                return storeReferenced(spooled);
+            }
+        }, imageUploadExecutor);
+    }
+
+    private CompletableFuture<S3Uploader.UploadResult> claimAsync(String imageKey) {
+        return CompletableFuture.supplyAsync(() -> claimUploadedKey(imageKey), imageUploadExecutor);
+    }
+
+    // 참조를 먼저 잡고 업로드 (같은 내용의 object 가 sweeper 에 의해 삭제되는 것을 막음)
+    private S3Uploader.UploadResult storeReferenced(S3Uploader.SpooledFile spooled) {
+        imageReferenceService.acquire(spooled.key());
+        try {
+            return s3Uploader.store(spooled);
+        } catch (RuntimeException e) {
+            imageReferenceService.abandon(spooled.key());
+            throw e;
+        }
+    }
+
+    // 클라이언트가 presigned URL 로 직접 올린 이미지를 참조로 잡기 (참조를 먼저 잡은 뒤 존재 확인)
+    private S3Uploader.UploadResult claimUploadedKey(String imageKey) {
+        String imageHash = s3Uploader.hashFromKey(imageKey);
+        if (imageHash == null) {
+            throw new IllegalArgumentException("잘못된 이미지 key 입니다: " + imageKey);
+        }
+        imageReferenceService.acquire(imageKey);
+        if (!s3Uploader.exists(imageKey)) {
+            imageReferenceService.abandon(imageKey);
+            throw new IllegalArgumentException("업로드된 이미지를 찾을 수 없습니다: " + imageKey);
+        }
+        return new S3Uploader.UploadResult(s3Uploader.urlOf(imageKey), imageHash, false);
+    }
+
+    // 참조만 반납하고 실제 삭제는 sweeper 에 맡김 (같은 사진을 쓰는 다른 레시피가 있으면 삭제되지 않음)
+    private void releaseUploads(List<S3Uploader.UploadResult> uploaded) {
+        for (S3Uploader.UploadResult result : uploaded) {
+            try {
+                imageReferenceService.release(result.url());
+            } catch (RuntimeException e) {
+                log.error("Failed to release uploaded image: {}", result.url(), e);
+            }
+        }
+    }
+
+    private List<Long> ingredientIdsOf(Recipe recipe) {
+        if (recipe.getRecipeIngredients() == null) {
+            return Collections.emptyList();
+        }
+        return recipe.getRecipeIngredients().stream()
+                .map(recipeIngredient -> recipeIngredient.getIngredient().getId())
+                .collect(Collectors.toList());
+    }
+
+    private static boolean isBlank(String value) {
+        return value == null || value.isBlank();
     }
 
     public List<RecipeListResponseDTO> findMyRecipes(Long userId) { // 리스트로 반환 (간단 조회)
@@ -499,6 +748,7 @@ public class RecipeService {
                             recipe.getId(),
                             recipe.getRecipeName(),
                             recipe.getImagePath(),
+                            recipe.getThumbnailPath(),
                             recipe.getServing(),
                             scrapped
                     );
@@ -564,97 +814,71 @@ public class RecipeService {
         // 3. 레시피 메인 이미지 처리
         if (recipeForm.isImageRemoved() && recipe.getImagePath() != null) {
             log.info("Removing existing recipe image for recipeId: {}", recipeId);
-            s3Uploader.deleteFile(recipe.getImagePath()); // 기존 이미지 삭제
+            imageReferenceService.release(recipe.getImagePath()); // 기존 이미지 참조 반납
             recipe.setImagePath(null); // 이미지 경로 제거
+            recipe.setImageHash(null);
+            recipe.setThumbnailPath(null);
         } else if (recipeImage != null && !recipeImage.isEmpty()) {
-            try {
-                // 새 이미지 해시값 계산
-                String newImageHash = s3Uploader.calculateFileHash(recipeImage);
-
-                // 기존 이미지 해시값 계산
-                String existingImageHash = null;
-                if (recipe.getImagePath() != null) {
-                    existingImageHash = calculateFileHashFromS3(recipe.getImagePath());
-                }
-                // 새 이미지와 기존 이미지 비교
-                if (!newImageHash.equals(existingImageHash)) {
-                    log.info("New recipe image is different from existing image. Proceeding with upload.");
-
-                    // 기존 이미지 삭제
-                    if (recipe.getImagePath() != null) {
-                        log.info("Deleting existing recipe image: {}", recipe.getImagePath());
-                        s3Uploader.deleteFile(recipe.getImagePath());
-                    }
-                    // 새 이미지 업로드 및 경로 저장
-                    String uploadedImagePath = s3Uploader.saveFile(recipeImage);
-                    recipe.setImagePath(uploadedImagePath);
-                    log.info("Uploaded new recipe image: {}", uploadedImagePath);
-                } else {
-                    log.info("New recipe image is identical to existing image. No changes made.");
-                }
+            // 새 이미지를 한 번만 읽으면서 해시값 계산 + 임시 파일 저장
+            try (S3Uploader.SpooledFile spooled = s3Uploader.spool(recipeImage)) {
+                replaceRecipeImage(recipe, spooled.hash(), () -> storeReferenced(spooled));
             } catch (Exception e) {
                 log.error("Failed to handle recipe image: {}", e.getMessage());
                 throw new RuntimeException("Failed to handle recipe image", e);
             }
+        } else if (recipeForm.getImageKey() != null) {
+            // 직접 업로드한 이미지
+            String imageKey = recipeForm.getImageKey();
+            String newImageHash = s3Uploader.hashFromKey(imageKey);
+            if (newImageHash == null) {
+                throw new IllegalArgumentException("잘못된 이미지 key 입니다: " + imageKey);
+            }
+            replaceRecipeImage(recipe, newImageHash, () -> claimUploadedKey(imageKey));
         }
 
-        // 4. 재료 수정
+        // 4. 재료 수정 (재료명 기준 diff -> 바뀐 행만 추가/수정/삭제)
         if (recipeForm.getIngredients() != null) {
             List<RecipeIngredient> existingIngredients = recipe.getRecipeIngredients();
 
-            // 업데이트 또는 삭제를 위한 매핑
-            Map<String, String> formIngredientMap = recipeForm.getIngredients().stream()
+            List<IngredientResponseDTO> formIngredients = recipeForm.getIngredients().stream()
                     .filter(ingredientDto -> {
-                        if (ingredientDto.getIngredient().isBlank() && ingredientDto.getQuantity().isBlank()) {
+                        if (isBlank(ingredientDto.getIngredient()) && isBlank(ingredientDto.getQuantity())) {
                             return false; // 제외
                         }
-                        if (ingredientDto.getIngredient().isBlank() || ingredientDto.getQuantity().isBlank()) {
+                        if (isBlank(ingredientDto.getIngredient()) || isBlank(ingredientDto.getQuantity())) {
                             throw new IllegalArgumentException("재료와 수량을 확인해주세요.");
                         }
                         return true; // 유지
                     })
-                    .collect(Collectors.toMap(
-                            IngredientResponseDTO::getIngredient,
-                            IngredientResponseDTO::getQuantity
-                    ));
-
-            // 삭제할 재료를 명시적으로 관리
-            List<RecipeIngredient> ingredientsToRemove = new ArrayList<>();
-            for (RecipeIngredient existingIngredient : existingIngredients) {
-                String formQuantity = formIngredientMap.get(existingIngredient.getIngredient().getIngredient());
-
-                if (formQuantity == null) {
-                    ingredientsToRemove.add(existingIngredient);
-                } else if (!existingIngredient.getQuantity().equals(formQuantity)) {
-                    existingIngredient.setQuantity(formQuantity); // 수량 업데이트
-                }
-            }
+                    .toList();
 
-            // 삭제 대상 제거
-            ingredientsToRemove.forEach(existingIngredients::remove);
-            recipeIngredientRepository.deleteAll(ingredientsToRemove);
+            CollectionDiff<RecipeIngredient, IngredientResponseDTO> diff = CollectionDiff.of(
+                    existingIngredients, existing -> existing.getIngredient().getIngredient(),
+                    formIngredients, IngredientResponseDTO::getIngredient,
+                    (existing, form) -> !existing.getQuantity().equals(form.getQuantity()));
 
-            // 추가 처리
-            recipeForm.getIngredients().forEach(ingredientDto -> {
-                boolean isExisting = existingIngredients.stream()
-                        .anyMatch(existing -> existing.getIngredient().getIngredient().equals(ingredientDto.getIngredient()));
+            // 수량 변경 (dirty checking -> 배치 UPDATE)
+            diff.updates().forEach(update -> update.existing().setQuantity(update.desired().getQuantity()));
 
-                if (!isExisting) {
-                    Ingredient ingredient = ingredientRepository.findByIngredient(ingredientDto.getIngredient());
-
-                    if (ingredient == null) {
-                        ingredient = new Ingredient();
-                        ingredient.setIngredient(ingredientDto.getIngredient());
-                        ingredient = ingredientRepository.save(ingredient);
-                    }
+            // 삭제 (한 번의 DELETE)
+            if (!diff.deletes().isEmpty()) {
+                existingIngredients.removeAll(diff.deletes());
+                recipeIngredientRepository.deleteAllByIdInBatch(diff.deletes().stream().map(RecipeIngredient::getId).toList());
+            }
 
-                    RecipeIngredient newIngredient = new RecipeIngredient();
-                    newIngredient.setIngredient(ingredient);
-                    newIngredient.setQuantity(ingredientDto.getQuantity());
-                    newIngredient.setRecipe(recipe);
-                    existingIngredients.add(newIngredient);
-                }
+            // 추가 (새 재료 id 는 사전에서 한 번에 조회/생성, INSERT 는 cascade 로 배치 처리)
+            Map<String, Long> ingredientIds = ingredientDictionary.resolveAll(diff.inserts().stream()
+                    .map(IngredientResponseDTO::getIngredient)
+                    .toList());
+            diff.inserts().forEach(ingredientDto -> {
+                RecipeIngredient newIngredient = new RecipeIngredient();
+                newIngredient.setIngredient(ingredientRepository.getReferenceById(ingredientIds.get(ingredientDto.getIngredient())));
+                newIngredient.setQuantity(ingredientDto.getQuantity());
+                newIngredient.setRecipe(recipe);
+                existingIngredients.add(newIngredient);
             });
+            log.info("Recipe {} ingredients: {} added, {} updated, {} removed",
+                    recipeId, diff.inserts().size(), diff.updates().size(), diff.deletes().size());
         }
 
         if (request instanceof MultipartHttpServletRequest multipartRequest) {
@@ -667,7 +891,7 @@ public class RecipeService {
             instructionImageFiles = parsedInstructionFiles;
         }
 
-        // 5. 조리 과정 수정
+        // 5. 조리 과정 수정 (단계 번호 기준 diff -> 바뀐 행만 추가/수정/삭제)
         if (recipeForm.getInstructions() != null) {
             List<Instruction> existingInstructions = recipe.getInstructions();
 
@@ -677,48 +901,59 @@ public class RecipeService {
                             .max()
                             .orElse(0) + 1
             );
-
-            Map<Integer, Instruction> existingInstructionMap = existingInstructions.stream()
-                    .collect(Collectors.toMap(
-                            Instruction::getInstructionId,
-                            instruction -> instruction
-                    ));
-
-            List<Instruction> updatedInstructions = new ArrayList<>();
-
-            Map<String, MultipartFile> finalInstructionImageFiles = instructionImageFiles;
             recipeForm.getInstructions().forEach(instructionDto -> {
                 if (instructionDto.getInstructionId() == null) {
                     instructionDto.setInstructionId(instructionCounter.getAndIncrement());
                 }
+            });
 
-                Instruction instruction = existingInstructionMap.get(instructionDto.getInstructionId());
-                if (instruction == null) {
-                    instruction = new Instruction();
-                    instruction.setRecipe(recipe);
-                    instruction.setInstructionId(instructionDto.getInstructionId());
-                }
+            CollectionDiff<Instruction, InstructionResponseDTO> diff = CollectionDiff.of(
+                    existingInstructions, Instruction::getInstructionId,
+                    recipeForm.getInstructions(), InstructionResponseDTO::getInstructionId,
+                    (existing, form) -> !Objects.equals(existing.getInstruction(), form.getInstruction()));
+
+            diff.updates().forEach(update -> update.existing().setInstruction(update.desired().getInstruction()));
+
+            // 삭제되는 단계의 이미지 참조 반납 후 한 번의 DELETE
+            if (!diff.deletes().isEmpty()) {
+                diff.deletes().forEach(instruction -> imageReferenceService.release(instruction.getInstructionImage()));
+                existingInstructions.removeAll(diff.deletes());
+                instructionRepository.deleteAllByIdInBatch(diff.deletes().stream().map(Instruction::getId).toList());
+            }
 
+            diff.inserts().forEach(instructionDto -> {
+                Instruction instruction = new Instruction();
+                instruction.setRecipe(recipe);
+                instruction.setInstructionId(instructionDto.getInstructionId());
                 instruction.setInstruction(instructionDto.getInstruction());
+                existingInstructions.add(instruction);
+            });
 
+            // 이미지 변경은 내용 diff 와 별개로 요청된 단계만 처리
+            Map<Integer, Instruction> instructionMap = existingInstructions.stream()
+                    .collect(Collectors.toMap(Instruction::getInstructionId, instruction -> instruction));
+            for (InstructionResponseDTO instructionDto : recipeForm.getInstructions()) {
+                Instruction instruction = instructionMap.get(instructionDto.getInstructionId());
                 String key = "instructionImageFiles[" + instructionDto.getInstructionId() + "]";
-                if (finalInstructionImageFiles != null && finalInstructionImageFiles.containsKey(key)) {
-                    handleInstructionImage(instruction, finalInstructionImageFiles.get(key));
+                String imageKey = recipeForm.getInstructionImageKeys() != null
+                        ? recipeForm.getInstructionImageKeys().get(instructionDto.getInstructionId())
+                        : null;
+                if (instructionImageFiles != null && instructionImageFiles.containsKey(key)) {
+                    handleInstructionImage(instruction, instructionImageFiles.get(key));
+                } else if (imageKey != null) {
+                    handleInstructionImageKey(instruction, imageKey);
                 } else if (instructionDto.isImageRemoved()) {
                     handleInstructionImage(instruction, null);
                 }
-
-                updatedInstructions.add(instruction);
-            });
-
-            existingInstructions.removeIf(existing ->
-                    updatedInstructions.stream().noneMatch(updated -> updated.getInstructionId().equals(existing.getInstructionId()))
-            );
-
-            existingInstructions.clear();
-            existingInstructions.addAll(updatedInstructions);
+            }
+            log.info("Recipe {} instructions: {} added, {} updated, {} removed",
+                    recipeId, diff.inserts().size(), diff.updates().size(), diff.deletes().size());
         }
 
+        // 유사 레시피 인덱스 갱신 (롤백되면 인덱스가 DB 와 어긋나므로 커밋 뒤에 반영)
+        List<Long> updatedIngredientIds = ingredientIdsOf(recipe);
+        AfterCommit.run(() -> recipeMinHashIndex.update(recipeId, updatedIngredientIds));
+
         // 6. 수정된 레시피를 RecipeDetailResponseDTO로 변환 & 리턴
         if (recipe.getRecipeIngredients() != null) {
             recipe.getRecipeIngredients().stream()
@@ -743,36 +978,16 @@ public class RecipeService {
     private void handleInstructionImage(Instruction instruction, MultipartFile newImageFile) {
         try {
             if (newImageFile != null && !newImageFile.isEmpty()) {
-                // 새 이미지의 해시값 계산
-                String newImageHash = s3Uploader.calculateFileHash(newImageFile);
-
-                // 기존 이미지가 있는 경우 기존 이미지의 해시값 계산
-                String existingImageHash = null;
-                if (instruction.getInstructionImage() != null) {
-                    existingImageHash = calculateFileHashFromS3(instruction.getInstructionImage());
-                }
-
-                if (!newImageHash.equals(existingImageHash)) {
-                    log.info("New image is different from existing image. Proceeding with upload.");
-
-                    // 기존 이미지 삭제
-                    if (instruction.getInstructionImage() != null) {
-                        log.info("Deleting existing image from S3: {}", instruction.getInstructionImage());
-                        s3Uploader.deleteFile(instruction.getInstructionImage());
-                    }
-
-                    // 새 이미지 업로드 및 경로 저장
-                    String uploadedImageUrl = s3Uploader.saveFile(newImageFile);
-                    instruction.setInstructionImage(uploadedImageUrl);
-                    log.info("Uploaded new image to S3: {}", uploadedImageUrl);
-                } else {
-                    log.info("New image is identical to existing image. No changes made.");
+                // 새 이미지를 한 번만 읽으면서 해시값 계산 + 임시 파일 저장
+                try (S3Uploader.SpooledFile spooled = s3Uploader.spool(newImageFile)) {
+                    replaceInstructionImage(instruction, spooled.hash(), () -> storeReferenced(spooled));
                 }
             } else if (instruction.getInstructionImage() != null) {
                 // 이미지를 삭제하는 경우
-                log.info("Deleting existing image from S3 for instructionId {}: {}", instruction.getInstructionId(), instruction.getInstructionImage());
-                s3Uploader.deleteFile(instruction.getInstructionImage());
+                log.info("Releasing existing image for instructionId {}: {}", instruction.getInstructionId(), instruction.getInstructionImage());
+                imageReferenceService.release(instruction.getInstructionImage());
                 instruction.setInstructionImage(null);
+                instruction.setInstructionImageHash(null);
             }
         } catch (Exception e) {
             log.error("Failed to handle instruction image: {}", e.getMessage());
@@ -780,14 +995,73 @@ public class RecipeService {
         }
     }
 
-    private String calculateFileHashFromS3(String s3FilePath) throws NoSuchAlgorithmException {
-        byte[] fileBytes = s3Uploader.downloadFile(s3FilePath); // S3에서 파일 다운로드
-        if (fileBytes == null) {
-            return null;
+    // 직접 업로드한 단계 이미지 처리
+    private void handleInstructionImageKey(Instruction instruction, String imageKey) {
+        String newImageHash = s3Uploader.hashFromKey(imageKey);
+        if (newImageHash == null) {
+            throw new IllegalArgumentException("잘못된 이미지 key 입니다: " + imageKey);
+        }
+        replaceInstructionImage(instruction, newImageHash, () -> claimUploadedKey(imageKey));
+    }
+
+    // 해시가 다를 때만 기존 이미지 참조를 반납하고 새 이미지로 교체
+    private void replaceRecipeImage(Recipe recipe, String newImageHash, Supplier<S3Uploader.UploadResult> upload) {
+        // 기존 이미지 해시값 (저장된 값 또는 object key 에서 추출, S3 조회 없음)
+        String existingImageHash = storedImageHash(recipe.getImageHash(), recipe.getImagePath());
+        if (newImageHash.equals(existingImageHash)) {
+            log.info("New recipe image is identical to existing image. No changes made.");
+            return;
         }
-        MessageDigest digest = MessageDigest.getInstance("SHA-256");
-        byte[] hash = digest.digest(fileBytes);
-        return Base64.getEncoder().encodeToString(hash); // 해시값을 Base64로 인코딩
+        log.info("New recipe image is different from existing image. Proceeding with upload.");
+
+        // 새 이미지 업로드 및 경로 저장
+        S3Uploader.UploadResult uploaded = upload.get();
+
+        // 기존 이미지 참조 반납 (실제 삭제는 sweeper)
+        if (recipe.getImagePath() != null) {
+            log.info("Releasing existing recipe image: {}", recipe.getImagePath());
+            imageReferenceService.release(recipe.getImagePath());
+        }
+        recipe.setImagePath(uploaded.url());
+        recipe.setImageHash(newImageHash);
+        recipe.setThumbnailPath(null);
+        requestRenditionsAfterCommit(newImageHash, uploaded.url());
+        log.info("Uploaded new recipe image: {}", uploaded.url());
+    }
+
+    private void replaceInstructionImage(Instruction instruction, String newImageHash, Supplier<S3Uploader.UploadResult> upload) {
+        // 기존 이미지의 해시값 (저장된 값 또는 object key 에서 추출, S3 조회 없음)
+        String existingImageHash = storedImageHash(instruction.getInstructionImageHash(), instruction.getInstructionImage());
+        if (newImageHash.equals(existingImageHash)) {
+            log.info("New image is identical to existing image. No changes made.");
+            return;
+        }
+        log.info("New image is different from existing image. Proceeding with upload.");
+
+        // 새 이미지 업로드 및 경로 저장
+        S3Uploader.UploadResult uploaded = upload.get();
+
+        // 기존 이미지 참조 반납 (실제 삭제는 sweeper)
+        if (instruction.getInstructionImage() != null) {
+            log.info("Releasing existing image: {}", instruction.getInstructionImage());
+            imageReferenceService.release(instruction.getInstructionImage());
+        }
+        instruction.setInstructionImage(uploaded.url());
+        instruction.setInstructionImageHash(newImageHash);
+        log.info("Uploaded new image: {}", uploaded.url());
+    }
+
+    // 수정 트랜잭션이 커밋된 뒤에 썸네일 생성 요청 (커밋 전에 끝나면 새 해시를 가진 레시피가 아직 보이지 않음)
+    private void requestRenditionsAfterCommit(String imageHash, String imageUrl) {
+        AfterCommit.run(() -> imageRenditionService.requestRenditions(imageHash, imageUrl));
+    }
+
+    // 컬럼에 해시가 없던 기존 데이터는 해시 기반 object key 에서 추출
+    private String storedImageHash(String imageHash, String imageUrl) {
+        if (imageHash != null) {
+            return imageHash;
+        }
+        return imageUrl != null ? s3Uploader.hashFromUrl(imageUrl) : null;
     }
 
     @Transactional
@@ -795,6 +1069,14 @@ public class RecipeService {
         Recipe recipe = recipeRepository.findById(recipeId)
                 .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 레시피입니다."));
 
+        // 레시피와 단계 사진 참조 반납 (삭제와 같은 트랜잭션)
+        imageReferenceService.release(recipe.getImagePath());
+        if (recipe.getInstructions() != null) {
+            recipe.getInstructions().forEach(instruction -> imageReferenceService.release(instruction.getInstructionImage()));
+        }
+
         recipeRepository.delete(recipe);
+        AfterCommit.run(() -> recipeMinHashIndex.remove(recipeId));
+        eventPublisher.publishEvent(new RecipeDeletedEvent(recipeId)); // reactive 카탈로그에서 바로 제외
     }
 }
@@ -0,0 +1,134 @@
+package com.ReciGuard.service;
+
+import com.ReciGuard.JWT.JWTUtil;
+import com.ReciGuard.dto.TokenPairDTO;
+import com.ReciGuard.entity.RefreshToken;
+import com.ReciGuard.entity.User;
+import com.ReciGuard.repository.RefreshTokenRepository;
+import com.ReciGuard.repository.UserRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.HexFormat;
+import java.util.UUID;
+
+// 짧은 access 토큰 + refresh 토큰 발급/회전
+// refresh 토큰은 한 번만 사용 가능, 재발급 때마다 새 토큰으로 교체 (재로그인 = BCrypt 없이 access 토큰 갱신)
+@Slf4j
+@Service
+public class RefreshTokenService {
+
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final UserRepository userRepository;
+    private final TokenRevocationService tokenRevocationService;
+    private final JWTUtil jwtUtil;
+    private final long accessTtlMs;
+    private final long refreshTtlMs;
+    private final SecureRandom random = new SecureRandom();
+
+    public RefreshTokenService(RefreshTokenRepository refreshTokenRepository,
+                               UserRepository userRepository,
+                               TokenRevocationService tokenRevocationService,
+                               JWTUtil jwtUtil,
+                               @Value("${reciguard.jwt.access-ttl-ms:900000}") long accessTtlMs,
+                               @Value("${reciguard.jwt.refresh-ttl-ms:1209600000}") long refreshTtlMs) {
+        this.refreshTokenRepository = refreshTokenRepository;
+        this.userRepository = userRepository;
+        this.tokenRevocationService = tokenRevocationService;
+        this.jwtUtil = jwtUtil;
+        this.accessTtlMs = accessTtlMs;
+        this.refreshTtlMs = refreshTtlMs;
+    }
+
+    // 토큰에 넣을 권한 이름 (DB 에는 USER / ADMIN 으로 저장됨)
+    public static String authorityOf(String role) {
+        if (role == null) {
+            return "ROLE_USER";
+        }
+        return role.startsWith("ROLE_") ? role : "ROLE_" + role;
+    }
+
+    // 로그인 성공 시 (새 family 시작)
+    @Transactional
+    public TokenPairDTO issueTokens(String username, Long userId, String role) {
+        String accessToken = jwtUtil.createJwt(username, userId, role, accessTtlMs);
+        return new TokenPairDTO(accessToken, createRefreshToken(userId, UUID.randomUUID().toString()));
+    }
+
+    // refresh 토큰 회전, 이미 사용된 토큰이 다시 오면 탈취로 보고 같은 family 전체 폐기
+    @Transactional(noRollbackFor = IllegalArgumentException.class)
+    public TokenPairDTO refresh(String rawRefreshToken) {
+        if (rawRefreshToken == null || rawRefreshToken.isBlank()) {
+            throw new IllegalArgumentException("refresh 토큰이 필요합니다.");
+        }
+        RefreshToken token = refreshTokenRepository.findByIdForUpdate(digest(rawRefreshToken))
+                .orElseThrow(() -> new IllegalArgumentException("유효하지 않은 refresh 토큰입니다."));
+        if (token.isUsed()) {
+            refreshTokenRepository.deleteByFamilyId(token.getFamilyId());
+            log.warn("Refresh token reuse detected for user {}, family {} revoked", token.getUserId(), token.getFamilyId());
+            throw new IllegalArgumentException("유효하지 않은 refresh 토큰입니다.");
+        }
+        if (token.getExpiresAt().isBefore(LocalDateTime.now())) {
+            refreshTokenRepository.delete(token);
+            throw new IllegalArgumentException("refresh 토큰이 만료되었습니다.");
+        }
+        User user = userRepository.findById(token.getUserId())
+                .orElseThrow(() -> new IllegalArgumentException("유효하지 않은 사용자입니다."));
+        token.setUsed(true);
+
+        String accessToken = jwtUtil.createJwt(user.getUsername(), user.getUserid(), authorityOf(user.getRole()), accessTtlMs);
+        return new TokenPairDTO(accessToken, createRefreshToken(user.getUserid(), token.getFamilyId()));
+    }
+
+    // 로그아웃: refresh 토큰 family 폐기
+    @Transactional
+    public void revoke(String rawRefreshToken) {
+        if (rawRefreshToken == null || rawRefreshToken.isBlank()) {
+            return;
+        }
+        refreshTokenRepository.findById(digest(rawRefreshToken))
+                .ifPresent(token -> refreshTokenRepository.deleteByFamilyId(token.getFamilyId()));
+    }
+
+    // 비밀번호 변경/탈퇴: refresh 토큰 + 이미 발급된 access 토큰 모두 폐기
+    @Transactional
+    public void revokeAllForUser(Long userId) {
+        refreshTokenRepository.deleteByUserId(userId);
+        tokenRevocationService.revokeAllForUser(userId);
+    }
+
+    @Scheduled(fixedDelayString = "${reciguard.jwt.refresh-purge-interval-ms:3600000}")
+    @Transactional
+    public void purgeExpired() {
+        int purged = refreshTokenRepository.deleteExpired(LocalDateTime.now());
+        if (purged > 0) {
+            log.info("Purged {} expired refresh tokens", purged);
+        }
+    }
+
+    private String createRefreshToken(Long userId, String familyId) {
+        byte[] bytes = new byte[32];
+        random.nextBytes(bytes);
+        String rawToken = Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+        refreshTokenRepository.save(new RefreshToken(digest(rawToken), userId, familyId,
+                LocalDateTime.now().plusNanos(refreshTtlMs * 1_000_000)));
+        return rawToken;
+    }
+
+    private static String digest(String token) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
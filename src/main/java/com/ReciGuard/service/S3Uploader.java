@@ -1,36 +1,62 @@
 package com.ReciGuard.service;
 
-import com.amazonaws.AmazonServiceException;
-import com.amazonaws.services.s3.AmazonS3;
-import com.amazonaws.services.s3.model.ObjectMetadata;
-import com.amazonaws.services.s3.model.S3Object;
-import com.amazonaws.util.IOUtils;
+import com.ReciGuard.storage.BlobStore;
+import com.ReciGuard.storage.PresignedPut;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.util.unit.DataSize;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.DigestInputStream;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
 import java.util.*;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class S3Uploader {
 
-    private final AmazonS3 amazonS3;
-    private Set<String> uploadedFileNames = new HashSet<>();
-    private Set<Long> uploadedFileSizes = new HashSet<>();
-
-    @Value("${spring.cloud.aws.S3.bucket}")
-    private String bucket;
+    // 실제 저장은 BlobStore 구현체(S3 / 로컬)에 위임
+    private final BlobStore blobStore;
+    private final KnownImageIndex knownImageIndex;
 
     @Value("${spring.servlet.multipart.max-file-size}")
     private String maxSizeString;
 
+    @Value("${reciguard.upload.spool-dir:${java.io.tmpdir}}")
+    private String spoolDir;
+
+    private static final Pattern HASHED_KEY_PATTERN = Pattern.compile("^([A-Za-z0-9_-]{43})\\.(jpg|png|gif|jpeg)$");
+
+    // 업로드 결과 (created: 이번 호출에서 새로 올린 object 인지)
+    public record UploadResult(String url, String hash, boolean created) {
+    }
+
+    // 해시 계산과 동시에 임시 파일로 내려받은 업로드 파일 (close 시 임시 파일 삭제)
+    public record SpooledFile(Path path, String hash, String extension, long size, String contentType) implements AutoCloseable {
+
+        public String key() {
+            return hash + "." + extension;
+        }
+
+        @Override
+        public void close() {
+            deleteQuietly(path);
+        }
+    }
+
     // 파일 확장자 체크
     private String validateFileExtension(String originalFilename) {
         // 파일 이름이 null이거나 비어 있으면 빈 문자열 반환
@@ -51,90 +77,155 @@ public class S3Uploader {
         return fileExtension;
     }
 
-    // 파일 해시 계산
-    public String calculateFileHash(MultipartFile file) throws IOException, NoSuchAlgorithmException {
-        MessageDigest digest = MessageDigest.getInstance("SHA-256");
-        byte[] fileBytes = file.getBytes();
-        byte[] hash = digest.digest(fileBytes);
-        return Base64.getUrlEncoder().withoutPadding().encodeToString(hash); // URL-safe 해시값 생성
-    }
-
-    //단일 사진 저장
-    public String saveFile(MultipartFile file) {
+    // 업로드 파일을 한 번만 읽으면서 SHA-256 해시 계산 + 임시 파일 저장
+    public SpooledFile spool(MultipartFile file) {
         if (file == null || file.isEmpty()) {
             throw new IllegalArgumentException("File must not be null or empty");
         }
-
-        log.info("Uploading single file: {}", file.getOriginalFilename());
-
-        // 파일 확장자 검증 및 해시 기반 이름 생성
         String fileExtension = validateFileExtension(file.getOriginalFilename());
-        String fileHash;
+
+        Path path = null;
         try {
-            fileHash = calculateFileHash(file); // 파일 해시값 계산
+            path = Files.createTempFile(Paths.get(spoolDir), "upload-", "." + fileExtension);
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            long size;
+            try (InputStream in = new DigestInputStream(file.getInputStream(), digest)) {
+                size = Files.copy(in, path, StandardCopyOption.REPLACE_EXISTING);
+            }
+            return new SpooledFile(path, encodeHash(digest.digest()), fileExtension, size, file.getContentType());
         } catch (IOException | NoSuchAlgorithmException e) {
-            log.error("Failed to calculate file hash for: {}", file.getOriginalFilename(), e);
+            deleteQuietly(path);
+            log.error("Failed to spool file: {}", file.getOriginalFilename(), e);
             throw new RuntimeException("File hash calculation failed", e);
         }
-        String hashedFilename = fileHash + "." + fileExtension;
+    }
 
-        // S3에 동일한 파일이 있는지 확인
-        if (amazonS3.doesObjectExist(bucket, hashedFilename)) {
-            log.info("File already exists in S3: {}", hashedFilename);
-            return amazonS3.getUrl(bucket, hashedFilename).toString(); // 기존 파일 URL 반환
+    // 임시 파일을 해시 기반 이름으로 업로드
+    public UploadResult store(SpooledFile spooled) {
+        String hashedFilename = spooled.key();
+
+        // 최근에 저장한 파일이면 HEAD/PUT 모두 생략
+        if (knownImageIndex.isRecentlyStored(hashedFilename)) {
+            log.info("File recently stored, skipping upload: {}", hashedFilename);
+            return new UploadResult(blobStore.urlOf(hashedFilename), spooled.hash(), false);
         }
 
-        // 메타데이터 설정
-        ObjectMetadata metadata = new ObjectMetadata();
-        metadata.setContentLength(file.getSize());
-        metadata.setContentType(file.getContentType());
+        // Bloom filter 에 있을 수도 있는 파일만 실제로 존재 확인
+        if (knownImageIndex.mightBeStored(hashedFilename) && blobStore.exists(hashedFilename)) {
+            log.info("File already exists in storage: {}", hashedFilename);
+            knownImageIndex.markStored(hashedFilename);
+            return new UploadResult(blobStore.urlOf(hashedFilename), spooled.hash(), false); // 기존 파일 URL 반환
+        }
 
-        // S3에 파일 업로드
+        // 파일 업로드
         try {
-            amazonS3.putObject(bucket, hashedFilename, file.getInputStream(), metadata);
+            blobStore.put(hashedFilename, spooled.path(), spooled.size(), spooled.contentType());
         } catch (IOException e) {
-            log.error("File upload failed for file: {}", file.getOriginalFilename(), e);
+            log.error("File upload failed for file: {}", hashedFilename, e);
             throw new RuntimeException("File upload failed", e);
         }
 
+        knownImageIndex.markStored(hashedFilename);
+
         // 업로드된 파일의 URL 반환
-        String uploadedUrl = amazonS3.getUrl(bucket, hashedFilename).toString();
+        String uploadedUrl = blobStore.urlOf(hashedFilename);
         log.info("Uploaded file URL: {}", uploadedUrl);
-        return uploadedUrl;
+        return new UploadResult(uploadedUrl, spooled.hash(), true);
+    }
+
+    // 클라이언트가 계산한 해시로 object key 생성 (해시 형식/확장자 검증)
+    public String keyFor(String hash, String extension) {
+        String fileExtension = validateFileExtension("upload." + extension);
+        String key = hash + "." + fileExtension;
+        if (hashFromKey(key) == null) {
+            throw new IllegalArgumentException("Invalid file hash");
+        }
+        return key;
+    }
+
+    // 업로드 허용 최대 크기
+    public long maxFileSize() {
+        return DataSize.parse(maxSizeString).toBytes();
+    }
+
+    // 직접 업로드용 presigned PUT (로컬 저장소 등 지원하지 않으면 empty), 선언한 크기로만 올릴 수 있다
+    public Optional<PresignedPut> presignUpload(String key, String contentType, long size, Duration ttl) {
+        String hash = hashFromKey(key);
+        String sha256Base64 = Base64.getEncoder().encodeToString(Base64.getUrlDecoder().decode(hash)); // 저장소 체크섬은 표준 Base64
+        return blobStore.presignPut(key, contentType, size, sha256Base64, ttl);
     }
 
-    public void deleteFile(String fileUrl) {
-        if (fileUrl == null || fileUrl.isEmpty()) {
-            throw new IllegalArgumentException("File URL cannot be null or empty");
+    // 여러 object 를 한 번에 삭제
+    public void deleteKeys(List<String> keys) {
+        try {
+            blobStore.delete(keys);
+        } catch (IOException e) {
+            throw new RuntimeException("File delete failed", e);
+        }
+    }
+
+    public boolean exists(String key) {
+        if (knownImageIndex.isRecentlyStored(key)) {
+            return true;
+        }
+        if (!blobStore.exists(key)) {
+            return false;
         }
+        knownImageIndex.markStored(key);
+        return true;
+    }
+
+    public String urlOf(String key) {
+        return blobStore.urlOf(key);
+    }
 
+    // object 내용 스트림 (호출한 쪽에서 close)
+    public InputStream openStream(String key) throws IOException {
+        return blobStore.open(key);
+    }
+
+    // 썸네일 등 작은 파생 파일 저장
+    public String putBytes(String key, byte[] bytes, String contentType) {
+        try {
+            blobStore.put(key, bytes, contentType);
+        } catch (IOException e) {
+            throw new RuntimeException("File upload failed", e);
+        }
+        knownImageIndex.markStored(key);
+        return urlOf(key);
+    }
+
+    // URL 에서 S3 object key(파일 이름) 추출
+    public String extractKey(String fileUrl) {
         int lastIndex = fileUrl.lastIndexOf("/");
         if (lastIndex == -1 || lastIndex == fileUrl.length() - 1) {
             throw new IllegalArgumentException("Invalid file URL: " + fileUrl);
         }
+        return fileUrl.substring(lastIndex + 1);
+    }
 
-        String fileName = fileUrl.substring(lastIndex + 1);
+    // 해시 기반 이름(<SHA-256 URL-safe Base64>.<확장자>)으로 올린 파일이면 URL 에서 해시 추출, 아니면 null
+    public String hashFromUrl(String fileUrl) {
+        return hashFromKey(extractKey(fileUrl));
+    }
 
+    public String hashFromKey(String key) {
+        Matcher matcher = HASHED_KEY_PATTERN.matcher(key);
+        return matcher.matches() ? matcher.group(1) : null;
+    }
+
+    private static String encodeHash(byte[] hash) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(hash); // URL-safe 해시값 생성
+    }
+
+    private static void deleteQuietly(Path path) {
+        if (path == null) {
+            return;
+        }
         try {
-            log.info("Attempting to delete file from S3. Bucket: {}, File: {}", bucket, fileName);
-            amazonS3.deleteObject(bucket, fileName);
-            log.info("File deleted successfully from S3. Bucket: {}, File: {}", bucket, fileName);
-        } catch (AmazonServiceException e) {
-            log.error("Failed to delete file from S3. Bucket: {}, File: {}, Error: {}", bucket, fileName, e.getMessage());
-            throw new RuntimeException(
-                    String.format("Failed to delete file '%s' from bucket '%s'", fileName, bucket), e);
-        }
-    }
-
-    public byte[] downloadFile(String s3FilePath) {
-        // S3에서 파일 가져오기
-        try (S3Object s3Object = amazonS3.getObject(bucket, s3FilePath)) {
-            // 파일 내용을 바이트 배열로 변환
-            return IOUtils.toByteArray(s3Object.getObjectContent());
-        } catch (Exception e) {
-            // 예외 발생 시 로그 출력 및 null 반환
-            System.err.println("Failed to download file from S3: " + e.getMessage());
-            return null;
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            log.warn("Failed to delete spooled file: {}", path, e);
         }
     }
 }
@@ -0,0 +1,224 @@
+package com.ReciGuard.service;
+
+import com.ReciGuard.repository.UserScrapRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+// user_scrap 기반 item-item 협업 필터링 (co-scrap 횟수에 대한 코사인 유사도)
+// 스크랩이 추가/삭제될 때마다 증분 갱신되고, 레시피별 top-K 이웃은 필요할 때 다시 계산한다
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ScrapSimilarityIndex {
+
+    private static final int TOP_K = 20;
+
+    private final UserScrapRepository userScrapRepository;
+
+    // 아래 HashMap 들은 이 lock 으로 보호 (synchronized 는 JDK 21 에서 대기 중인 virtual thread 가 carrier 를 붙잡는다)
+    private final ReentrantLock lock = new ReentrantLock();
+
+    // userId -> 스크랩한 recipeId 집합
+    private final Map<Long, Set<Long>> userScraps = new HashMap<>();
+    // recipeId -> 스크랩한 사용자 수
+    private final Map<Long, Integer> scrapCounts = new HashMap<>();
+    // recipeId -> (recipeId -> 두 레시피를 함께 스크랩한 사용자 수)
+    private final Map<Long, Map<Long, Integer>> coScrapCounts = new HashMap<>();
+    // recipeId -> top-K 이웃 (갱신이 필요한 레시피는 제거해 두고 조회 시 다시 계산)
+    private final Map<Long, Neighbors> neighbors = new ConcurrentHashMap<>();
+
+    // 레시피별 top-K 이웃 목록 (유사도 내림차순)
+    private static final class Neighbors {
+        private static final Neighbors EMPTY = new Neighbors(new long[0], new float[0]);
+
+        private final long[] recipeIds;
+        private final float[] scores;
+
+        private Neighbors(long[] recipeIds, float[] scores) {
+            this.recipeIds = recipeIds;
+            this.scores = scores;
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        List<Object[]> pairs = userScrapRepository.findAllScrapPairs();
+        lock.lock();
+        try {
+            for (Object[] pair : pairs) {
+                addScrap((Long) pair[0], (Long) pair[1]);
+            }
+        } finally {
+            lock.unlock();
+        }
+        log.info("Scrap similarity index loaded: {} scraps, {} recipes", pairs.size(), scrapCounts.size());
+    }
+
+    // 스크랩 추가 반영
+    public void onScrapped(Long userId, Long recipeId) {
+        lock.lock();
+        try {
+            addScrap(userId, recipeId);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // 스크랩 해제 반영
+    public void onUnscrapped(Long userId, Long recipeId) {
+        lock.lock();
+        try {
+            Set<Long> scraps = userScraps.get(userId);
+            if (scraps == null || !scraps.remove(recipeId)) {
+                return; // 이미 반영된 상태
+            }
+            for (Long other : scraps) {
+                changeCoScrapCount(recipeId, other, -1);
+                changeCoScrapCount(other, recipeId, -1);
+                neighbors.remove(other);
+            }
+            scrapCounts.computeIfPresent(recipeId, (id, count) -> count > 1 ? count - 1 : null);
+            invalidate(recipeId);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // 사용자가 스크랩한 레시피 ID (DB 조회 없이 목록의 scrapped 표시용)
+    public Set<Long> scrapsOf(Long userId) {
+        lock.lock();
+        try {
+            Set<Long> scraps = userScraps.get(userId);
+            return scraps != null ? Set.copyOf(scraps) : Set.of();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // 이 레시피를 스크랩한 사용자들이 함께 스크랩한 레시피 ID (유사도 순)
+    public List<Long> findSimilarRecipeIds(Long recipeId, int limit) {
+        Neighbors result = neighborsOf(recipeId);
+        int size = Math.min(limit, result.recipeIds.length);
+        List<Long> recipeIds = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            recipeIds.add(result.recipeIds[i]);
+        }
+        return recipeIds;
+    }
+
+    // 사용자가 스크랩한 레시피들의 이웃 점수를 합산한 개인화 추천 (이미 스크랩한 레시피 제외)
+    public List<Long> recommendForUser(Long userId, int limit) {
+        Set<Long> scrapped;
+        lock.lock();
+        try {
+            Set<Long> scraps = userScraps.get(userId);
+            if (scraps == null || scraps.isEmpty()) {
+                return Collections.emptyList();
+            }
+            scrapped = new HashSet<>(scraps);
+        } finally {
+            lock.unlock();
+        }
+
+        Map<Long, Float> scores = new HashMap<>();
+        for (Long recipeId : scrapped) {
+            Neighbors result = neighborsOf(recipeId);
+            for (int i = 0; i < result.recipeIds.length; i++) {
+                long candidate = result.recipeIds[i];
+                if (!scrapped.contains(candidate)) {
+                    scores.merge(candidate, result.scores[i], Float::sum);
+                }
+            }
+        }
+
+        return scores.entrySet().stream()
+                .sorted(Map.Entry.<Long, Float>comparingByValue().reversed())
+                .limit(limit)
+                .map(Map.Entry::getKey)
+                .toList();
+    }
+
+    private Neighbors neighborsOf(Long recipeId) {
+        Neighbors cached = neighbors.get(recipeId);
+        if (cached != null) {
+            return cached;
+        }
+        lock.lock();
+        try {
+            return neighbors.computeIfAbsent(recipeId, this::computeNeighbors);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // cosine(a, b) = co(a, b) / sqrt(count(a) * count(b))
+    private Neighbors computeNeighbors(Long recipeId) {
+        Map<Long, Integer> coCounts = coScrapCounts.get(recipeId);
+        Integer count = scrapCounts.get(recipeId);
+        if (coCounts == null || coCounts.isEmpty() || count == null) {
+            return Neighbors.EMPTY;
+        }
+
+        PriorityQueue<Map.Entry<Long, Float>> topK = new PriorityQueue<>(Map.Entry.comparingByValue());
+        for (Map.Entry<Long, Integer> entry : coCounts.entrySet()) {
+            int otherCount = scrapCounts.getOrDefault(entry.getKey(), 0);
+            if (otherCount == 0) {
+                continue;
+            }
+            float score = (float) (entry.getValue() / Math.sqrt((double) count * otherCount));
+            topK.offer(new AbstractMap.SimpleImmutableEntry<>(entry.getKey(), score));
+            if (topK.size() > TOP_K) {
+                topK.poll();
+            }
+        }
+
+        int size = topK.size();
+        long[] recipeIds = new long[size];
+        float[] scores = new float[size];
+        for (int i = size - 1; i >= 0; i--) {
+            Map.Entry<Long, Float> entry = topK.poll();
+            recipeIds[i] = entry.getKey();
+            scores[i] = entry.getValue();
+        }
+        return new Neighbors(recipeIds, scores);
+    }
+
+    private void addScrap(Long userId, Long recipeId) {
+        Set<Long> scraps = userScraps.computeIfAbsent(userId, id -> new HashSet<>());
+        if (!scraps.add(recipeId)) {
+            return; // 이미 반영된 상태
+        }
+        for (Long other : scraps) {
+            if (!other.equals(recipeId)) {
+                changeCoScrapCount(recipeId, other, 1);
+                changeCoScrapCount(other, recipeId, 1);
+            }
+        }
+        scrapCounts.merge(recipeId, 1, Integer::sum);
+        invalidate(recipeId);
+    }
+
+    private void changeCoScrapCount(Long recipeId, Long otherId, int delta) {
+        Map<Long, Integer> coCounts = coScrapCounts.computeIfAbsent(recipeId, id -> new HashMap<>());
+        coCounts.merge(otherId, delta, (count, d) -> count + d > 0 ? count + d : null);
+        if (coCounts.isEmpty()) {
+            coScrapCounts.remove(recipeId);
+        }
+    }
+
+    // recipeId의 스크랩 수가 바뀌면 자신과 모든 co-scrap 이웃의 유사도가 바뀐다
+    private void invalidate(Long recipeId) {
+        neighbors.remove(recipeId);
+        Map<Long, Integer> coCounts = coScrapCounts.get(recipeId);
+        if (coCounts != null) {
+            coCounts.keySet().forEach(neighbors::remove);
+        }
+    }
+}
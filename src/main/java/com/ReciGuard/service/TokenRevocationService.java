@@ -0,0 +1,143 @@
+package com.ReciGuard.service;
+
+import com.ReciGuard.JWT.VerifiedClaims;
+import com.ReciGuard.entity.RevokedToken;
+import com.ReciGuard.repository.RevokedTokenRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// 폐기된 access 토큰 확인 (요청마다 호출되는 경로)
+// jti 는 Bloom filter 로 걸러서 "있을 수도 있음" 인 경우만 DB 로 확인, user 단위 폐기 시각은 작은 map 으로 바로 비교
+// 다른 인스턴스의 폐기 기록은 주기적으로 DB 에서 다시 읽어 필터를 교체한다
+@Slf4j
+@Component
+public class TokenRevocationService {
+
+    private static final String USER_PREFIX = "user:";
+
+    private final RevokedTokenRepository revokedTokenRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final long accessTtlMs;
+    private final double falsePositiveRate;
+
+    private volatile BloomFilter revokedIds;
+    private volatile Map<Long, Instant> userRevokedAt = Map.of();
+    // 이 인스턴스에서 폐기한 기록 (재구성 중에 들어온 폐기가 새 필터에서 빠지지 않도록 다시 반영)
+    private final Map<String, RevokedToken> localRevocations = new ConcurrentHashMap<>();
+
+    public TokenRevocationService(RevokedTokenRepository revokedTokenRepository,
+                                  TransactionTemplate transactionTemplate,
+                                  @Value("${reciguard.jwt.access-ttl-ms:900000}") long accessTtlMs,
+                                  @Value("${reciguard.jwt.revocation.false-positive-rate:0.001}") double falsePositiveRate) {
+        this.revokedTokenRepository = revokedTokenRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.accessTtlMs = accessTtlMs;
+        this.falsePositiveRate = falsePositiveRate;
+        this.revokedIds = new BloomFilter(10_000, falsePositiveRate);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(initialDelayString = "${reciguard.jwt.revocation.reload-ms:30000}",
+            fixedDelayString = "${reciguard.jwt.revocation.reload-ms:30000}")
+    public void reload() {
+        LocalDateTime now = LocalDateTime.now();
+        List<RevokedToken> active = transactionTemplate.execute(status -> {
+            revokedTokenRepository.deleteExpired(now);
+            return revokedTokenRepository.findActive(now);
+        });
+
+        synchronized (this) {
+            localRevocations.values().removeIf(revoked -> !revoked.getExpiresAt().isAfter(now));
+            BloomFilter filter = new BloomFilter(Math.max(10_000, (active.size() + localRevocations.size()) * 2L), falsePositiveRate);
+            Map<Long, Instant> users = new HashMap<>();
+            for (RevokedToken revoked : active) {
+                add(revoked, filter, users);
+            }
+            for (RevokedToken revoked : localRevocations.values()) {
+                add(revoked, filter, users);
+            }
+            revokedIds = filter;
+            userRevokedAt = users;
+        }
+        log.debug("Token revocation filter reloaded: {} entries", active.size());
+    }
+
+    public boolean isRevoked(VerifiedClaims claims) {
+        if (!mightBeRevoked(claims)) {
+            return false; // 대부분의 요청은 여기서 끝
+        }
+        if (isRevokedForUser(claims)) {
+            return true;
+        }
+        return localRevocations.containsKey(claims.tokenId()) || revokedTokenRepository.existsById(claims.tokenId());
+    }
+
+    // 메모리만 확인 (false 면 확실히 유효, true 면 isRevoked 로 DB 확인 필요)
+    public boolean mightBeRevoked(VerifiedClaims claims) {
+        return isRevokedForUser(claims)
+                || (claims.tokenId() != null && revokedIds.mightContain(claims.tokenId()));
+    }
+
+    private boolean isRevokedForUser(VerifiedClaims claims) {
+        if (claims.userId() == null) {
+            return false;
+        }
+        Instant cutoff = userRevokedAt.get(claims.userId());
+        return cutoff != null && (claims.issuedAt() == null || !claims.issuedAt().isAfter(cutoff));
+    }
+
+    // 로그아웃: 해당 access 토큰만 만료 시각까지 폐기
+    public void revokeToken(String tokenId, Instant expiresAt) {
+        if (tokenId == null || expiresAt == null || !expiresAt.isAfter(Instant.now())) {
+            return;
+        }
+        RevokedToken revoked = new RevokedToken(tokenId, null, LocalDateTime.now(), toLocal(expiresAt));
+        revokedTokenRepository.save(revoked);
+        synchronized (this) {
+            localRevocations.put(tokenId, revoked);
+            revokedIds.put(tokenId);
+        }
+    }
+
+    // 비밀번호 변경/탈퇴: 지금까지 발급된 그 사용자의 access 토큰 전체 폐기
+    // iat 가 초 단위이므로 같은 초에 발급된 토큰까지 폐기
+    public void revokeAllForUser(Long userId) {
+        Instant cutoff = Instant.now().truncatedTo(ChronoUnit.SECONDS);
+        RevokedToken revoked = new RevokedToken(USER_PREFIX + userId, userId, toLocal(cutoff),
+                toLocal(cutoff.plusMillis(accessTtlMs)));
+        revokedTokenRepository.save(revoked);
+        synchronized (this) {
+            localRevocations.put(revoked.getTokenId(), revoked);
+            Map<Long, Instant> users = new HashMap<>(userRevokedAt);
+            users.merge(userId, cutoff, (a, b) -> a.isAfter(b) ? a : b);
+            userRevokedAt = users;
+        }
+    }
+
+    private static void add(RevokedToken revoked, BloomFilter filter, Map<Long, Instant> users) {
+        if (revoked.getUserId() != null) {
+            Instant cutoff = revoked.getRevokedAt().atZone(ZoneId.systemDefault()).toInstant();
+            users.merge(revoked.getUserId(), cutoff, (a, b) -> a.isAfter(b) ? a : b);
+        } else {
+            filter.put(revoked.getTokenId());
+        }
+    }
+
+    private static LocalDateTime toLocal(Instant instant) {
+        return LocalDateTime.ofInstant(instant, ZoneId.systemDefault());
+    }
+}
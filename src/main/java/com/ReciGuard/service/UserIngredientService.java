@@ -2,18 +2,26 @@ package com.ReciGuard.service;
 
 import com.ReciGuard.dto.UserIngredientListDTO;
 import com.ReciGuard.entity.Ingredient;
-import com.ReciGuard.entity.User;
 import com.ReciGuard.entity.UserIngredient;
+import com.ReciGuard.event.AllergyProfileChangedEvent;
 import com.ReciGuard.repository.IngredientRepository;
 import com.ReciGuard.repository.UserIngredientRepository;
 import com.ReciGuard.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
-import java.util.Optional;
+import java.util.Set;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class UserIngredientService {
@@ -21,6 +29,9 @@ public class UserIngredientService {
     private final UserIngredientRepository userIngredientRepository;
     private final UserRepository userRepository;
     private final IngredientRepository ingredientRepository;
+    private final IngredientDictionary ingredientDictionary;
+    private final JdbcTemplate jdbcTemplate;
+    private final ApplicationEventPublisher eventPublisher;
 
 
     public List<UserIngredient> getUserIngredientsByUserId(Long userId) {
@@ -28,37 +39,40 @@ public class UserIngredientService {
 
     }
 
+    // 현재 알레르기 재료 집합과 비교해서 바뀐 것만 삭제/추가 (각각 한 번의 쿼리)
     @Transactional
     public void addOrUpdateUserIngredients(Long userId, UserIngredientListDTO userIngredientDTO) {
-        userIngredientRepository.deleteByUserId(userId);
-        for (String ingredientName : userIngredientDTO.getIngredients()) {
-            // Step 1: Ingredient 찾거나 생성
-            Ingredient ingredient = findOrCreateIngredient(ingredientName);
+        if (!userRepository.existsById(userId)) {
+            throw new IllegalArgumentException("User not found with id: " + userId);
+        }
 
-            UserIngredient userIngredient;
+        Set<Long> desired = new LinkedHashSet<>(ingredientDictionary.resolveAll(userIngredientDTO.getIngredients()).values());
+        Set<Long> current = new HashSet<>(userIngredientRepository.findIngredientIdsByUserId(userId));
 
-            User user = userRepository.findById(userId)
-                    .orElseThrow(() -> new IllegalArgumentException("User not found with id: " + userId));
-            userIngredient = new UserIngredient(null, user, ingredient);
+        List<Long> removed = current.stream().filter(id -> !desired.contains(id)).toList();
+        List<Long> added = desired.stream().filter(id -> !current.contains(id)).toList();
+        if (removed.isEmpty() && added.isEmpty()) {
+            return;
+        }
 
-            // UserIngredient 저장 또는 갱신
-            userIngredientRepository.save(userIngredient);
+        if (!removed.isEmpty()) {
+            userIngredientRepository.deleteByUserIdAndIngredientIds(userId, removed);
+        }
+        if (!added.isEmpty()) {
+            String placeholders = String.join(", ", Collections.nCopies(added.size(), "(?, ?)"));
+            List<Object> params = new ArrayList<>(added.size() * 2);
+            for (Long ingredientId : added) {
+                params.add(userId);
+                params.add(ingredientId);
+            }
+            jdbcTemplate.update("INSERT INTO user_ingredient (user_id, ingredient_id) VALUES " + placeholders, params.toArray());
         }
+        log.info("Allergy profile of user {} updated: {} added, {} removed", userId, added.size(), removed.size());
+        eventPublisher.publishEvent(new AllergyProfileChangedEvent(userId));
     }
 
     @Transactional
     public Ingredient findOrCreateIngredient(String ingredientName) {
-        return ingredientRepository.findFirstByIngredient(ingredientName)
-                .orElseGet(() -> createNewIngredient(ingredientName));
+        return ingredientRepository.getReferenceById(ingredientDictionary.resolve(ingredientName));
     }
-
-    @Transactional
-    private Ingredient createNewIngredient(String ingredientName) {
-        Ingredient ingredient = new Ingredient();
-        ingredient.setIngredient(ingredientName);
-        return ingredientRepository.save(ingredient);
-    }
-
-
 }
-
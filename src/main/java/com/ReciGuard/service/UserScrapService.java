@@ -1,12 +1,13 @@
 package com.ReciGuard.service;
 
 import com.ReciGuard.dto.ScrapRecipeDTO;
-import com.ReciGuard.entity.Recipe;
-import com.ReciGuard.entity.User;
 import com.ReciGuard.entity.UserScrap;
 import com.ReciGuard.repository.RecipeRepository;
 import com.ReciGuard.repository.UserScrapRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -19,28 +20,50 @@ import java.util.stream.Collectors;
 public class UserScrapService {
 
     private final UserScrapRepository userScrapRepository;
+    private final RecipeRepository recipeRepository;
+    private final JdbcTemplate jdbcTemplate;
     private final RecipeStatsService recipeStatsService;
+    private final ScrapSimilarityIndex scrapSimilarityIndex;
 
-    public boolean toggleScrap(Long userId, Long recipeId) {
-        boolean isScrapped = userScrapRepository.existsUserScrap(userId, recipeId);
-
-        if (isScrapped) {
-            // 이미 스크랩된 상태 -> 스크랩 해제
-            userScrapRepository.deleteUserScrap(userId, recipeId);
-            recipeStatsService.updateScrapCount(recipeId, -1); // ScrapCount 감소
-            return false; // 스크랩 해제
-        } else {
-            // 스크랩되지 않은 상태 -> 스크랩 추가
-            UserScrap userScrap = new UserScrap();
+    // 스크랩 추가 (PUT, 멱등) -> 이번 호출로 새로 추가됐는지
+    // 존재 확인 없이 INSERT 한 번으로 결정하고, 실제로 추가된 경우에만 scrapCount 증가
+    // 중복 키(uk_user_scrap)만 "이미 스크랩됨"으로 보고, 없는 사용자/레시피(FK) 오류는 그대로 실패 처리
+    // (JPA 쿼리 대신 JdbcTemplate 을 써서 중복 키 오류가 트랜잭션을 rollback-only 로 만들지 않게 한다)
+    public boolean addScrap(Long userId, Long recipeId) {
+        try {
+            jdbcTemplate.update("INSERT INTO user_scrap (user_id, recipe_id, created_at) VALUES (?, ?, NOW())", userId, recipeId);
+        } catch (DuplicateKeyException e) {
+            return false; // 이미 스크랩된 상태
+        } catch (DataIntegrityViolationException e) {
+            throw new IllegalArgumentException(recipeRepository.existsById(recipeId)
+                    ? "User not found with id: " + userId
+                    : "Recipe not found with id: " + recipeId);
+        }
+        recipeStatsService.updateScrapCount(recipeId, 1); // ScrapCount 증가
+        AfterCommit.run(() -> scrapSimilarityIndex.onScrapped(userId, recipeId)); // 롤백된 스크랩이 인덱스에 남지 않도록
+        return true;
+    }
 
-            userScrap.setUser(new User(userId));
-            userScrap.setRecipe(new Recipe(recipeId));
-            userScrapRepository.save(userScrap);
+    // 스크랩 해제 (DELETE, 멱등) -> 이번 호출로 실제 해제됐는지
+    public boolean removeScrap(Long userId, Long recipeId) {
+        if (userScrapRepository.deleteUserScrap(userId, recipeId) == 0) {
+            return false; // 이미 해제된 상태
+        }
+        recipeStatsService.updateScrapCount(recipeId, -1); // ScrapCount 감소
+        AfterCommit.run(() -> scrapSimilarityIndex.onUnscrapped(userId, recipeId));
+        return true;
+    }
 
-            recipeStatsService.updateScrapCount(recipeId, 1); // ScrapCount 증가
-            return true; // 스크랩 추가
+    // 하트 버튼 토글 -> 토글 후 스크랩 상태
+    // 삭제를 먼저 시도해서 지워진 행이 있으면 해제, 없으면 추가 (동시에 눌러도 중복 행/카운트 어긋남 없음)
+    public boolean toggleScrap(Long userId, Long recipeId) {
+        if (removeScrap(userId, recipeId)) {
+            return false; // 스크랩 해제
         }
+        addScrap(userId, recipeId); // 동시에 다른 요청이 먼저 추가했어도 결과는 스크랩된 상태
+        return true; // 스크랩 추가
     }
+
     public List<ScrapRecipeDTO> getScrappedRecipesByUser(Long userId) {
         // UserScrap 리스트 조회
         List<UserScrap> userScraps = userScrapRepository.findAllByUser_Userid(userId);
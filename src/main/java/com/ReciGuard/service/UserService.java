@@ -4,15 +4,18 @@ import com.ReciGuard.dto.UserPasswordDTO;
 import com.ReciGuard.dto.UserResponseDTO;
 import com.ReciGuard.dto.UserUpdateDTO;
 import com.ReciGuard.entity.*;
+import com.ReciGuard.event.AllergyProfileChangedEvent;
 import com.ReciGuard.repository.*;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
@@ -22,13 +25,13 @@ import java.util.stream.Collectors;
 public class UserService {
 
     private final UserRepository userRepository;
-    private final UserCookingStyleRepository userCookingStyleRepository;
-    private final UserCuisineRepository userCuisineRepository;
-    private final UserFoodTypeRepository userFoodTypeRepository;
     private final UserIngredientRepository userIngredientRepository;
     private final BCryptPasswordEncoder bCryptPasswordEncoder;
     private final IngredientRepository ingredientRepository;
+    private final IngredientDictionary ingredientDictionary;
     private final PasswordEncoder passwordEncoder;
+    private final ApplicationEventPublisher eventPublisher;
+    private final RefreshTokenService refreshTokenService;
 
     //회원가입
     @Transactional
@@ -53,51 +56,20 @@ public class UserService {
                 .gender(userRequestDTO.getGender())
                 .build();
 
-        userRepository.save(user);
+        // 취향은 users 행의 bitmask 컬럼으로 함께 저장
+        user.updateTastes(userRequestDTO.getUserCuisine(), userRequestDTO.getUserFoodType(), userRequestDTO.getUserCookingStyle());
 
-        //cookingstyle 저장
-        userRequestDTO.getUserCookingStyle().forEach(cookingStyle -> {
-            UserCookingStyle userCookingStyle = UserCookingStyle.builder()
-                    .cookingsStyle(cookingStyle)
-                    .user(user)
-                    .build();
-            userCookingStyleRepository.save(userCookingStyle);
-        });
-
-        //cuisine 저장
-        userRequestDTO.getUserCuisine().forEach(cuisine -> {
-            UserCuisine userCuisine = UserCuisine.builder()
-                    .cuisine(cuisine)
-                    .user(user)
-                    .build();
-            userCuisineRepository.save(userCuisine);
-        });
-
-        //foodtype 저장
-        userRequestDTO.getUserFoodType().forEach(foodType -> {
-            UserFoodType userFoodType = UserFoodType.builder()
-                    .foodType(foodType)
-                    .user(user)
-                    .build();
-            userFoodTypeRepository.save(userFoodType);
-        });
-
-
-        List<UserIngredient> userIngredients = userRequestDTO.getIngredients().stream()
-                .map(ingredientName -> {
-                    // Ingredient를 데이터베이스에서 조회 또는 생성
-                    Ingredient ingredient = ingredientRepository.findByIngredient(ingredientName);
-
-                    if (ingredient == null) {
-                        ingredient = new Ingredient();
-                        ingredient.setIngredient(ingredientName); // 이름 설정
-                        ingredient = ingredientRepository.save(ingredient); // 저장 후 반환
-                    }
+        userRepository.save(user);
 
+        // Ingredient 는 사전에서 한 번에 조회 또는 생성
+        Map<String, Long> ingredientIds = ingredientDictionary.resolveAll(userRequestDTO.getIngredients());
+        List<UserIngredient> userIngredients = ingredientIds.values().stream()
+                .distinct() // 대소문자만 다른 재료명은 같은 재료
+                .map(ingredientId -> {
                     // UserIngredient 엔티티 생성 및 설정
                     UserIngredient userIngredient = new UserIngredient();
                     userIngredient.setUser(user);
-                    userIngredient.setIngredient(ingredient);
+                    userIngredient.setIngredient(ingredientRepository.getReferenceById(ingredientId));
                     return userIngredient;
                 })
                 .collect(Collectors.toList());
@@ -114,6 +86,7 @@ public class UserService {
 
         String encPassword = bCryptPasswordEncoder.encode(userDTO.getPassword());
         user.modify(encPassword);
+        refreshTokenService.revokeAllForUser(user.getUserid()); // 이전 비밀번호로 받은 토큰 폐기
     }
 
     //로그인
@@ -153,6 +126,8 @@ public class UserService {
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new IllegalArgumentException("해당 사용자가 존재하지 않습니다."));
         userRepository.delete(user); // 실제 삭제 예시
+        refreshTokenService.revokeAllForUser(userId);
+        eventPublisher.publishEvent(new AllergyProfileChangedEvent(userId));
     }
 
     // username 기반으로 userId 조회
@@ -181,6 +156,9 @@ public class UserService {
         // 새 비밀번호 저장
         user.setPassword(passwordEncoder.encode(passwordDTO.getNewPassword()));
         userRepository.save(user);
+
+        // 이전 비밀번호로 받은 토큰은 바로 사용 불가
+        refreshTokenService.revokeAllForUser(user.getUserid());
     }
 
     @Transactional
@@ -193,36 +171,10 @@ public class UserService {
         user.setAge(userDTO.getAge());
         user.setWeight(userDTO.getWeight());
 
-        userCookingStyleRepository.deleteByUserId(user.getUserid());
-        List<UserCookingStyle> cookingStyles = userDTO.getUserCookingStyle().stream()
-                .map(style -> UserCookingStyle.builder()
-                        .cookingsStyle(style)
-                        .user(user)
-                        .build())
-                .collect(Collectors.toList());
-        userCookingStyleRepository.saveAll(cookingStyles);
-
-        // Step 4: Cuisine 업데이트
-        userCuisineRepository.deleteByUserId(user.getUserid());
-        List<UserCuisine> cuisines = userDTO.getUserCuisine().stream()
-                .map(cuisine -> UserCuisine.builder()
-                        .cuisine(cuisine)
-                        .user(user)
-                        .build())
-                .collect(Collectors.toList());
-        userCuisineRepository.saveAll(cuisines);
-
-        // Step 5: Food Type 업데이트
-        userFoodTypeRepository.deleteByUserId(user.getUserid());
-        List<UserFoodType> foodTypes = userDTO.getUserFoodType().stream()
-                .map(foodType -> UserFoodType.builder()
-                        .foodType(foodType)
-                        .user(user)
-                        .build())
-                .collect(Collectors.toList());
-        userFoodTypeRepository.saveAll(foodTypes);
+        user.updateTastes(userDTO.getUserCuisine(), userDTO.getUserFoodType(), userDTO.getUserCookingStyle());
 
         userIngredientRepository.deleteByUserId(user.getUserid());
+        eventPublisher.publishEvent(new AllergyProfileChangedEvent(user.getUserid()));
 
         User finduser = userRepository.findOneByUserName(user.getUsername());
         userDTO = UserUpdateDTO.toUserDTO(finduser);
@@ -231,14 +183,7 @@ public class UserService {
     public UserUpdateDTO.Response updateGetUserInfo(Long userid) {
         User user = userRepository.findById(userid).orElseThrow(() ->
                 new IllegalArgumentException("해당 회원이 존재하지 않습니다."));
-        //entity를 dto로 변환해서 전달
-        List<UserCookingStyle> cookingStyles = userCookingStyleRepository.findByUserId(userid);
-        List<UserFoodType> foodTypes = userFoodTypeRepository.findByUserId(userid);
-        List<UserCuisine> cuisines = userCuisineRepository.findByUserId(userid);
-
-        user.setCookingStyles(cookingStyles);
-        user.setFoodTypes(foodTypes);
-        user.setCuisines(cuisines);
+        //entity를 dto로 변환해서 전달 (취향은 같은 행의 bitmask)
         return new UserUpdateDTO.Response(user);
     }
 }
@@ -0,0 +1,40 @@
+package com.ReciGuard.storage;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+// 이미지 저장소 SPI (reciguard.storage.type 으로 S3 / 로컬 파일시스템 선택)
+public interface BlobStore {
+
+    boolean exists(String key);
+
+    // 임시 파일로 받아둔 업로드를 key 로 저장
+    void put(String key, Path file, long size, String contentType) throws IOException;
+
+    // 썸네일 등 작은 파생 파일 저장
+    void put(String key, byte[] bytes, String contentType) throws IOException;
+
+    // 내용 스트림 (호출한 쪽에서 close)
+    InputStream open(String key) throws IOException;
+
+    // 여러 key 를 한 번에 삭제 (없는 key 는 무시)
+    void delete(List<String> keys) throws IOException;
+
+    // 클라이언트가 접근할 URL
+    String urlOf(String key);
+
+    // 클라이언트 직접 업로드용 presigned PUT (지원하지 않는 저장소는 empty)
+    // sha256Base64 는 표준 Base64 SHA-256 으로, 저장소가 본문과 일치하는지 검증한다
+    // contentLength 는 요청 시 선언한 크기로, 다른 크기의 본문은 서명 불일치로 거부된다
+    default Optional<PresignedPut> presignPut(String key, String contentType, long contentLength, String sha256Base64, Duration ttl) {
+        return Optional.empty();
+    }
+
+    // 저장된 모든 key 순회 (시작 시 캐시 재구성용)
+    void forEachKey(Consumer<String> consumer) throws IOException;
+}
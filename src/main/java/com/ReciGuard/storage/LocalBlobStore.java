@@ -0,0 +1,167 @@
+package com.ReciGuard.storage;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.*;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+// 로컬 파일시스템 저장소 (AWS 없이 부하 테스트/CI/온프레미스 설치용)
+// 쓰기는 FileChannel 로 임시 파일에 복사 후 원자적 rename, 읽기는 memory-mapped
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "reciguard.storage.type", havingValue = "local")
+public class LocalBlobStore implements BlobStore {
+
+    private final Path root;
+    private final String baseUrl;
+
+    public LocalBlobStore(@Value("${reciguard.storage.local.root:./storage}") String root,
+                          @Value("${reciguard.storage.local.base-url:/images}") String baseUrl) throws IOException {
+        this.root = Paths.get(root).toAbsolutePath().normalize();
+        this.baseUrl = baseUrl.endsWith("/") ? baseUrl.substring(0, baseUrl.length() - 1) : baseUrl;
+        Files.createDirectories(this.root);
+        log.info("Local blob store root: {}", this.root);
+    }
+
+    @Override
+    public boolean exists(String key) {
+        return Files.exists(resolve(key));
+    }
+
+    @Override
+    public void put(String key, Path file, long size, String contentType) throws IOException {
+        Path target = resolve(key);
+        Path temp = temporaryFor(target);
+        try (FileChannel in = FileChannel.open(file, StandardOpenOption.READ);
+             FileChannel out = FileChannel.open(temp, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE)) {
+            long position = 0;
+            long length = in.size();
+            while (position < length) {
+                position += in.transferTo(position, length - position, out);
+            }
+            out.force(true);
+        } catch (IOException e) {
+            Files.deleteIfExists(temp);
+            throw e;
+        }
+        moveIntoPlace(temp, target);
+    }
+
+    @Override
+    public void put(String key, byte[] bytes, String contentType) throws IOException {
+        Path target = resolve(key);
+        Path temp = temporaryFor(target);
+        try (FileChannel out = FileChannel.open(temp, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE)) {
+            ByteBuffer buffer = ByteBuffer.wrap(bytes);
+            while (buffer.hasRemaining()) {
+                out.write(buffer);
+            }
+            out.force(true);
+        } catch (IOException e) {
+            Files.deleteIfExists(temp);
+            throw e;
+        }
+        moveIntoPlace(temp, target);
+    }
+
+    @Override
+    public InputStream open(String key) throws IOException {
+        try (FileChannel channel = FileChannel.open(resolve(key), StandardOpenOption.READ)) {
+            // 매핑은 채널을 닫아도 유지된다
+            return new MappedInputStream(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+        }
+    }
+
+    @Override
+    public void delete(List<String> keys) throws IOException {
+        for (String key : keys) {
+            Files.deleteIfExists(resolve(key));
+        }
+        log.info("Deleted {} objects from local store", keys.size());
+    }
+
+    @Override
+    public void forEachKey(Consumer<String> consumer) throws IOException {
+        try (Stream<Path> files = Files.list(root)) {
+            files.map(path -> path.getFileName().toString())
+                    .filter(name -> !name.startsWith(".")) // 쓰는 중인 임시 파일 제외
+                    .forEach(consumer);
+        }
+    }
+
+    @Override
+    public String urlOf(String key) {
+        return baseUrl + "/" + key;
+    }
+
+    // root 밖으로 나가는 key 거부
+    private Path resolve(String key) {
+        Path path = root.resolve(key).normalize();
+        if (!path.getParent().equals(root)) {
+            throw new IllegalArgumentException("Invalid key: " + key);
+        }
+        return path;
+    }
+
+    private static Path temporaryFor(Path target) {
+        return target.resolveSibling("." + target.getFileName() + "." + UUID.randomUUID() + ".tmp");
+    }
+
+    // 같은 key 는 같은 내용이므로 동시에 써도 마지막 rename 이 이겨도 된다
+    private static void moveIntoPlace(Path temp, Path target) throws IOException {
+        try {
+            Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    private static final class MappedInputStream extends InputStream {
+        private final MappedByteBuffer buffer;
+
+        private MappedInputStream(MappedByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        @Override
+        public int read() {
+            return buffer.hasRemaining() ? buffer.get() & 0xFF : -1;
+        }
+
+        @Override
+        public int read(byte[] bytes, int offset, int length) {
+            if (length == 0) {
+                return 0;
+            }
+            if (!buffer.hasRemaining()) {
+                return -1;
+            }
+            int count = Math.min(length, buffer.remaining());
+            buffer.get(bytes, offset, count);
+            return count;
+        }
+
+        @Override
+        public long skip(long n) {
+            int count = (int) Math.max(0, Math.min(n, buffer.remaining()));
+            buffer.position(buffer.position() + count);
+            return count;
+        }
+
+        @Override
+        public int available() {
+            return buffer.remaining();
+        }
+    }
+}
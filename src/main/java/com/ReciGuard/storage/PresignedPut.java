@@ -0,0 +1,7 @@
+package com.ReciGuard.storage;
+
+import java.util.Map;
+
+// 클라이언트가 저장소에 직접 PUT 할 수 있는 서명된 URL + 요청에 그대로 실어 보내야 하는 헤더
+public record PresignedPut(String url, Map<String, String> headers) {
+}
@@ -0,0 +1,133 @@
+package com.ReciGuard.storage;
+
+import com.amazonaws.AmazonServiceException;
+import com.amazonaws.HttpMethod;
+import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.model.DeleteObjectsRequest;
+import com.amazonaws.services.s3.model.GeneratePresignedUrlRequest;
+import com.amazonaws.services.s3.model.ListObjectsV2Request;
+import com.amazonaws.services.s3.model.ListObjectsV2Result;
+import com.amazonaws.services.s3.model.ObjectMetadata;
+import com.amazonaws.services.s3.model.PutObjectRequest;
+import com.amazonaws.services.s3.model.S3ObjectSummary;
+import com.amazonaws.services.s3.transfer.TransferManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "reciguard.storage.type", havingValue = "s3", matchIfMissing = true)
+public class S3BlobStore implements BlobStore {
+
+    private static final int MAX_DELETE_BATCH = 1000;
+    private static final String CHECKSUM_HEADER = "x-amz-checksum-sha256";
+    private static final String CONTENT_LENGTH_HEADER = "Content-Length";
+
+    private final AmazonS3 amazonS3;
+    private final TransferManager transferManager;
+
+    @Value("${spring.cloud.aws.S3.bucket}")
+    private String bucket;
+
+    @Override
+    public boolean exists(String key) {
+        return amazonS3.doesObjectExist(bucket, key);
+    }
+
+    // 임계값 이상이면 TransferManager 가 멀티파트로 나눠 전송
+    @Override
+    public void put(String key, Path file, long size, String contentType) throws IOException {
+        ObjectMetadata metadata = new ObjectMetadata();
+        metadata.setContentLength(size);
+        metadata.setContentType(contentType);
+
+        try {
+            transferManager.upload(new PutObjectRequest(bucket, key, file.toFile()).withMetadata(metadata))
+                    .waitForCompletion();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("File upload interrupted: " + key);
+        } catch (AmazonServiceException e) {
+            throw new IOException("File upload failed: " + key, e);
+        }
+    }
+
+    @Override
+    public void put(String key, byte[] bytes, String contentType) {
+        ObjectMetadata metadata = new ObjectMetadata();
+        metadata.setContentLength(bytes.length);
+        metadata.setContentType(contentType);
+        amazonS3.putObject(bucket, key, new ByteArrayInputStream(bytes), metadata);
+    }
+
+    @Override
+    public InputStream open(String key) {
+        return amazonS3.getObject(bucket, key).getObjectContent();
+    }
+
+    // DeleteObjects 요청으로 묶어서 삭제 (요청당 최대 1000개)
+    @Override
+    public void delete(List<String> keys) {
+        for (int from = 0; from < keys.size(); from += MAX_DELETE_BATCH) {
+            List<DeleteObjectsRequest.KeyVersion> batch = keys.subList(from, Math.min(from + MAX_DELETE_BATCH, keys.size())).stream()
+                    .map(DeleteObjectsRequest.KeyVersion::new)
+                    .toList();
+            amazonS3.deleteObjects(new DeleteObjectsRequest(bucket).withKeys(batch).withQuiet(true));
+            log.info("Deleted {} objects from S3. Bucket: {}", batch.size(), bucket);
+        }
+    }
+
+    // ListObjectsV2 페이지 단위 순회 (페이지당 최대 1000개)
+    @Override
+    public void forEachKey(Consumer<String> consumer) {
+        ListObjectsV2Request request = new ListObjectsV2Request().withBucketName(bucket);
+        ListObjectsV2Result result;
+        do {
+            result = amazonS3.listObjectsV2(request);
+            for (S3ObjectSummary summary : result.getObjectSummaries()) {
+                consumer.accept(summary.getKey());
+            }
+            request.setContinuationToken(result.getNextContinuationToken());
+        } while (result.isTruncated());
+    }
+
+    @Override
+    public String urlOf(String key) {
+        return amazonS3.getUrl(bucket, key).toString();
+    }
+
+    // Content-Type / Content-Length / 체크섬 헤더까지 서명에 포함시켜서,
+    // 선언한 크기나 해시와 다른 내용은 S3가 거부하게 한다 (허용 크기 검사를 우회한 대용량 업로드 방지)
+    @Override
+    public Optional<PresignedPut> presignPut(String key, String contentType, long contentLength, String sha256Base64, Duration ttl) {
+        GeneratePresignedUrlRequest request = new GeneratePresignedUrlRequest(bucket, key, HttpMethod.PUT)
+                .withExpiration(Date.from(Instant.now().plus(ttl)))
+                .withContentType(contentType);
+        request.putCustomRequestHeader(CONTENT_LENGTH_HEADER, Long.toString(contentLength));
+        request.putCustomRequestHeader(CHECKSUM_HEADER, sha256Base64);
+
+        String url = amazonS3.generatePresignedUrl(request).toString();
+        return Optional.of(new PresignedPut(url, Map.of(
+                "Content-Type", contentType,
+                CONTENT_LENGTH_HEADER, Long.toString(contentLength),
+                CHECKSUM_HEADER, sha256Base64
+        )));
+    }
+}
@@ -1,12 +1,29 @@
 package com.ReciGuard.webconfig;
 
+import com.ReciGuard.SecurityConfig.CurrentUserArgumentResolver;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
 import org.springframework.web.servlet.config.annotation.CorsRegistry;
+import org.springframework.web.servlet.config.annotation.ResourceHandlerRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
+import java.nio.file.Paths;
+import java.util.List;
+
 @Configuration
+@RequiredArgsConstructor
 public class Webconfig implements WebMvcConfigurer {
 
+    private final CurrentUserArgumentResolver currentUserArgumentResolver;
+
+    @Value("${reciguard.storage.type:s3}")
+    private String storageType;
+
+    @Value("${reciguard.storage.local.root:./storage}")
+    private String localStorageRoot;
+
     @Override
     public void addCorsMappings(CorsRegistry registry) {
         registry.addMapping("/**") // 모든 URL 경로에 대해 CORS 허용
@@ -15,4 +32,18 @@ public class Webconfig implements WebMvcConfigurer {
                 .allowedHeaders("*") // 모든 헤더 허용
                 .allowCredentials(true); // 쿠키 인증 허용
     }
+
+    // 로컬 저장소를 쓰는 경우 업로드한 이미지를 직접 서빙
+    @Override
+    public void addResourceHandlers(ResourceHandlerRegistry registry) {
+        if ("local".equals(storageType)) {
+            registry.addResourceHandler("/images/**")
+                    .addResourceLocations(Paths.get(localStorageRoot).toAbsolutePath().normalize().toUri().toString());
+        }
+    }
+
+    @Override
+    public void addArgumentResolvers(List<HandlerMethodArgumentResolver> resolvers) {
+        resolvers.add(currentUserArgumentResolver);
+    }
 }
@@ -24303,689 +24303,152 @@ INSERT INTO user_ingredient (user_id, ingredient_id) VALUES
     (144, 540),
     (145, 597);
 
-INSERT INTO user_cookingstyle (user_id, cooking_style) VALUES
-    (1, "굽기"),
-    (1, "끓이기"),
-    (2, "굽기"),
-    (2, "끓이기"),
-    (2, "튀기기"),
-    (2, "찌기"),
-    (3, "굽기"),
-    (3, "볶기"),
-    (4, "굽기"),
-    (4, "볶기"),
-    (5, "굽기"),
-    (5, "볶기"),
-    (5, "튀기기"),
-    (6, "튀기기"),
-    (7, "굽기"),
-    (7, "튀기기"),
-    (8, "굽기"),
-    (8, "끓이기"),
-    (8, "볶기"),
-    (8, "튀기기"),
-    (9, "튀기기"),
-    (10, "볶기"),
-    (11, "굽기"),
-    (11, "볶기"),
-    (12, "끓이기"),
-    (12, "볶기"),
-    (12, "튀기기"),
-    (12, "찌기"),
-    (13, "굽기"),
-    (13, "튀기기"),
-    (14, "굽기"),
-    (14, "볶기"),
-    (15, "굽기"),
-    (15, "끓이기"),
-    (16, "굽기"),
-    (17, "굽기"),
-    (17, "찌기"),
-    (18, "굽기"),
-    (18, "볶기"),
-    (18, "튀기기"),
-    (19, "굽기"),
-    (20, "굽기"),
-    (21, "굽기"),
-    (22, "볶기"),
-    (23, "볶기"),
-    (23, "튀기기"),
-    (24, "굽기"),
-    (24, "끓이기"),
-    (24, "튀기기"),
-    (24, "찌기"),
-    (25, "끓이기"),
-    (25, "볶기"),
-    (25, "찌기"),
-    (26, "굽기"),
-    (27, "굽기"),
-    (27, "튀기기"),
-    (28, "굽기"),
-    (29, "볶기"),
-    (30, "굽기"),
-    (30, "끓이기"),
-    (30, "찌기"),
-    (31, "볶기"),
-    (31, "튀기기"),
-    (32, "굽기"),
-    (32, "튀기기"),
-    (33, "굽기"),
-    (34, "굽기"),
-    (34, "볶기"),
-    (34, "튀기기"),
-    (35, "굽기"),
-    (35, "튀기기"),
-    (36, "굽기"),
-    (36, "볶기"),
-    (36, "튀기기"),
-    (37, "굽기"),
-    (37, "볶기"),
-    (38, "볶기"),
-    (38, "튀기기"),
-    (39, "굽기"),
-    (40, "굽기"),
-    (41, "굽기"),
-    (41, "튀기기"),
-    (42, "볶기"),
-    (43, "굽기"),
-    (43, "볶기"),
-    (44, "굽기"),
-    (44, "튀기기"),
-    (45, "굽기"),
-    (45, "끓이기"),
-    (45, "볶기"),
-    (45, "튀기기"),
-    (46, "굽기"),
-    (46, "볶기"),
-    (47, "굽기"),
-    (47, "끓이기"),
-    (47, "튀기기"),
-    (47, "찌기"),
-    (48, "굽기"),
-    (49, "굽기"),
-    (49, "튀기기"),
-    (50, "굽기"),
-    (50, "끓이기"),
-    (50, "볶기"),
-    (51, "굽기"),
-    (52, "튀기기"),
-    (53, "굽기"),
-    (53, "볶기"),
-    (54, "굽기"),
-    (54, "튀기기"),
-    (55, "굽기"),
-    (56, "굽기"),
-    (56, "끓이기"),
-    (56, "튀기기"),
-    (57, "굽기"),
-    (58, "굽기"),
-    (58, "볶기"),
-    (58, "튀기기"),
-    (59, "볶기"),
-    (60, "볶기"),
-    (60, "튀기기"),
-    (61, "굽기"),
-    (62, "볶기"),
-    (63, "굽기"),
-    (63, "볶기"),
-    (64, "굽기"),
-    (64, "볶기"),
-    (65, "굽기"),
-    (65, "볶기"),
-    (65, "튀기기"),
-    (66, "굽기"),
-    (66, "볶기"),
-    (66, "튀기기"),
-    (67, "볶기"),
-    (68, "굽기"),
-    (68, "볶기"),
-    (68, "튀기기"),
-    (69, "굽기"),
-    (69, "볶기"),
-    (69, "튀기기"),
-    (70, "굽기"),
-    (71, "굽기"),
-    (72, "볶기"),
-    (73, "굽기"),
-    (73, "볶기"),
-    (74, "굽기"),
-    (74, "튀기기"),
-    (75, "굽기"),
-    (75, "튀기기"),
-    (76, "굽기"),
-    (76, "끓이기"),
-    (76, "볶기"),
-    (76, "튀기기"),
-    (76, "찌기"),
-    (77, "굽기"),
-    (77, "끓이기"),
-    (78, "굽기"),
-    (79, "굽기"),
-    (80, "튀기기"),
-    (81, "굽기"),
-    (81, "끓이기"),
-    (81, "찌기"),
-    (82, "굽기"),
-    (82, "볶기"),
-    (82, "튀기기"),
-    (83, "굽기"),
-    (84, "굽기"),
-    (84, "끓이기"),
-    (84, "볶기"),
-    (85, "볶기"),
-    (86, "굽기"),
-    (86, "볶기"),
-    (87, "볶기"),
-    (87, "찌기"),
-    (88, "굽기"),
-    (88, "볶기"),
-    (89, "굽기"),
-    (90, "끓이기"),
-    (90, "볶기"),
-    (90, "튀기기"),
-    (91, "굽기"),
-    (91, "튀기기"),
-    (92, "굽기"),
-    (92, "끓이기"),
-    (92, "볶기"),
-    (92, "찌기"),
-    (93, "굽기"),
-    (93, "튀기기"),
-    (94, "끓이기"),
-    (94, "볶기"),
-    (94, "찌기"),
-    (95, "볶기"),
-    (96, "볶기"),
-    (97, "굽기"),
-    (98, "굽기"),
-    (98, "볶기"),
-    (98, "튀기기"),
-    (99, "굽기"),
-    (99, "끓이기"),
-    (99, "볶기"),
-    (99, "찌기"),
-    (100, "굽기"),
-    (100, "끓이기"),
-    (100, "볶기"),
-    (101, "찌기"),
-    (102, "굽기"),
-    (102, "볶기"),
-    (102, "튀기기"),
-    (103, "굽기"),
-    (103, "끓이기"),
-    (104, "굽기"),
-    (104, "끓이기"),
-    (104, "볶기"),
-    (104, "튀기기"),
-    (105, "굽기"),
-    (105, "끓이기"),
-    (105, "튀기기"),
-    (106, "굽기"),
-    (106, "끓이기"),
-    (106, "튀기기"),
-    (107, "굽기"),
-    (108, "굽기"),
-    (108, "볶기"),
-    (108, "튀기기"),
-    (109, "굽기"),
-    (110, "굽기"),
-    (110, "볶기"),
-    (111, "굽기"),
-    (112, "굽기"),
-    (112, "튀기기"),
-    (113, "굽기"),
-    (113, "볶기"),
-    (113, "튀기기"),
-    (114, "굽기"),
-    (114, "볶기"),
-    (115, "굽기"),
-    (116, "굽기"),
-    (116, "끓이기"),
-    (116, "볶기"),
-    (116, "튀기기"),
-    (117, "굽기"),
-    (117, "끓이기"),
-    (117, "볶기"),
-    (117, "튀기기"),
-    (118, "끓이기"),
-    (118, "볶기"),
-    (119, "튀기기"),
-    (120, "굽기"),
-    (120, "끓이기"),
-    (120, "볶기"),
-    (120, "튀기기"),
-    (121, "굽기"),
-    (121, "볶기"),
-    (122, "굽기"),
-    (122, "볶기"),
-    (123, "끓이기"),
-    (123, "찌기"),
-    (124, "굽기"),
-    (124, "볶기"),
-    (125, "굽기"),
-    (125, "끓이기"),
-    (126, "굽기"),
-    (126, "볶기"),
-    (127, "볶기"),
-    (127, "튀기기"),
-    (128, "굽기"),
-    (129, "굽기"),
-    (130, "굽기"),
-    (130, "튀기기"),
-    (131, "볶기"),
-    (132, "굽기"),
-    (132, "볶기"),
-    (133, "굽기"),
-    (133, "튀기기"),
-    (134, "찌기"),
-    (135, "굽기"),
-    (135, "볶기"),
-    (136, "굽기"),
-    (136, "끓이기"),
-    (136, "튀기기"),
-    (136, "찌기"),
-    (137, "굽기"),
-    (138, "끓이기"),
-    (138, "볶기"),
-    (138, "찌기"),
-    (139, "볶기"),
-    (140, "볶기"),
-    (141, "굽기"),
-    (142, "굽기"),
-    (142, "볶기"),
-    (142, "튀기기"),
-    (143, "굽기"),
-    (143, "끓이기"),
-    (143, "볶기"),
-    (143, "찌기"),
-    (144, "굽기"),
-    (144, "끓이기"),
-    (144, "볶기"),
-    (145, "찌기");
-
-INSERT INTO user_foodtype (user_id, food_type) VALUES
-    (1, "밥"),
-    (2, "국"),
-    (3, "면"),
-    (3, "후식"),
-    (4, "면"),
-    (4, "후식"),
-    (5, "면"),
-    (5, "후식"),
-    (6, "밥"),
-    (6, "국"),
-    (7, "후식"),
-    (8, "면"),
-    (8, "후식"),
-    (9, "면"),
-    (9, "후식"),
-    (10, "면"),
-    (11, "면"),
-    (12, "면"),
-    (12, "국"),
-    (13, "후식"),
-    (14, "면"),
-    (15, "면"),
-    (15, "후식"),
-    (16, "후식"),
-    (17, "밥"),
-    (17, "국"),
-    (17, "찌개"),
-    (18, "면"),
-    (19, "찌개"),
-    (19, "면"),
-    (20, "후식"),
-    (21, "후식"),
-    (22, "면"),
-    (23, "면"),
-    (23, "후식"),
-    (24, "국"),
-    (25, "면"),
-    (25, "국"),
-    (26, "면"),
-    (26, "밥"),
-    (27, "후식"),
-    (28, "후식"),
-    (29, "면"),
-    (30, "후식"),
-    (30, "국"),
-    (31, "면"),
-    (32, "밥"),
-    (32, "국"),
-    (33, "면"),
-    (34, "면"),
-    (35, "후식"),
-    (36, "면"),
-    (36, "후식"),
-    (37, "면"),
-    (37, "후식"),
-    (38, "면"),
-    (39, "국"),
-    (39, "밥"),
-    (40, "밥"),
-    (40, "면"),
-    (41, "후식"),
-    (42, "면"),
-    (43, "면"),
-    (43, "후식"),
-    (44, "후식"),
-    (45, "면"),
-    (46, "면"),
-    (46, "후식"),
-    (47, "국"),
-    (48, "면"),
-    (48, "후식"),
-    (49, "면"),
-    (49, "후식"),
-    (50, "면"),
-    (51, "후식"),
-    (52, "후식"),
-    (53, "면"),
-    (53, "후식"),
-    (54, "후식"),
-    (55, "후식"),
-    (56, "후식"),
-    (57, "후식"),
-    (58, "면"),
-    (58, "후식"),
-    (59, "면"),
-    (60, "면"),
-    (61, "면"),
-    (62, "면"),
-    (63, "면"),
-    (63, "후식"),
-    (64, "면"),
-    (65, "면"),
-    (66, "면"),
-    (67, "면"),
-    (68, "면"),
-    (69, "면"),
-    (69, "후식"),
-    (70, "면"),
-    (70, "후식"),
-    (71, "면"),
-    (71, "후식"),
-    (72, "면"),
-    (73, "면"),
-    (73, "후식"),
-    (74, "후식"),
-    (75, "밥"),
-    (76, "면"),
-    (76, "후식"),
-    (76, "국"),
-    (77, "후식"),
-    (78, "후식"),
-    (79, "후식"),
-    (80, "밥"),
-    (80, "국"),
-    (81, "면"),
-    (81, "후식"),
-    (81, "국"),
-    (82, "면"),
-    (82, "후식"),
-    (83, "면"),
-    (83, "후식"),
-    (84, "면"),
-    (84, "후식"),
-    (85, "면"),
-    (86, "면"),
-    (86, "후식"),
-    (87, "밥"),
-    (87, "면"),
-    (88, "면"),
-    (88, "후식"),
-    (89, "후식"),
-    (90, "밥"),
-    (90, "면"),
-    (90, "후식"),
-    (91, "후식"),
-    (92, "면"),
-    (92, "후식"),
-    (92, "국"),
-    (93, "후식"),
-    (94, "면"),
-    (94, "국"),
-    (95, "면"),
-    (96, "면"),
-    (97, "후식"),
-    (98, "면"),
-    (98, "후식"),
-    (99, "면"),
-    (99, "국"),
-    (100, "면"),
-    (101, "면"),
-    (101, "찌개"),
-    (102, "면"),
-    (102, "후식"),
-    (103, "면"),
-    (103, "후식"),
-    (104, "면"),
-    (104, "후식"),
-    (105, "면"),
-    (105, "후식"),
-    (106, "면"),
-    (106, "국"),
-    (107, "밥"),
-    (107, "후식"),
-    (108, "면"),
-    (109, "면"),
-    (109, "후식"),
-    (110, "면"),
-    (110, "후식"),
-    (111, "면"),
-    (111, "후식"),
-    (112, "면"),
-    (112, "후식"),
-    (113, "면"),
-    (113, "후식"),
-    (114, "면"),
-    (114, "후식"),
-    (115, "밥"),
-    (115, "후식"),
-    (116, "면"),
-    (116, "후식"),
-    (117, "밥"),
-    (117, "후식"),
-    (118, "면"),
-    (118, "후식"),
-    (119, "면"),
-    (119, "국"),
-    (120, "밥"),
-    (120, "면"),
-    (120, "후식"),
-    (121, "면"),
-    (121, "후식"),
-    (122, "면"),
-    (122, "후식"),
-    (123, "밥"),
-    (123, "국"),
-    (124, "면"),
-    (124, "후식"),
-    (125, "밥"),
-    (125, "후식"),
-    (126, "밥"),
-    (126, "국"),
-    (127, "밥"),
-    (127, "면"),
-    (128, "후식"),
-    (129, "밥"),
-    (129, "국"),
-    (130, "밥"),
-    (130, "찌개"),
-    (131, "밥"),
-    (131, "반찬"),
-    (132, "국"),
-    (132, "찌개"),
-    (133, "후식"),
-    (133, "면"),
-    (134, "면"),
-    (134, "국"),
-    (135, "밥"),
-    (135, "면"),
-    (136, "밥"),
-    (137, "국"),
-    (138, "면"),
-    (138, "후식"),
-    (139, "면"),
-    (139, "밥"),
-    (140, "면"),
-    (140, "후식"),
-    (141, "밥"),
-    (141, "국"),
-    (142, "밥"),
-    (142, "면"),
-    (143, "찌개"),
-    (144, "국"),
-    (144, "반찬"),
-    (145, "밥"),
-    (145, "국");
-
-INSERT INTO user_cuisine (user_id, cuisine) VALUES
-    (1, "아시안"),
-    (2, "양식"),
-    (3, "양식"),
-    (4, "아시안"),
-    (5, "양식"),
-    (6, "양식"),
-    (7, "중식"),
-    (8, "양식"),
-    (9, "양식"),
-    (10, "양식"),
-    (11, "중식"),
-    (12, "양식"),
-    (13, "중식"),
-    (14, "양식"),
-    (15, "중식"),
-    (16, "양식"),
-    (17, "아시안"),
-    (18, "양식"),
-    (19, "한식"),
-    (20, "양식"),
-    (21, "양식"),
-    (22, "아시안"),
-    (23, "양식"),
-    (24, "중식"),
-    (25, "중식"),
-    (26, "한식"),
-    (27, "양식"),
-    (28, "양식"),
-    (29, "양식"),
-    (30, "아시안"),
-    (31, "양식"),
-    (32, "양식"),
-    (33, "양식"),
-    (34, "양식"),
-    (35, "양식"),
-    (36, "양식"),
-    (37, "중식"),
-    (38, "양식"),
-    (39, "양식"),
-    (40, "양식"),
-    (41, "양식"),
-    (42, "양식"),
-    (43, "양식"),
-    (44, "중식"),
-    (45, "중식"),
-    (46, "양식"),
-    (47, "양식"),
-    (48, "양식"),
-    (49, "중식"),
-    (50, "양식"),
-    (51, "양식"),
-    (52, "양식"),
-    (53, "양식"),
-    (54, "중식"),
-    (55, "양식"),
-    (56, "양식"),
-    (57, "중식"),
-    (58, "중식"),
-    (59, "양식"),
-    (60, "양식"),
-    (61, "양식"),
-    (62, "양식"),
-    (63, "양식"),
-    (64, "양식"),
-    (65, "중식"),
-    (66, "양식"),
-    (67, "양식"),
-    (68, "양식"),
-    (69, "양식"),
-    (70, "양식"),
-    (71, "양식"),
-    (72, "양식"),
-    (73, "일식"),
-    (74, "양식"),
-    (75, "한식"),
-    (76, "양식"),
-    (77, "양식"),
-    (78, "양식"),
-    (79, "일식"),
-    (80, "중식"),
-    (81, "양식"),
-    (82, "양식"),
-    (83, "양식"),
-    (84, "한식"),
-    (85, "양식"),
-    (86, "중식"),
-    (87, "중식"),
-    (88, "한식"),
-    (89, "양식"),
-    (90, "중식"),
-    (91, "중식"),
-    (92, "양식"),
-    (93, "양식"),
-    (94, "양식"),
-    (95, "양식"),
-    (96, "양식"),
-    (97, "양식"),
-    (98, "양식"),
-    (99, "양식"),
-    (100, "양식"),
-    (101, "양식"),
-    (102, "일식"),
-    (103, "양식"),
-    (104, "아시안"),
-    (105, "양식"),
-    (106, "양식"),
-    (107, "중식"),
-    (108, "중식"),
-    (109, "양식"),
-    (110, "양식"),
-    (111, "양식"),
-    (112, "일식"),
-    (113, "양식"),
-    (114, "양식"),
-    (115, "한식"),
-    (116, "한식"),
-    (117, "중식"),
-    (118, "중식"),
-    (119, "양식"),
-    (120, "아시안"),
-    (121, "양식"),
-    (122, "양식"),
-    (123, "한식"),
-    (124, "양식"),
-    (125, "양식"),
-    (126, "한식"),
-    (127, "일식"),
-    (128, "양식"),
-    (129, "중식"),
-    (130, "아시안"),
-    (131, "한식"),
-    (132, "한식"),
-    (133, "양식"),
-    (134, "일식"),
-    (135, "중식"),
-    (136, "아시안"),
-    (137, "양식"),
-    (138, "양식"),
-    (139, "아시안"),
-    (140, "양식"),
-    (141, "한식"),
-    (142, "중식"),
-    (143, "양식"),
-    (144, "한식"),
-    (145, "중식");
+-- 사용자 취향 (TastePreference 사전 순서의 bitmask)
+UPDATE users SET cuisine_mask = 16, food_type_mask = 1, cooking_style_mask = 3 WHERE user_id = 1;
+UPDATE users SET cuisine_mask = 2, food_type_mask = 2, cooking_style_mask = 27 WHERE user_id = 2;
+UPDATE users SET cuisine_mask = 2, food_type_mask = 48, cooking_style_mask = 6 WHERE user_id = 3;
+UPDATE users SET cuisine_mask = 16, food_type_mask = 48, cooking_style_mask = 6 WHERE user_id = 4;
+UPDATE users SET cuisine_mask = 2, food_type_mask = 48, cooking_style_mask = 22 WHERE user_id = 5;
+UPDATE users SET cuisine_mask = 2, food_type_mask = 3, cooking_style_mask = 16 WHERE user_id = 6;
+UPDATE users SET cuisine_mask = 8, food_type_mask = 32, cooking_style_mask = 18 WHERE user_id = 7;
+UPDATE users SET cuisine_mask = 2, food_type_mask = 48, cooking_style_mask = 23 WHERE user_id = 8;
+UPDATE users SET cuisine_mask = 2, food_type_mask = 48, cooking_style_mask = 16 WHERE user_id = 9;
+UPDATE users SET cuisine_mask = 2, food_type_mask = 16, cooking_style_mask = 4 WHERE user_id = 10;
+UPDATE users SET cuisine_mask = 8, food_type_mask = 16, cooking_style_mask = 6 WHERE user_id = 11;
+UPDATE users SET cuisine_mask = 2, food_type_mask = 18, cooking_style_mask = 29 WHERE user_id = 12;
+UPDATE users SET cuisine_mask = 8, food_type_mask = 32, cooking_style_mask = 18 WHERE user_id = 13;
+UPDATE users SET cuisine_mask = 2, food_type_mask = 16, cooking_style_mask = 6 WHERE user_id = 14;
+UPDATE users SET cuisine_mask = 8, food_type_mask = 48, cooking_style_mask = 3 WHERE user_id = 15;
+UPDATE users SET cuisine_mask = 2, food_type_mask = 32, cooking_style_mask = 2 WHERE user_id = 16;
+UPDATE users SET cuisine_mask = 16, food_type_mask = 7, cooking_style_mask = 10 WHERE user_id = 17;
+UPDATE users SET cuisine_mask = 2, food_type_mask = 16, cooking_style_mask = 22 WHERE user_id = 18;
+UPDATE users SET cuisine_mask = 1, food_type_mask = 20, cooking_style_mask = 2 WHERE user_id = 19;
+UPDATE users SET cuisine_mask = 2, food_type_mask = 32, cooking_style_mask = 2 WHERE user_id = 20;
+UPDATE users SET cuisine_mask = 2, food_type_mask = 32, cooking_style_mask = 2 WHERE user_id = 21;
+UPDATE users SET cuisine_mask = 16, food_type_mask = 16, cooking_style_mask = 4 WHERE user_id = 22;
+UPDATE users SET cuisine_mask = 2, food_type_mask = 48, cooking_style_mask = 20 WHERE user_id = 23;
+UPDATE users SET cuisine_mask = 8, food_type_mask = 2, cooking_style_mask = 27 WHERE user_id = 24;
+UPDATE users SET cuisine_mask = 8, food_type_mask = 18, cooking_style_mask = 13 WHERE user_id = 25;
+UPDATE users SET cuisine_mask = 1, food_type_mask = 17, cooking_style_mask = 2 WHERE user_id = 26;
+UPDATE users SET cuisine_mask = 2, food_type_mask = 32, cooking_style_mask = 18 WHERE user_id = 27;
+UPDATE users SET cuisine_mask = 2, food_type_mask = 32, cooking_style_mask = 2 WHERE user_id = 28;
+UPDATE users SET cuisine_mask = 2, food_type_mask = 16, cooking_style_mask = 4 WHERE user_id = 29;
+UPDATE users SET cuisine_mask = 16, food_type_mask = 34, cooking_style_mask = 11 WHERE user_id = 30;
+UPDATE users SET cuisine_mask = 2, food_type_mask = 16, cooking_style_mask = 20 WHERE user_id = 31;
+UPDATE users SET cuisine_mask = 2, food_type_mask = 3, cooking_style_mask = 18 WHERE user_id = 32;
+UPDATE users SET cuisine_mask = 2, food_type_mask = 16, cooking_style_mask = 2 WHERE user_id = 33;
+UPDATE users SET cuisine_mask = 2, food_type_mask = 16, cooking_style_mask = 22 WHERE user_id = 34;
+UPDATE users SET cuisine_mask = 2, food_type_mask = 32, cooking_style_mask = 18 WHERE user_id = 35;
+UPDATE users SET cuisine_mask = 2, food_type_mask = 48, cooking_style_mask = 22 WHERE user_id = 36;
+UPDATE users SET cuisine_mask = 8, food_type_mask = 48, cooking_style_mask = 6 WHERE user_id = 37;
+UPDATE users SET cuisine_mask = 2, food_type_mask = 16, cooking_style_mask = 20 WHERE user_id = 38;
+UPDATE users SET cuisine_mask = 2, food_type_mask = 3, cooking_style_mask = 2 WHERE user_id = 39;
+UPDATE users SET cuisine_mask = 2, food_type_mask = 17, cooking_style_mask = 2 WHERE user_id = 40;
+UPDATE users SET cuisine_mask = 2, food_type_mask = 32, cooking_style_mask = 18 WHERE user_id = 41;
+UPDATE users SET cuisine_mask = 2, food_type_mask = 16, cooking_style_mask = 4 WHERE user_id = 42;
+UPDATE users SET cuisine_mask = 2, food_type_mask = 48, cooking_style_mask = 6 WHERE user_id = 43;
+UPDATE users SET cuisine_mask = 8, food_type_mask = 32, cooking_style_mask = 18 WHERE user_id = 44;
+UPDATE users SET cuisine_mask = 8, food_type_mask = 16, cooking_style_mask = 23 WHERE user_id = 45;
+UPDATE users SET cuisine_mask = 2, food_type_mask = 48, cooking_style_mask = 6 WHERE user_id = 46;
+UPDATE users SET cuisine_mask = 2, food_type_mask = 2, cooking_style_mask = 27 WHERE user_id = 47;
+UPDATE users SET cuisine_mask = 2, food_type_mask = 48, cooking_style_mask = 2 WHERE user_id = 48;
+UPDATE users SET cuisine_mask = 8, food_type_mask = 48, cooking_style_mask = 18 WHERE user_id = 49;
+UPDATE users SET cuisine_mask = 2, food_type_mask = 16, cooking_style_mask = 7 WHERE user_id = 50;
+UPDATE users SET cuisine_mask = 2, food_type_mask = 32, cooking_style_mask = 2 WHERE user_id = 51;
+UPDATE users SET cuisine_mask = 2, food_type_mask = 32, cooking_style_mask = 16 WHERE user_id = 52;
+UPDATE users SET cuisine_mask = 2, food_type_mask = 48, cooking_style_mask = 6 WHERE user_id = 53;
+UPDATE users SET cuisine_mask = 8, food_type_mask = 32, cooking_style_mask = 18 WHERE user_id = 54;
+UPDATE users SET cuisine_mask = 2, food_type_mask = 32, cooking_style_mask = 2 WHERE user_id = 55;
+UPDATE users SET cuisine_mask = 2, food_type_mask = 32, cooking_style_mask = 19 WHERE user_id = 56;
+UPDATE users SET cuisine_mask = 8, food_type_mask = 32, cooking_style_mask = 2 WHERE user_id = 57;
+UPDATE users SET cuisine_mask = 8, food_type_mask = 48, cooking_style_mask = 22 WHERE user_id = 58;
+UPDATE users SET cuisine_mask = 2, food_type_mask = 16, cooking_style_mask = 4 WHERE user_id = 59;
+UPDATE users SET cuisine_mask = 2, food_type_mask = 16, cooking_style_mask = 20 WHERE user_id = 60;
+UPDATE users SET cuisine_mask = 2, food_type_mask = 16, cooking_style_mask = 2 WHERE user_id = 61;
+UPDATE users SET cuisine_mask = 2, food_type_mask = 16, cooking_style_mask = 4 WHERE user_id = 62;
+UPDATE users SET cuisine_mask = 2, food_type_mask = 48, cooking_style_mask = 6 WHERE user_id = 63;
+UPDATE users SET cuisine_mask = 2, food_type_mask = 16, cooking_style_mask = 6 WHERE user_id = 64;
+UPDATE users SET cuisine_mask = 8, food_type_mask = 16, cooking_style_mask = 22 WHERE user_id = 65;
+UPDATE users SET cuisine_mask = 2, food_type_mask = 16, cooking_style_mask = 22 WHERE user_id = 66;
+UPDATE users SET cuisine_mask = 2, food_type_mask = 16, cooking_style_mask = 4 WHERE user_id = 67;
+UPDATE users SET cuisine_mask = 2, food_type_mask = 16, cooking_style_mask = 22 WHERE user_id = 68;
+UPDATE users SET cuisine_mask = 2, food_type_mask = 48, cooking_style_mask = 22 WHERE user_id = 69;
+UPDATE users SET cuisine_mask = 2, food_type_mask = 48, cooking_style_mask = 2 WHERE user_id = 70;
+UPDATE users SET cuisine_mask = 2, food_type_mask = 48, cooking_style_mask = 2 WHERE user_id = 71;
+UPDATE users SET cuisine_mask = 2, food_type_mask = 16, cooking_style_mask = 4 WHERE user_id = 72;
+UPDATE users SET cuisine_mask = 4, food_type_mask = 48, cooking_style_mask = 6 WHERE user_id = 73;
+UPDATE users SET cuisine_mask = 2, food_type_mask = 32, cooking_style_mask = 18 WHERE user_id = 74;
+UPDATE users SET cuisine_mask = 1, food_type_mask = 1, cooking_style_mask = 18 WHERE user_id = 75;
+UPDATE users SET cuisine_mask = 2, food_type_mask = 50, cooking_style_mask = 31 WHERE user_id = 76;
+UPDATE users SET cuisine_mask = 2, food_type_mask = 32, cooking_style_mask = 3 WHERE user_id = 77;
+UPDATE users SET cuisine_mask = 2, food_type_mask = 32, cooking_style_mask = 2 WHERE user_id = 78;
+UPDATE users SET cuisine_mask = 4, food_type_mask = 32, cooking_style_mask = 2 WHERE user_id = 79;
+UPDATE users SET cuisine_mask = 8, food_type_mask = 3, cooking_style_mask = 16 WHERE user_id = 80;
+UPDATE users SET cuisine_mask = 2, food_type_mask = 50, cooking_style_mask = 11 WHERE user_id = 81;
+UPDATE users SET cuisine_mask = 2, food_type_mask = 48, cooking_style_mask = 22 WHERE user_id = 82;
+UPDATE users SET cuisine_mask = 2, food_type_mask = 48, cooking_style_mask = 2 WHERE user_id = 83;
+UPDATE users SET cuisine_mask = 1, food_type_mask = 48, cooking_style_mask = 7 WHERE user_id = 84;
+UPDATE users SET cuisine_mask = 2, food_type_mask = 16, cooking_style_mask = 4 WHERE user_id = 85;
+UPDATE users SET cuisine_mask = 8, food_type_mask = 48, cooking_style_mask = 6 WHERE user_id = 86;
+UPDATE users SET cuisine_mask = 8, food_type_mask = 17, cooking_style_mask = 12 WHERE user_id = 87;
+UPDATE users SET cuisine_mask = 1, food_type_mask = 48, cooking_style_mask = 6 WHERE user_id = 88;
+UPDATE users SET cuisine_mask = 2, food_type_mask = 32, cooking_style_mask = 2 WHERE user_id = 89;
+UPDATE users SET cuisine_mask = 8, food_type_mask = 49, cooking_style_mask = 21 WHERE user_id = 90;
+UPDATE users SET cuisine_mask = 8, food_type_mask = 32, cooking_style_mask = 18 WHERE user_id = 91;
+UPDATE users SET cuisine_mask = 2, food_type_mask = 50, cooking_style_mask = 15 WHERE user_id = 92;
+UPDATE users SET cuisine_mask = 2, food_type_mask = 32, cooking_style_mask = 18 WHERE user_id = 93;
+UPDATE users SET cuisine_mask = 2, food_type_mask = 18, cooking_style_mask = 13 WHERE user_id = 94;
+UPDATE users SET cuisine_mask = 2, food_type_mask = 16, cooking_style_mask = 4 WHERE user_id = 95;
+UPDATE users SET cuisine_mask = 2, food_type_mask = 16, cooking_style_mask = 4 WHERE user_id = 96;
+UPDATE users SET cuisine_mask = 2, food_type_mask = 32, cooking_style_mask = 2 WHERE user_id = 97;
+UPDATE users SET cuisine_mask = 2, food_type_mask = 48, cooking_style_mask = 22 WHERE user_id = 98;
+UPDATE users SET cuisine_mask = 2, food_type_mask = 18, cooking_style_mask = 15 WHERE user_id = 99;
+UPDATE users SET cuisine_mask = 2, food_type_mask = 16, cooking_style_mask = 7 WHERE user_id = 100;
+UPDATE users SET cuisine_mask = 2, food_type_mask = 20, cooking_style_mask = 8 WHERE user_id = 101;
+UPDATE users SET cuisine_mask = 4, food_type_mask = 48, cooking_style_mask = 22 WHERE user_id = 102;
+UPDATE users SET cuisine_mask = 2, food_type_mask = 48, cooking_style_mask = 3 WHERE user_id = 103;
+UPDATE users SET cuisine_mask = 16, food_type_mask = 48, cooking_style_mask = 23 WHERE user_id = 104;
+UPDATE users SET cuisine_mask = 2, food_type_mask = 48, cooking_style_mask = 19 WHERE user_id = 105;
+UPDATE users SET cuisine_mask = 2, food_type_mask = 18, cooking_style_mask = 19 WHERE user_id = 106;
+UPDATE users SET cuisine_mask = 8, food_type_mask = 33, cooking_style_mask = 2 WHERE user_id = 107;
+UPDATE users SET cuisine_mask = 8, food_type_mask = 16, cooking_style_mask = 22 WHERE user_id = 108;
+UPDATE users SET cuisine_mask = 2, food_type_mask = 48, cooking_style_mask = 2 WHERE user_id = 109;
+UPDATE users SET cuisine_mask = 2, food_type_mask = 48, cooking_style_mask = 6 WHERE user_id = 110;
+UPDATE users SET cuisine_mask = 2, food_type_mask = 48, cooking_style_mask = 2 WHERE user_id = 111;
+UPDATE users SET cuisine_mask = 4, food_type_mask = 48, cooking_style_mask = 18 WHERE user_id = 112;
+UPDATE users SET cuisine_mask = 2, food_type_mask = 48, cooking_style_mask = 22 WHERE user_id = 113;
+UPDATE users SET cuisine_mask = 2, food_type_mask = 48, cooking_style_mask = 6 WHERE user_id = 114;
+UPDATE users SET cuisine_mask = 1, food_type_mask = 33, cooking_style_mask = 2 WHERE user_id = 115;
+UPDATE users SET cuisine_mask = 1, food_type_mask = 48, cooking_style_mask = 23 WHERE user_id = 116;
+UPDATE users SET cuisine_mask = 8, food_type_mask = 33, cooking_style_mask = 23 WHERE user_id = 117;
+UPDATE users SET cuisine_mask = 8, food_type_mask = 48, cooking_style_mask = 5 WHERE user_id = 118;
+UPDATE users SET cuisine_mask = 2, food_type_mask = 18, cooking_style_mask = 16 WHERE user_id = 119;
+UPDATE users SET cuisine_mask = 16, food_type_mask = 49, cooking_style_mask = 23 WHERE user_id = 120;
+UPDATE users SET cuisine_mask = 2, food_type_mask = 48, cooking_style_mask = 6 WHERE user_id = 121;
+UPDATE users SET cuisine_mask = 2, food_type_mask = 48, cooking_style_mask = 6 WHERE user_id = 122;
+UPDATE users SET cuisine_mask = 1, food_type_mask = 3, cooking_style_mask = 9 WHERE user_id = 123;
+UPDATE users SET cuisine_mask = 2, food_type_mask = 48, cooking_style_mask = 6 WHERE user_id = 124;
+UPDATE users SET cuisine_mask = 2, food_type_mask = 33, cooking_style_mask = 3 WHERE user_id = 125;
+UPDATE users SET cuisine_mask = 1, food_type_mask = 3, cooking_style_mask = 6 WHERE user_id = 126;
+UPDATE users SET cuisine_mask = 4, food_type_mask = 17, cooking_style_mask = 20 WHERE user_id = 127;
+UPDATE users SET cuisine_mask = 2, food_type_mask = 32, cooking_style_mask = 2 WHERE user_id = 128;
+UPDATE users SET cuisine_mask = 8, food_type_mask = 3, cooking_style_mask = 2 WHERE user_id = 129;
+UPDATE users SET cuisine_mask = 16, food_type_mask = 5, cooking_style_mask = 18 WHERE user_id = 130;
+UPDATE users SET cuisine_mask = 1, food_type_mask = 9, cooking_style_mask = 4 WHERE user_id = 131;
+UPDATE users SET cuisine_mask = 1, food_type_mask = 6, cooking_style_mask = 6 WHERE user_id = 132;
+UPDATE users SET cuisine_mask = 2, food_type_mask = 48, cooking_style_mask = 18 WHERE user_id = 133;
+UPDATE users SET cuisine_mask = 4, food_type_mask = 18, cooking_style_mask = 8 WHERE user_id = 134;
+UPDATE users SET cuisine_mask = 8, food_type_mask = 17, cooking_style_mask = 6 WHERE user_id = 135;
+UPDATE users SET cuisine_mask = 16, food_type_mask = 1, cooking_style_mask = 27 WHERE user_id = 136;
+UPDATE users SET cuisine_mask = 2, food_type_mask = 2, cooking_style_mask = 2 WHERE user_id = 137;
+UPDATE users SET cuisine_mask = 2, food_type_mask = 48, cooking_style_mask = 13 WHERE user_id = 138;
+UPDATE users SET cuisine_mask = 16, food_type_mask = 17, cooking_style_mask = 4 WHERE user_id = 139;
+UPDATE users SET cuisine_mask = 2, food_type_mask = 48, cooking_style_mask = 4 WHERE user_id = 140;
+UPDATE users SET cuisine_mask = 1, food_type_mask = 3, cooking_style_mask = 2 WHERE user_id = 141;
+UPDATE users SET cuisine_mask = 8, food_type_mask = 17, cooking_style_mask = 22 WHERE user_id = 142;
+UPDATE users SET cuisine_mask = 2, food_type_mask = 4, cooking_style_mask = 15 WHERE user_id = 143;
+UPDATE users SET cuisine_mask = 1, food_type_mask = 10, cooking_style_mask = 7 WHERE user_id = 144;
+UPDATE users SET cuisine_mask = 8, food_type_mask = 3, cooking_style_mask = 8 WHERE user_id = 145;
 
 INSERT INTO user_scrap (user_id, recipe_id, created_at) VALUES
     (29, 1123, NOW()),
@@ -0,0 +1,101 @@
+package com.ReciGuard.SecurityConfig;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class BoundedPasswordEncoderTest {
+
+    private ThreadPoolExecutor executor;
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    private static ThreadPoolExecutor singleThread(int queueCapacity) {
+        return new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(queueCapacity));
+    }
+
+    // 해시 스레드를 붙잡아 두는 작업 (반환된 latch 를 내리면 풀림)
+    private CountDownLatch occupyWorker() throws InterruptedException {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        executor.execute(() -> {
+            started.countDown();
+            try {
+                release.await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        return release;
+    }
+
+    @Test
+    void hashesOnThePool() {
+        executor = singleThread(4);
+        BoundedPasswordEncoder encoder = new BoundedPasswordEncoder(executor, 5_000);
+
+        String hash = encoder.encode("cook-password");
+
+        assertThat(encoder.matches("cook-password", hash)).isTrue();
+        assertThat(encoder.matches("wrong-password", hash)).isFalse();
+        assertThat(encoder.metrics().completed()).isEqualTo(3);
+        assertThat(encoder.metrics().rejected()).isZero();
+    }
+
+    // 큐가 차 있으면 기다리지 않고 바로 503
+    @Test
+    void rejectsImmediatelyWhenQueueIsFull() throws InterruptedException {
+        executor = singleThread(1);
+        BoundedPasswordEncoder encoder = new BoundedPasswordEncoder(executor, 5_000);
+        CountDownLatch release = occupyWorker();
+        executor.execute(() -> {
+        });
+
+        long startedAt = System.nanoTime();
+        assertThatThrownBy(() -> encoder.encode("cook-password"))
+                .isInstanceOf(PasswordHashingOverloadedException.class);
+
+        assertThat(Duration.ofNanos(System.nanoTime() - startedAt)).isLessThan(Duration.ofSeconds(1));
+        assertThat(encoder.metrics().rejected()).isEqualTo(1);
+        release.countDown();
+    }
+
+    // max-wait 안에 차례가 오지 않으면 포기하고, 나중에 차례가 와도 해시하지 않는다
+    @Test
+    void givesUpAfterMaxWaitWithoutHashingLater() throws Exception {
+        executor = singleThread(4);
+        BoundedPasswordEncoder encoder = new BoundedPasswordEncoder(executor, 100);
+        CountDownLatch release = occupyWorker();
+
+        assertThatThrownBy(() -> encoder.encode("cook-password"))
+                .isInstanceOf(PasswordHashingOverloadedException.class);
+
+        release.countDown();
+        executor.submit(() -> {
+        }).get(5, TimeUnit.SECONDS);
+        assertThat(encoder.metrics().completed()).isZero();
+        assertThat(encoder.metrics().rejected()).isEqualTo(1);
+    }
+
+    // 과부하가 아닌 BCrypt 자체 오류는 그대로 전달
+    @Test
+    void propagatesEncoderErrors() {
+        executor = singleThread(4);
+        BoundedPasswordEncoder encoder = new BoundedPasswordEncoder(executor, 5_000);
+
+        assertThatThrownBy(() -> encoder.encode(null)).isInstanceOf(IllegalArgumentException.class);
+        assertThat(encoder.metrics().rejected()).isZero();
+    }
+}
@@ -0,0 +1,88 @@
+package com.ReciGuard.benchmark;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.locks.ReentrantLock;
+
+// 요청 처리 스레드 모델 비교 (./gradlew benchmark --args="요청수 DB대기ms AI대기ms")
+// 요청 하나 = 짧은 lock 구간 + DB 조회 + AI 서버 호출 (I/O 대기는 sleep 으로 흉내)
+// - platform-200 : Tomcat 기본 max-threads(200) 와 같은 고정 풀
+// - virtual      : spring.threads.virtual.enabled=true 와 같은 요청당 virtual thread
+// - virtual+sync : lock 대기 중 I/O 를 synchronized 안에서 하는 경우 (carrier 가 고정되어 처리량이 떨어짐)
+public class ThreadModelBenchmark {
+
+    private static final Object MONITOR = new Object();
+    private static final ReentrantLock LOCK = new ReentrantLock();
+
+    public static void main(String[] args) throws Exception {
+        int requests = args.length > 0 ? Integer.parseInt(args[0]) : 20_000;
+        long dbMs = args.length > 1 ? Long.parseLong(args[1]) : 5;
+        long aiMs = args.length > 2 ? Long.parseLong(args[2]) : 30;
+
+        System.out.printf("requests=%d, db=%dms, ai=%dms, cpus=%d%n", requests, dbMs, aiMs,
+                Runtime.getRuntime().availableProcessors());
+
+        // JIT 워밍업
+        run("warmup", Executors.newFixedThreadPool(200), requests / 10, dbMs, aiMs, false);
+
+        run("platform-200", Executors.newFixedThreadPool(200), requests, dbMs, aiMs, false);
+        run("virtual", Executors.newVirtualThreadPerTaskExecutor(), requests, dbMs, aiMs, false);
+        run("virtual+sync", Executors.newVirtualThreadPerTaskExecutor(), requests, dbMs, aiMs, true);
+    }
+
+    private static void run(String name, ExecutorService executor, int requests, long dbMs, long aiMs,
+                            boolean blockInsideMonitor) throws Exception {
+        long[] latencies = new long[requests];
+        long start = System.nanoTime();
+        try (executor) {
+            List<Future<?>> futures = new ArrayList<>(requests);
+            for (int i = 0; i < requests; i++) {
+                int index = i;
+                long submittedAt = System.nanoTime();
+                futures.add(executor.submit(() -> {
+                    handleRequest(dbMs, aiMs, blockInsideMonitor);
+                    latencies[index] = System.nanoTime() - submittedAt;
+                    return null;
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        }
+        double seconds = (System.nanoTime() - start) / 1e9;
+
+        Arrays.sort(latencies);
+        System.out.printf("%-14s %10.0f req/s   p50 %7.1f ms   p99 %7.1f ms%n", name, requests / seconds,
+                latencies[requests / 2] / 1e6, latencies[(int) (requests * 0.99)] / 1e6);
+    }
+
+    private static void handleRequest(long dbMs, long aiMs, boolean blockInsideMonitor) throws InterruptedException {
+        if (blockInsideMonitor) {
+            // 잘못된 예: monitor 를 잡은 채 I/O 대기 -> 모든 virtual thread 가 줄을 서고 carrier 도 고정된다
+            synchronized (MONITOR) {
+                Thread.sleep(0, 50_000);
+            }
+        } else {
+            LOCK.lock();
+            try {
+                Blackhole.consume(System.nanoTime()); // 캐시 조회 같은 짧은 구간
+            } finally {
+                LOCK.unlock();
+            }
+        }
+        Thread.sleep(dbMs);
+        Thread.sleep(aiMs);
+    }
+
+    private static final class Blackhole {
+        private static volatile long sink;
+
+        static void consume(long value) {
+            sink = value;
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package com.ReciGuard.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Objects;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CollectionDiffTest {
+
+    // 기존 엔티티 / 수정 폼 항목 대용
+    private record Existing(String name, String quantity) {
+    }
+
+    private record Desired(String name, String quantity) {
+    }
+
+    private static CollectionDiff<Existing, Desired> diff(List<Existing> existing, List<Desired> desired) {
+        return CollectionDiff.of(existing, Existing::name, desired, Desired::name,
+                (entity, form) -> !Objects.equals(entity.quantity(), form.quantity()));
+    }
+
+    @Test
+    void splitsIntoInsertsUpdatesAndDeletes() {
+        Existing egg = new Existing("계란", "2개");
+        Existing milk = new Existing("우유", "200ml");
+        Existing salt = new Existing("소금", "약간");
+        Desired eggMore = new Desired("계란", "3개");
+        Desired sameMilk = new Desired("우유", "200ml");
+        Desired sugar = new Desired("설탕", "1큰술");
+
+        CollectionDiff<Existing, Desired> diff = diff(List.of(egg, milk, salt), List.of(eggMore, sameMilk, sugar));
+
+        assertThat(diff.inserts()).containsExactly(sugar);
+        assertThat(diff.updates()).containsExactly(new CollectionDiff.Update<>(egg, eggMore));
+        assertThat(diff.deletes()).containsExactly(salt);
+        assertThat(diff.isEmpty()).isFalse();
+    }
+
+    // 내용이 같은 항목은 어느 목록에도 들어가지 않음
+    @Test
+    void identicalCollectionsProduceEmptyDiff() {
+        CollectionDiff<Existing, Desired> diff = diff(
+                List.of(new Existing("계란", "2개"), new Existing("우유", "200ml")),
+                List.of(new Desired("우유", "200ml"), new Desired("계란", "2개")));
+
+        assertThat(diff.inserts()).isEmpty();
+        assertThat(diff.updates()).isEmpty();
+        assertThat(diff.deletes()).isEmpty();
+        assertThat(diff.isEmpty()).isTrue();
+    }
+
+    @Test
+    void emptySidesBecomeAllInsertsOrAllDeletes() {
+        List<Desired> desired = List.of(new Desired("계란", "2개"), new Desired("우유", "200ml"));
+        List<Existing> existing = List.of(new Existing("계란", "2개"), new Existing("우유", "200ml"));
+
+        assertThat(diff(List.of(), desired).inserts()).containsExactlyElementsOf(desired);
+        assertThat(diff(existing, List.of()).deletes()).containsExactlyInAnyOrderElementsOf(existing);
+    }
+
+    @Test
+    void rejectsDuplicateKeysInDesired() {
+        List<Desired> desired = List.of(new Desired("계란", "2개"), new Desired("계란", "3개"));
+
+        assertThatThrownBy(() -> diff(List.of(new Existing("계란", "2개")), desired))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("계란");
+    }
+
+    // 기존 목록에 같은 key 가 여러 번 있으면 첫 번째만 비교하고 나머지는 삭제
+    @Test
+    void deletesDuplicateExistingRows() {
+        Existing egg = new Existing("계란", "2개");
+        Existing staleEgg = new Existing("계란", "1개");
+        Desired eggMore = new Desired("계란", "3개");
+
+        CollectionDiff<Existing, Desired> diff = diff(List.of(egg, staleEgg), List.of(eggMore));
+
+        assertThat(diff.inserts()).isEmpty();
+        assertThat(diff.updates()).containsExactly(new CollectionDiff.Update<>(egg, eggMore));
+        assertThat(diff.deletes()).containsExactly(staleEgg);
+    }
+
+    @Test
+    void deletesDuplicateExistingRowsEvenWhenUnchanged() {
+        Existing egg = new Existing("계란", "2개");
+        Existing staleEgg = new Existing("계란", "2개");
+
+        CollectionDiff<Existing, Desired> diff = diff(List.of(egg, staleEgg), List.of(new Desired("계란", "2개")));
+
+        assertThat(diff.updates()).isEmpty();
+        assertThat(diff.deletes()).hasSize(1).allSatisfy(deleted -> assertThat(deleted).isSameAs(staleEgg));
+        assertThat(diff.isEmpty()).isFalse();
+    }
+}
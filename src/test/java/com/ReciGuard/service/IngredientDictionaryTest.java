@@ -0,0 +1,246 @@
+package com.ReciGuard.service;
+
+import com.ReciGuard.entity.Ingredient;
+import com.ReciGuard.repository.IngredientRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.text.Normalizer;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class IngredientDictionaryTest {
+
+    private FakeIngredientTable table;
+    private IngredientSimilarityIndex similarityIndex;
+    private IngredientDictionary dictionary;
+
+    @BeforeEach
+    void setUp() {
+        table = new FakeIngredientTable();
+        Long eggId = table.insert("계란");
+
+        Ingredient egg = new Ingredient();
+        egg.setId(eggId);
+        egg.setIngredient("계란");
+        IngredientRepository ingredientRepository = mock(IngredientRepository.class);
+        when(ingredientRepository.findAll()).thenReturn(List.of(egg));
+
+        similarityIndex = mock(IngredientSimilarityIndex.class);
+        dictionary = new IngredientDictionary(ingredientRepository, similarityIndex, table);
+        dictionary.load();
+    }
+
+    @Test
+    void knownNamesResolveWithoutQueries() {
+        assertThat(dictionary.resolveAll(List.of("계란"))).containsExactly(Map.entry("계란", table.idOf("계란")));
+        assertThat(table.statements).isZero();
+    }
+
+    // 없는 재료는 INSERT 한 번으로 모두 생성, 입력 순서 유지 + 중복 제거
+    @Test
+    void missingNamesAreCreatedInOneInsert() {
+        Map<String, Long> resolved = dictionary.resolveAll(List.of("우유", "계란", "설탕", "우유"));
+
+        assertThat(resolved).containsExactly(
+                Map.entry("우유", table.idOf("우유")),
+                Map.entry("계란", table.idOf("계란")),
+                Map.entry("설탕", table.idOf("설탕")));
+        assertThat(table.inserts).isEqualTo(1);
+        verify(similarityIndex).register("우유");
+        verify(similarityIndex).register("설탕");
+        verify(similarityIndex, never()).register("계란");
+
+        int statements = table.statements;
+        assertThat(dictionary.resolveAll(List.of("설탕", "우유"))).doesNotContainValue(null);
+        assertThat(table.statements).isEqualTo(statements);
+    }
+
+    // 다른 노드가 이미 만든 재료는 새로 INSERT 하지 않고 그 id 를 사용
+    @Test
+    void rowsCreatedElsewhereAreReused() {
+        Long butterId = table.insert("버터");
+
+        assertThat(dictionary.resolve("버터")).isEqualTo(butterId);
+        assertThat(table.inserts).isZero();
+    }
+
+    // DB 는 대소문자를 구분하지 않으므로 "Egg" 는 기존 "egg" 행과 같은 재료 (null id 가 나오면 안 됨)
+    @Test
+    void namesDifferingOnlyInCaseResolveToStoredRow() {
+        Long eggId = table.insert("egg");
+
+        Map<String, Long> resolved = dictionary.resolveAll(List.of("Egg", "EGG", "égg"));
+
+        assertThat(resolved).containsOnlyKeys("Egg", "EGG", "égg");
+        assertThat(resolved.values()).containsOnly(eggId);
+        assertThat(table.inserts).isZero();
+
+        int statements = table.statements;
+        assertThat(dictionary.resolve("egg")).isEqualTo(eggId);
+        assertThat(table.statements).isEqualTo(statements);
+    }
+
+    @Test
+    void caseVariantsOfNewNameAreCreatedOnce() {
+        Map<String, Long> resolved = dictionary.resolveAll(List.of("Butter", "butter"));
+
+        assertThat(resolved.values()).doesNotContainNull().containsOnly(table.idOf("butter"));
+        assertThat(table.inserts).isEqualTo(1);
+    }
+
+    // 같은 재료를 다른 요청이 먼저 만든 경우 중복 키만 무시하고 나머지는 생성
+    @Test
+    void concurrentlyCreatedNamesAreReused() {
+        table.beforeNextInsert = () -> table.insert("우유");
+
+        Map<String, Long> resolved = dictionary.resolveAll(List.of("우유", "설탕"));
+
+        assertThat(resolved).containsExactly(
+                Map.entry("우유", table.idOf("우유")),
+                Map.entry("설탕", table.idOf("설탕")));
+        assertThat(resolved.values()).doesNotContainNull();
+    }
+
+    @Test
+    void blankNamesAreLeftOut() {
+        assertThat(dictionary.resolveAll(Arrays.asList(" ", null, "계란"))).containsOnlyKeys("계란");
+        assertThat(table.statements).isZero();
+    }
+
+    // 커밋 전에는 메모리 사전/유사도 인덱스에 반영하지 않음
+    @Test
+    void createdNamesAreCachedOnlyAfterCommit() {
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            Long milkId = dictionary.resolve("우유");
+            assertThat(milkId).isEqualTo(table.idOf("우유"));
+            verify(similarityIndex, never()).register("우유");
+
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        verify(similarityIndex).register("우유");
+        int statements = table.statements;
+        dictionary.resolve("우유");
+        assertThat(table.statements).isEqualTo(statements);
+    }
+
+    // 롤백된 INSERT 의 id 가 사전에 남으면 이후 저장이 없는 재료를 참조하게 된다
+    @Test
+    void rolledBackNamesAreNotCached() {
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            dictionary.resolve("우유");
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        table.delete("우유");
+
+        Long milkId = dictionary.resolve("우유");
+
+        assertThat(milkId).isEqualTo(table.idOf("우유"));
+        assertThat(table.inserts).isEqualTo(2);
+    }
+
+    // ingredient 테이블 대용, MySQL 기본 collation 처럼 대소문자/악센트를 구분하지 않는 유니크 키
+    static final class FakeIngredientTable extends JdbcTemplate {
+
+        private final Map<String, String> namesByKey = new LinkedHashMap<>();
+        private final Map<String, Long> idsByKey = new LinkedHashMap<>();
+        private long nextId = 1;
+        int statements;
+        int inserts;
+
+        static String collationKey(String name) {
+            return Normalizer.normalize(name, Normalizer.Form.NFD).replaceAll("\\p{M}", "").toLowerCase(Locale.ROOT);
+        }
+
+        Long insert(String name) {
+            String key = collationKey(name);
+            if (idsByKey.containsKey(key)) {
+                throw new DuplicateKeyException("Duplicate entry '" + name + "' for key 'uk_ingredient_name'");
+            }
+            namesByKey.put(key, name);
+            idsByKey.put(key, nextId);
+            return nextId++;
+        }
+
+        void delete(String name) {
+            namesByKey.remove(collationKey(name));
+            idsByKey.remove(collationKey(name));
+        }
+
+        Long idOf(String name) {
+            return idsByKey.get(collationKey(name));
+        }
+
+        // 다음 INSERT 직전에 다른 요청이 끼어드는 경우 흉내
+        Runnable beforeNextInsert = () -> {
+        };
+
+        @Override
+        public int update(String sql, Object... args) {
+            statements++;
+            assertThat(sql).startsWith("INSERT INTO ingredient (ingredient) VALUES");
+            inserts++;
+            beforeNextInsert.run();
+            beforeNextInsert = () -> {
+            };
+            // 문장 단위로 원자적 (하나라도 중복이면 아무것도 들어가지 않음)
+            for (Object arg : args) {
+                if (idOf((String) arg) != null) {
+                    throw new DuplicateKeyException("Duplicate entry '" + arg + "' for key 'uk_ingredient_name'");
+                }
+            }
+            for (Object arg : args) {
+                insert((String) arg);
+            }
+            return args.length;
+        }
+
+        @Override
+        public void query(String sql, RowCallbackHandler rch, Object... args) {
+            statements++;
+            assertThat(sql).startsWith("SELECT ingredient_id, ingredient FROM ingredient WHERE ingredient IN");
+            for (String key : idsByKey.keySet()) {
+                boolean matches = false;
+                for (Object arg : args) {
+                    matches |= collationKey((String) arg).equals(key);
+                }
+                if (matches) {
+                    processRow(rch, namesByKey.get(key), idsByKey.get(key));
+                }
+            }
+        }
+
+        private static void processRow(RowCallbackHandler rch, String name, Long id) {
+            try {
+                ResultSet rs = mock(ResultSet.class);
+                when(rs.getString("ingredient")).thenReturn(name);
+                when(rs.getLong("ingredient_id")).thenReturn(id);
+                rch.processRow(rs);
+            } catch (SQLException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+}
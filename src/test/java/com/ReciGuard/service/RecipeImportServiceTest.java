@@ -0,0 +1,228 @@
+package com.ReciGuard.service;
+
+import com.ReciGuard.dto.RecipeImportResultDTO;
+import com.ReciGuard.entity.ImportCheckpoint;
+import com.ReciGuard.entity.Recipe;
+import com.ReciGuard.repository.ImportCheckpointRepository;
+import com.ReciGuard.repository.IngredientRepository;
+import com.ReciGuard.repository.RecipeRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyIterable;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class RecipeImportServiceTest {
+
+    private static final String IMPORT_ID = "feed-2024-12";
+
+    // import_checkpoint 행 대용 (mock 트랜잭션은 롤백하지 않으므로 커밋된 상태만 여기에 반영된다)
+    private final Map<String, ImportCheckpoint> checkpoints = new LinkedHashMap<>();
+    // 저장된 레시피 이름 (저장 순서)
+    private final List<String> saved = new ArrayList<>();
+    // saveAll 후 flush 전인 레시피
+    private final List<String> pending = new ArrayList<>();
+
+    private RecipeRepository recipeRepository;
+    private RecipeMinHashIndex recipeMinHashIndex;
+    private IngredientDictionary ingredientDictionary;
+    private PlatformTransactionManager transactionManager;
+    private EntityManager entityManager;
+    private RecipeImportService service;
+
+    @BeforeEach
+    void setUp() {
+        recipeRepository = mock(RecipeRepository.class);
+        when(recipeRepository.saveAll(anyIterable())).thenAnswer(invocation -> {
+            List<Recipe> recipes = invocation.getArgument(0);
+            recipes.forEach(recipe -> pending.add(recipe.getRecipeName()));
+            return recipes;
+        });
+        // 이름이 "bad" 인 레시피는 INSERT 시 DB 오류 (컬럼 길이 초과 등)
+        doAnswer(invocation -> {
+            List<String> flushed = new ArrayList<>(pending);
+            pending.clear();
+            if (flushed.contains("bad")) {
+                throw new DataIntegrityViolationException("Data too long for column 'recipe_name'");
+            }
+            saved.addAll(flushed);
+            return null;
+        }).when(recipeRepository).flush();
+        when(recipeRepository.saveAndFlush(any(Recipe.class))).thenAnswer(invocation -> {
+            Recipe recipe = invocation.getArgument(0);
+            if (recipe.getRecipeName().equals("bad")) {
+                throw new DataIntegrityViolationException("Data too long for column 'recipe_name'");
+            }
+            saved.add(recipe.getRecipeName());
+            return recipe;
+        });
+
+        ImportCheckpointRepository checkpointRepository = mock(ImportCheckpointRepository.class);
+        when(checkpointRepository.findById(anyString()))
+                .thenAnswer(invocation -> Optional.ofNullable(checkpoints.get(invocation.<String>getArgument(0))));
+        when(checkpointRepository.findByIdForUpdate(anyString()))
+                .thenAnswer(invocation -> Optional.ofNullable(checkpoints.get(invocation.<String>getArgument(0))));
+        when(checkpointRepository.saveAndFlush(any(ImportCheckpoint.class))).thenAnswer(invocation -> {
+            ImportCheckpoint checkpoint = invocation.getArgument(0);
+            checkpoints.put(checkpoint.getImportId(), checkpoint);
+            return checkpoint;
+        });
+
+        // 재료명마다 고정 id
+        ingredientDictionary = mock(IngredientDictionary.class);
+        when(ingredientDictionary.resolveAll(anyCollection())).thenAnswer(invocation -> {
+            Map<String, Long> ids = new LinkedHashMap<>();
+            for (String name : invocation.<Collection<String>>getArgument(0)) {
+                ids.put(name, (long) name.hashCode());
+            }
+            return ids;
+        });
+
+        recipeMinHashIndex = mock(RecipeMinHashIndex.class);
+        transactionManager = mock(PlatformTransactionManager.class);
+        entityManager = mock(EntityManager.class);
+        service = new RecipeImportService(new ObjectMapper(), recipeRepository, mock(IngredientRepository.class),
+                checkpointRepository, ingredientDictionary, recipeMinHashIndex,
+                new TransactionTemplate(transactionManager), entityManager);
+        ReflectionTestUtils.setField(service, "chunkSize", 2);
+    }
+
+    private static String recipe(String name) {
+        return "{\"recipeName\":\"" + name + "\",\"serving\":2,"
+                + "\"ingredients\":[{\"ingredient\":\"계란\",\"quantity\":\"2개\"},{\"ingredient\":\"우유\",\"quantity\":\"200ml\"}],"
+                + "\"instructions\":[{\"instruction\":\"섞는다\"}]}";
+    }
+
+    private RecipeImportResultDTO importLines(String... lines) throws IOException {
+        byte[] body = String.join("\n", lines).getBytes(StandardCharsets.UTF_8);
+        return service.importRecipes(IMPORT_ID, new ByteArrayInputStream(body));
+    }
+
+    @Test
+    void importsInChunksAndCompletesCheckpoint() throws IOException {
+        RecipeImportResultDTO result = importLines(recipe("r1"), recipe("r2"), recipe("r3"), recipe("r4"), recipe("r5"));
+
+        assertThat(saved).containsExactly("r1", "r2", "r3", "r4", "r5");
+        verify(recipeRepository, times(3)).saveAll(anyIterable());
+        verify(recipeMinHashIndex, times(5)).update(any(), any());
+        assertThat(result.getImportedCount()).isEqualTo(5);
+        assertThat(result.getLastLine()).isEqualTo(5);
+        assertThat(result.isCompleted()).isTrue();
+        assertThat(checkpoints.get(IMPORT_ID).isCompleted()).isTrue();
+        // 커밋된 청크마다 영속성 컨텍스트를 비운다
+        verify(entityManager, times(3)).clear();
+    }
+
+    // 새 재료는 청크 트랜잭션 안에서 만들어서 청크와 함께 커밋/롤백된다
+    @Test
+    void resolvesIngredientsInsideChunkTransaction() throws IOException {
+        importLines(recipe("r1"), recipe("r2"));
+
+        InOrder order = inOrder(transactionManager, ingredientDictionary, recipeRepository, entityManager);
+        order.verify(transactionManager).getTransaction(any());
+        order.verify(ingredientDictionary).resolveAll(anyCollection());
+        order.verify(recipeRepository).flush();
+        order.verify(transactionManager).commit(any());
+        order.verify(entityManager).clear();
+    }
+
+    // 같은 importId 로 다시 보내면 커밋된 줄 다음부터 이어서 저장
+    @Test
+    void resumesAfterCommittedLine() throws IOException {
+        ImportCheckpoint checkpoint = new ImportCheckpoint(IMPORT_ID);
+        checkpoint.setLineNumber(3);
+        checkpoint.setImportedCount(3);
+        checkpoints.put(IMPORT_ID, checkpoint);
+
+        RecipeImportResultDTO result = importLines(recipe("r1"), recipe("r2"), recipe("r3"), recipe("r4"), recipe("r5"));
+
+        assertThat(saved).containsExactly("r4", "r5");
+        assertThat(result.getImportedCount()).isEqualTo(5);
+        assertThat(result.getLastLine()).isEqualTo(5);
+        assertThat(result.isCompleted()).isTrue();
+    }
+
+    @Test
+    void completedImportIsNotReplayed() throws IOException {
+        ImportCheckpoint checkpoint = new ImportCheckpoint(IMPORT_ID);
+        checkpoint.setLineNumber(2);
+        checkpoint.setImportedCount(2);
+        checkpoint.setCompleted(true);
+        checkpoints.put(IMPORT_ID, checkpoint);
+
+        RecipeImportResultDTO result = importLines(recipe("r1"), recipe("r2"));
+
+        assertThat(saved).isEmpty();
+        verify(recipeRepository, never()).saveAll(anyIterable());
+        assertThat(result.getImportedCount()).isEqualTo(2);
+    }
+
+    // 파싱할 수 없는 줄은 건너뛰고 실패 수/줄 번호만 남긴다
+    @Test
+    void skipsInvalidLinesAndReportsThem() throws IOException {
+        RecipeImportResultDTO result = importLines(
+                recipe("r1"),
+                "{not json",
+                "{\"recipeName\":\"r3\",\"ingredients\":[]}",
+                "{\"recipeName\":\"r4\",\"ingredients\":[{\"ingredient\":\" \",\"quantity\":\"1개\"}]}",
+                "",
+                recipe("r6"));
+
+        assertThat(saved).containsExactly("r1", "r6");
+        assertThat(result.getImportedCount()).isEqualTo(2);
+        assertThat(result.getFailedCount()).isEqualTo(3);
+        assertThat(result.getErrors()).hasSize(3);
+        assertThat(result.getErrors().get(0)).startsWith("line 2:");
+        assertThat(result.getErrors().get(1)).startsWith("line 3:");
+        assertThat(result.getErrors().get(2)).startsWith("line 4:");
+        assertThat(result.getLastLine()).isEqualTo(6);
+        assertThat(result.isCompleted()).isTrue();
+    }
+
+    // 청크가 DB 오류로 롤백되면 한 줄씩 다시 저장해서 문제 줄만 실패로 남기고 체크포인트는 끝까지 진행
+    @Test
+    void retriesFailedChunkLineByLine() throws IOException {
+        ReflectionTestUtils.setField(service, "chunkSize", 4);
+
+        RecipeImportResultDTO result = importLines(recipe("r1"), recipe("bad"), "{not json", recipe("r4"), recipe("r5"));
+
+        assertThat(saved).containsExactly("r1", "r4", "r5");
+        verify(recipeMinHashIndex, times(3)).update(any(), any());
+        assertThat(result.getImportedCount()).isEqualTo(3);
+        assertThat(result.getFailedCount()).isEqualTo(2);
+        assertThat(result.getErrors()).hasSize(2);
+        assertThat(result.getErrors().get(0)).startsWith("line 3:");
+        assertThat(result.getErrors().get(1)).startsWith("line 2:").contains("Data too long");
+        assertThat(result.getLastLine()).isEqualTo(5);
+        assertThat(result.isCompleted()).isTrue();
+        // 청크 1번 + 다시 저장한 줄마다 1번 (r1, bad, r4), 마지막 청크 1번
+        verify(ingredientDictionary, times(5)).resolveAll(anyCollection());
+    }
+}
@@ -0,0 +1,83 @@
+package com.ReciGuard.service;
+
+import com.ReciGuard.repository.RecipeIngredientRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class RecipeMinHashIndexTest {
+
+    private RecipeIngredientRepository recipeIngredientRepository;
+    private RecipeMinHashIndex index;
+
+    @BeforeEach
+    void setUp() {
+        recipeIngredientRepository = mock(RecipeIngredientRepository.class);
+        index = new RecipeMinHashIndex(recipeIngredientRepository);
+    }
+
+    private static List<Long> ingredients(long fromInclusive, long toInclusive, long... extra) {
+        return LongStream.concat(LongStream.rangeClosed(fromInclusive, toInclusive), LongStream.of(extra)).boxed().toList();
+    }
+
+    @Test
+    void findsRecipesWithSameIngredientSet() {
+        index.update(1L, ingredients(1, 10));
+        index.update(2L, ingredients(1, 10));
+        index.update(3L, ingredients(101, 110));
+
+        assertThat(index.findSimilarRecipeIds(1L, 0.5, 10)).containsExactly(2L);
+        assertThat(index.findSimilarRecipeIds(3L, 0.5, 10)).isEmpty();
+        assertThat(index.findSimilarRecipeIds(99L, 0.5, 10)).isEmpty();
+    }
+
+    // Jaccard: 2번 = 9/11, 3번 = 8/12
+    @Test
+    void ordersBySimilarityAndAppliesThresholdAndLimit() {
+        index.update(1L, ingredients(1, 10));
+        index.update(2L, ingredients(1, 9, 11));
+        index.update(3L, ingredients(1, 8, 12, 13));
+
+        assertThat(index.findSimilarRecipeIds(1L, 0.5, 10)).containsExactly(2L, 3L);
+        assertThat(index.findSimilarRecipeIds(1L, 0.5, 1)).containsExactly(2L);
+        assertThat(index.findSimilarRecipeIds(1L, 0.95, 10)).isEmpty();
+    }
+
+    // 재료가 바뀌면 이전 시그니처의 버킷에서 빠져야 함
+    @Test
+    void updateReplacesPreviousSignatureAndRemoveDropsRecipe() {
+        index.update(1L, ingredients(1, 10));
+        index.update(2L, ingredients(1, 10));
+
+        index.update(2L, ingredients(101, 110));
+        assertThat(index.findSimilarRecipeIds(1L, 0.5, 10)).isEmpty();
+
+        index.update(2L, ingredients(1, 10));
+        index.remove(2L);
+        assertThat(index.findSimilarRecipeIds(1L, 0.5, 10)).isEmpty();
+        assertThat(index.findSimilarRecipeIds(2L, 0.5, 10)).isEmpty();
+
+        index.update(3L, ingredients(1, 10));
+        index.update(3L, List.of());
+        assertThat(index.findSimilarRecipeIds(1L, 0.5, 10)).isEmpty();
+    }
+
+    @Test
+    void loadBuildsIndexFromStoredIngredients() {
+        when(recipeIngredientRepository.findAllRecipeIngredientPairs()).thenReturn(List.<Object[]>of(
+                new Object[]{1L, 5L}, new Object[]{1L, 6L}, new Object[]{1L, 7L},
+                new Object[]{2L, 5L}, new Object[]{2L, 6L}, new Object[]{2L, 7L},
+                new Object[]{3L, 8L}));
+
+        index.load();
+
+        assertThat(index.findSimilarRecipeIds(1L, 0.9, 10)).containsExactly(2L);
+        assertThat(index.findSimilarRecipeIds(3L, 0.1, 10)).isEmpty();
+    }
+}
@@ -0,0 +1,118 @@
+package com.ReciGuard.service;
+
+import com.ReciGuard.JWT.JWTUtil;
+import com.ReciGuard.dto.TokenPairDTO;
+import com.ReciGuard.entity.RefreshToken;
+import com.ReciGuard.entity.User;
+import com.ReciGuard.repository.RefreshTokenRepository;
+import com.ReciGuard.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class RefreshTokenServiceTest {
+
+    private static final String SECRET = "test-secret-key-for-refresh-token-service-0123456789";
+
+    // token_hash -> 토큰 (DB 대신 메모리에 보관)
+    private final Map<String, RefreshToken> tokens = new HashMap<>();
+    private JWTUtil jwtUtil;
+    private RefreshTokenService service;
+
+    @BeforeEach
+    void setUp() {
+        RefreshTokenRepository repository = mock(RefreshTokenRepository.class);
+        when(repository.save(any(RefreshToken.class))).thenAnswer(invocation -> {
+            RefreshToken token = invocation.getArgument(0);
+            tokens.put(token.getTokenHash(), token);
+            return token;
+        });
+        when(repository.findByIdForUpdate(anyString()))
+                .thenAnswer(invocation -> Optional.ofNullable(tokens.get(invocation.<String>getArgument(0))));
+        when(repository.findById(anyString()))
+                .thenAnswer(invocation -> Optional.ofNullable(tokens.get(invocation.<String>getArgument(0))));
+        when(repository.deleteByFamilyId(anyString())).thenAnswer(invocation -> {
+            String familyId = invocation.getArgument(0);
+            int before = tokens.size();
+            tokens.values().removeIf(token -> token.getFamilyId().equals(familyId));
+            return before - tokens.size();
+        });
+
+        UserRepository userRepository = mock(UserRepository.class);
+        when(userRepository.findById(1L)).thenReturn(Optional.of(
+                User.builder().userid(1L).username("cook").role("ADMIN").build()));
+
+        jwtUtil = new JWTUtil(SECRET, 100, 300);
+        service = new RefreshTokenService(repository, userRepository, mock(TokenRevocationService.class),
+                jwtUtil, 900_000L, 1_209_600_000L);
+    }
+
+    @Test
+    void refreshRotatesTokenAndMarksOldOneUsed() {
+        TokenPairDTO login = service.issueTokens("cook", 1L, "ROLE_ADMIN");
+
+        TokenPairDTO rotated = service.refresh(login.getRefreshToken());
+
+        assertThat(rotated.getRefreshToken()).isNotEqualTo(login.getRefreshToken());
+        assertThat(tokens).hasSize(2);
+        assertThat(tokens.values()).filteredOn(RefreshToken::isUsed).hasSize(1);
+        // 회전된 토큰은 같은 family 를 이어받음
+        assertThat(tokens.values().stream().map(RefreshToken::getFamilyId).distinct()).hasSize(1);
+    }
+
+    // 재발급 access 토큰에도 DB 의 실제 권한이 들어가야 함 (ROLE_USER 고정 X)
+    @Test
+    void refreshedAccessTokenCarriesStoredRole() {
+        TokenPairDTO login = service.issueTokens("cook", 1L, "ROLE_ADMIN");
+
+        TokenPairDTO rotated = service.refresh(login.getRefreshToken());
+
+        assertThat(jwtUtil.verify(rotated.getAccessToken()).role()).isEqualTo("ROLE_ADMIN");
+        assertThat(jwtUtil.verify(rotated.getAccessToken()).userId()).isEqualTo(1L);
+    }
+
+    // 이미 쓴 토큰이 다시 오면 탈취로 보고 family 전체 폐기 -> 정상 사용자가 받은 최신 토큰도 무효
+    @Test
+    void reusingRotatedTokenRevokesWholeFamily() {
+        TokenPairDTO login = service.issueTokens("cook", 1L, "ROLE_ADMIN");
+        TokenPairDTO rotated = service.refresh(login.getRefreshToken());
+
+        assertThatThrownBy(() -> service.refresh(login.getRefreshToken()))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThat(tokens).isEmpty();
+
+        assertThatThrownBy(() -> service.refresh(rotated.getRefreshToken()))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    // 다른 기기(다른 family) 로그인은 영향 없음
+    @Test
+    void reuseDoesNotRevokeOtherLoginFamilies() {
+        TokenPairDTO phone = service.issueTokens("cook", 1L, "ROLE_ADMIN");
+        TokenPairDTO laptop = service.issueTokens("cook", 1L, "ROLE_ADMIN");
+        service.refresh(phone.getRefreshToken());
+
+        assertThatThrownBy(() -> service.refresh(phone.getRefreshToken()))
+                .isInstanceOf(IllegalArgumentException.class);
+
+        assertThat(service.refresh(laptop.getRefreshToken()).getRefreshToken()).isNotBlank();
+    }
+
+    @Test
+    void unknownTokenIsRejected() {
+        assertThatThrownBy(() -> service.refresh("not-a-token"))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> service.refresh(" "))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
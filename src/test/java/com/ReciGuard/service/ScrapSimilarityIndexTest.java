@@ -0,0 +1,91 @@
+package com.ReciGuard.service;
+
+import com.ReciGuard.repository.UserScrapRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ScrapSimilarityIndexTest {
+
+    private UserScrapRepository userScrapRepository;
+    private ScrapSimilarityIndex index;
+
+    @BeforeEach
+    void setUp() {
+        userScrapRepository = mock(UserScrapRepository.class);
+        index = new ScrapSimilarityIndex(userScrapRepository);
+    }
+
+    // 10 번을 스크랩한 3명 중 2명이 20 번, 1명이 30 번을 함께 스크랩
+    private void scrapSample() {
+        index.onScrapped(1L, 10L);
+        index.onScrapped(1L, 20L);
+        index.onScrapped(2L, 10L);
+        index.onScrapped(2L, 20L);
+        index.onScrapped(3L, 10L);
+        index.onScrapped(3L, 30L);
+    }
+
+    @Test
+    void ranksCoScrappedRecipesByCosineSimilarity() {
+        scrapSample();
+
+        // cos(10, 20) = 2 / sqrt(3 * 2), cos(10, 30) = 1 / sqrt(3 * 1)
+        assertThat(index.findSimilarRecipeIds(10L, 10)).containsExactly(20L, 30L);
+        assertThat(index.findSimilarRecipeIds(10L, 1)).containsExactly(20L);
+        assertThat(index.findSimilarRecipeIds(99L, 10)).isEmpty();
+    }
+
+    // 캐시된 이웃 목록도 스크랩 해제 후에는 다시 계산되어야 함
+    @Test
+    void unscrapInvalidatesCachedNeighbors() {
+        scrapSample();
+        assertThat(index.findSimilarRecipeIds(10L, 10)).containsExactly(20L, 30L);
+        assertThat(index.findSimilarRecipeIds(30L, 10)).containsExactly(10L);
+
+        index.onUnscrapped(3L, 30L);
+
+        assertThat(index.findSimilarRecipeIds(10L, 10)).containsExactly(20L);
+        assertThat(index.findSimilarRecipeIds(30L, 10)).isEmpty();
+    }
+
+    // 같은 스크랩이 두 번 반영돼도 co-scrap 횟수는 한 번만 증가
+    @Test
+    void repeatedEventsAreIdempotent() {
+        index.onScrapped(1L, 10L);
+        index.onScrapped(1L, 20L);
+        index.onScrapped(1L, 20L);
+
+        index.onUnscrapped(1L, 20L);
+        index.onUnscrapped(1L, 20L);
+
+        assertThat(index.findSimilarRecipeIds(10L, 10)).isEmpty();
+        assertThat(index.findSimilarRecipeIds(20L, 10)).isEmpty();
+    }
+
+    @Test
+    void recommendsNeighborsTheUserHasNotScrapped() {
+        scrapSample();
+        index.onScrapped(4L, 10L);
+
+        assertThat(index.recommendForUser(4L, 10)).containsExactly(20L, 30L);
+        assertThat(index.recommendForUser(1L, 10)).containsExactly(30L);
+        assertThat(index.recommendForUser(99L, 10)).isEmpty();
+    }
+
+    @Test
+    void loadBuildsIndexFromStoredScraps() {
+        when(userScrapRepository.findAllScrapPairs()).thenReturn(List.<Object[]>of(
+                new Object[]{1L, 10L}, new Object[]{1L, 20L}, new Object[]{2L, 10L}, new Object[]{2L, 20L}));
+
+        index.load();
+
+        assertThat(index.findSimilarRecipeIds(10L, 10)).containsExactly(20L);
+        assertThat(index.recommendForUser(3L, 10)).isEmpty();
+    }
+}